@@ -37,25 +37,24 @@ public isolated client class Client {
     #
     # + message - The message to be published
     # + return -  `()` or else a `nats:Error` if an error occurred
-    isolated remote function publishMessage(AnydataMessage message) returns Error? {
-        byte[] messageContent;
-        anydata anydataContent = message.content;
-        if anydataContent is byte[] {
-            messageContent = anydataContent;
-        } else if anydataContent is xml {
-            messageContent = anydataContent.toString().toBytes();
-        } else if anydataContent is string {
-            messageContent = anydataContent.toBytes();
-        } else {
-            messageContent = anydataContent.toJsonString().toBytes();
-        }
-        string? replyToValue = message.replyTo;
-        if replyToValue is () {
-                return publish(self, { content: messageContent, subject: message.subject });
-        } else {
-            return publish(self, { content: messageContent, subject: message.subject, replyTo: replyToValue });
-        }
-    }
+    isolated remote function publishMessage(AnydataMessage message) returns Error? =
+    @java:Method {
+        'class: "io.ballerina.stdlib.nats.basic.client.Publish"
+    } external;
+
+    # Publishes a batch of messages. All the messages are written to the connection buffer and the buffer is flushed
+    # once, which is considerably cheaper than publishing the messages one by one.
+    # ```ballerina
+    # check natsClient->publishMessages([message1, message2]);
+    # ```
+    #
+    # + messages - The messages to be published
+    # + return -  `()` or else a `nats:Error` if an error occurred. The messages before the failed one are
+    #             already published
+    isolated remote function publishMessages(AnydataMessage[] messages) returns Error? =
+    @java:Method {
+        'class: "io.ballerina.stdlib.nats.basic.client.Publish"
+    } external;
 
     # Publishes data to a given subject and waits for a response.
     # ```ballerina
@@ -88,8 +87,3 @@ isolated function clientInit(Client clientObj, string|string[] url, *ConnectionC
 @java:Method {
     'class: "io.ballerina.stdlib.nats.basic.client.Init"
 } external;
-
-isolated function publish(Client clientObj, BytesMessage message) returns Error? =
-@java:Method {
-    'class: "io.ballerina.stdlib.nats.basic.client.Publish"
-} external;
@@ -30,6 +30,19 @@ public isolated client class JetStreamCaller {
         'class: "io.ballerina.stdlib.nats.jetstream.message.MessageUtils"
     } external;
 
+    # Acknowledges a JetStream message received from a Consumer and waits for the server to confirm the
+    # acknowledgement, so that the message is not redelivered once this returns.
+    # ```ballerina
+    # check jetStreamCaller->ackSync();
+    # ```
+    #
+    # + timeout - Maximum time in seconds to wait for the confirmation
+    # + return - () or else a `nats:Error` if the acknowledgement is not confirmed
+    isolated remote function ackSync(decimal timeout = 5) returns Error? =
+    @java:Method {
+        'class: "io.ballerina.stdlib.nats.jetstream.message.MessageUtils"
+    } external;
+
     # Acknowledges a JetStream message has been received but indicates 
     # that the message is not completely processed and should be sent again later.
     # ```ballerina
@@ -52,3 +65,16 @@ public isolated client class JetStreamCaller {
         'class: "io.ballerina.stdlib.nats.jetstream.message.MessageUtils"
     } external;
 }
+
+# Retrieves the metadata of a message consumed from a stream. The metadata is parsed only when retrieved, so the
+# messages whose metadata is not needed do not pay for it.
+# ```ballerina
+# nats:JetStreamMessageMetadata metadata = check nats:getMetadata(message);
+# ```
+#
+# + message - A message received by a JetStream service or retrieved by a `nats:JetStreamClient`
+# + return - The metadata or else a `nats:Error` if the message is not consumed from a stream
+public isolated function getMetadata(JetStreamMessage message) returns JetStreamMessageMetadata|Error =
+@java:Method {
+    'class: "io.ballerina.stdlib.nats.jetstream.message.MessageUtils"
+} external;
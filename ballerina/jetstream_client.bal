@@ -23,9 +23,9 @@ public isolated client class JetStreamClient {
     # Initializes the NATS JetStream client.
     # 
     # + natsClient - NATS client object to create the streaming client
-    # + streamConfig - Configurations required to add/initialize a stream
-    public isolated function init(Client natsClient) returns Error? {
-        return streamClientInit(self, natsClient);
+    # + config - The configurations of the JetStream client
+    public isolated function init(Client natsClient, *JetStreamClientConfiguration config) returns Error? {
+        return streamClientInit(self, natsClient, config);
     }
 
     # Publishes data to a given subject.
@@ -40,6 +40,34 @@ public isolated client class JetStreamClient {
         'class: "io.ballerina.stdlib.nats.jetstream.client.ClientUtils"
     } external;
 
+    # Publishes data to a given subject without waiting for the acknowledgement from the server. Only waits if
+    # the maximum number of messages waiting for an acknowledgement is reached. The messages which are not
+    # acknowledged by the server are reported by the `awaitPublishAcks` method.
+    # ```ballerina
+    # int publishId = check jetStreamClient->publishMessageAsync(message);
+    # ```
+    #
+    # + message - The JetStream message to send to
+    # + return - The identifier of the message, which is used to report a failure of the message
+    #            or else a `nats:Error` if an error is occurred
+    isolated remote function publishMessageAsync(JetStreamMessage message) returns int|Error =
+    @java:Method {
+        'class: "io.ballerina.stdlib.nats.jetstream.client.ClientUtils"
+    } external;
+
+    # Waits until all the messages published with `publishMessageAsync` are either acknowledged or failed.
+    # ```ballerina
+    # nats:PublishFailure[] failures = check jetStreamClient->awaitPublishAcks();
+    # ```
+    #
+    # + timeout - Maximum time in seconds to wait
+    # + return - The messages which were not acknowledged since the last call, which is empty if all the messages
+    #            were acknowledged or else a `nats:Error` if timed out
+    isolated remote function awaitPublishAcks(decimal timeout = 30) returns PublishFailure[]|Error =
+    @java:Method {
+        'class: "io.ballerina.stdlib.nats.jetstream.client.ClientUtils"
+    } external;
+
     # Retrieves a message synchronously from the given subject.
     # ```ballerina
     # nats:JetStreamMessage message = check jetStreamClient->consumeMessage("subjectName");
@@ -54,6 +82,54 @@ public isolated client class JetStreamClient {
         'class: "io.ballerina.stdlib.nats.jetstream.client.ClientUtils"
     } external;
 
+    # Retrieves a batch of messages synchronously from the given subject using a durable pull consumer.
+    # The consumer is created on the first call and reused by the subsequent calls with the same subject and
+    # durable name, so that polling in a loop continues from the last acknowledged message.
+    # ```ballerina
+    # nats:JetStreamMessage[] messages = check jetStreamClient->fetchMessages("subjectName", "durableName");
+    # ```
+    #
+    # + subject - The name of the subject
+    # + durable - The durable name of the pull consumer
+    # + batchSize - Maximum number of messages to retrieve
+    # + maxWait - Maximum time in seconds to wait for the batch to fill up. The messages received so far are
+    #             returned once elapsed
+    # + return - The retrieved `nats:JetStreamMessage` array, which is empty if no message is available
+    #            or else a `nats:Error` if an error is occurred
+    isolated remote function fetchMessages(string subject, string durable, int batchSize = 10,
+            decimal maxWait = 1) returns JetStreamMessage[]|Error =
+    @java:Method {
+        'class: "io.ballerina.stdlib.nats.jetstream.client.ClientUtils"
+    } external;
+
+    # Replays the messages of a stream in order. The messages are not acknowledged and the replay does not affect the
+    # other consumers of the stream. The returned stream ends once the last message of the stream is replayed.
+    # ```ballerina
+    # stream<nats:JetStreamMessage, nats:Error?> messages = check jetStreamClient->replay("streamName");
+    # ```
+    #
+    # + streamName - The name of the stream
+    # + config - The configurations of the replay
+    # + return - The stream of the replayed messages or else a `nats:Error` if an error is occurred
+    isolated remote function replay(string streamName, *ReplayConfig config)
+            returns stream<JetStreamMessage, Error?>|Error {
+        MessageReplayStream messageReplayStream = check new (self, streamName, config);
+        stream<JetStreamMessage, Error?> messages = new (messageReplayStream);
+        return messages;
+    }
+
+    # Closes the pull consumers created by `fetchMessages`, after sending their coalesced acknowledgements. The
+    # `nats:Client` of the JetStream client is not closed.
+    # ```ballerina
+    # check jetStreamClient->close();
+    # ```
+    #
+    # + return - `()` or else a `nats:Error` if an error is occurred
+    isolated remote function close() returns Error? =
+    @java:Method {
+        'class: "io.ballerina.stdlib.nats.jetstream.client.ClientUtils"
+    } external;
+
     # Acknowledges a JetStream messages received from a Consumer, indicating
     # the message should not be received again later.
     # ```ballerina
@@ -66,6 +142,20 @@ public isolated client class JetStreamClient {
         'class: "io.ballerina.stdlib.nats.jetstream.client.ClientUtils"
     } external;
 
+    # Acknowledges a JetStream message received from a Consumer and waits for the server to confirm the
+    # acknowledgement, so that the message is not redelivered once this returns.
+    # ```ballerina
+    # check jetStreamClient->ackSync(message);
+    # ```
+    #
+    # + message - The message to be acknowledged
+    # + timeout - Maximum time in seconds to wait for the confirmation
+    # + return - () or else a `nats:Error` if the acknowledgement is not confirmed
+    isolated remote function ackSync(JetStreamMessage message, decimal timeout = 5) returns Error? =
+    @java:Method {
+        'class: "io.ballerina.stdlib.nats.jetstream.client.ClientUtils"
+    } external;
+
     # Acknowledges a JetStream message has been received but indicates
     # that the message is not completely processed and should be sent again later.
     # ```ballerina
@@ -139,7 +229,44 @@ public isolated client class JetStreamClient {
     } external;
 }
 
-isolated function streamClientInit(JetStreamClient jetStreamClient, Client natsConnection) returns Error? =
+# Iterates the messages of a replay, which are prefetched by the native consumer.
+isolated class MessageReplayStream {
+
+    isolated function init(JetStreamClient jetStreamClient, string streamName, ReplayConfig config) returns Error? {
+        return replayInit(self, jetStreamClient, streamName, config);
+    }
+
+    public isolated function next() returns record {|JetStreamMessage value;|}|Error? {
+        JetStreamMessage|Error? message = replayNext(self);
+        if message is JetStreamMessage {
+            return {value: message};
+        }
+        return message;
+    }
+
+    public isolated function close() returns Error? {
+        return replayClose(self);
+    }
+}
+
+isolated function replayInit(MessageReplayStream messageReplayStream, JetStreamClient jetStreamClient,
+        string streamName, ReplayConfig config) returns Error? =
+@java:Method {
+    'class: "io.ballerina.stdlib.nats.jetstream.client.ClientUtils"
+} external;
+
+isolated function replayNext(MessageReplayStream messageReplayStream) returns JetStreamMessage|Error? =
+@java:Method {
+    'class: "io.ballerina.stdlib.nats.jetstream.client.ClientUtils"
+} external;
+
+isolated function replayClose(MessageReplayStream messageReplayStream) returns Error? =
+@java:Method {
+    'class: "io.ballerina.stdlib.nats.jetstream.client.ClientUtils"
+} external;
+
+isolated function streamClientInit(JetStreamClient jetStreamClient, Client natsConnection,
+        JetStreamClientConfiguration config) returns Error? =
 @java:Method {
     'class: "io.ballerina.stdlib.nats.jetstream.client.ClientUtils"
 } external;
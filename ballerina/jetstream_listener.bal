@@ -23,8 +23,9 @@ public isolated class JetStreamListener {
     # Initializes the NATS JetStream listener.
     # 
     # + natsClient - NATS client object to create the streaming client. 
-    public isolated function init(Client natsClient) returns Error? {
-        return streamListenerInit(self, natsClient);
+    # + config - The configurations of the listener
+    public isolated function init(Client natsClient, *JetStreamListenerConfiguration config) returns Error? {
+        return streamListenerInit(self, natsClient, config);
     }
 
     # Binds a service to the `nats:JetStreamListener`.
@@ -85,7 +86,8 @@ public isolated class JetStreamListener {
     } external;
 }
 
-isolated function streamListenerInit(JetStreamListener jetStreamLis, Client natsConnection) returns Error? =
+isolated function streamListenerInit(JetStreamListener jetStreamLis, Client natsConnection,
+        JetStreamListenerConfiguration config) returns Error? =
 @java:Method {
     'class: "io.ballerina.stdlib.nats.jetstream.listener.ListenerUtils"
 } external;
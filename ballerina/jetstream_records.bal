@@ -14,6 +14,62 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/time;
+
+# The configurations for the NATS JetStream client.
+#
+# + maxPendingAcks - Maximum number of messages published with `publishMessageAsync`, which are waiting for an
+#                    acknowledgement from the server. Once reached, publishing waits until an acknowledgement
+#                    is received
+# + compression - The compression of the published messages. Messages are not compressed if not provided.
+#                 Compressed messages are always decompressed when consumed
+# + ackCoalescing - The configurations to coalesce the acknowledgements of the messages retrieved with
+#                   `fetchMessages`. The buffered acknowledgements are sent together, while each of them still
+#                   acknowledges its own message, hence the messages can be acknowledged in any order. Each
+#                   message is acknowledged right away if not provided
+public type JetStreamClientConfiguration record {|
+    int maxPendingAcks = 4096;
+    CompressionConfig compression?;
+    AckCoalescingConfig ackCoalescing?;
+|};
+
+# The configurations to replay the messages of a stream. The messages are replayed from the first message of the
+# stream if neither a start sequence nor a start time is provided.
+#
+# + filterSubject - The subject of the messages to replay. All the messages of the stream are replayed if not provided
+# + startSequence - The sequence of the first message to replay
+# + startTime - The time from which the messages are replayed
+# + prefetch - The maximum number of messages buffered ahead of the iteration. The buffer is refilled in the
+#              background as the messages are taken from it
+# + maxWait - The maximum time in seconds to wait for the next message. The replay ends once elapsed
+public type ReplayConfig record {|
+    string filterSubject?;
+    int startSequence?;
+    time:Utc startTime?;
+    int prefetch = 256;
+    decimal maxWait = 1;
+|};
+
+# The configurations for the NATS JetStream listener.
+#
+# + gracefulStopTimeout - The maximum time in seconds a graceful stop waits for the pending messages to be processed
+#                         by the services. The stop returns a `nats:Error` with the number of abandoned messages once
+#                         it elapses. Waits without a limit if not provided
+public type JetStreamListenerConfiguration record {|
+    decimal gracefulStopTimeout?;
+|};
+
+# Represents a message published with `publishMessageAsync`, which was not acknowledged by the server.
+#
+# + publishId - The identifier returned when publishing the message
+# + subject - Subject of the message
+# + message - Reason for the failure
+public type PublishFailure record {|
+    int publishId;
+    string subject;
+    string message;
+|};
+
 # Determines the properties for a stream.
 #
 # + name - A name for the stream
@@ -73,10 +129,49 @@ public enum DiscardPolicy {
 # + subject - Name of the subject
 # + queueName - Name of the queue group
 # + autoAck - Acknowledges the message automatically
+# + batch - The configurations related to the batch delivery of messages to the `onMessages` remote method.
+#           The default configurations are used if not provided
+# + pull - The configurations of the pull consumer which fetches the messages of the service. Messages are pushed
+#          by the server if not provided
+# + ackCoalescing - The configurations to coalesce the acknowledgements of the service. Each message is acknowledged
+#                   on its own if not provided
 public type JetStreamServiceConfigData record {|
     string subject;
     string queueName?;
     boolean autoAck = true;
+    BatchConfig batch?;
+    PullConfig pull?;
+    AckCoalescingConfig ackCoalescing?;
+|};
+
+# The configurations to coalesce acknowledgements. The consumer of a service acknowledges all the messages up to the
+# acknowledged one, hence only the last of the buffered acknowledgements is sent to the server. Since a message is
+# acknowledged along with the ones delivered before it, the messages should be processed in order. Therefore,
+# coalescing cannot be used with a queue group or with more than one pull worker. The `JetStreamClient` sends each of
+# the buffered acknowledgements instead. A negative acknowledgement sends the buffered acknowledgements first.
+#
+# + maxAcks - The maximum number of acknowledgements buffered before they are sent
+# + maxDelay - The maximum time in seconds an acknowledgement is buffered
+public type AckCoalescingConfig record {|
+    int maxAcks = 100;
+    decimal maxDelay = 0.1;
+|};
+
+# The configurations of a durable pull consumer. Each worker fetches a batch of messages at a time and processes them
+# one by one, hence the messages are processed by as many workers in parallel.
+#
+# + durable - The durable name of the consumer, which is created if it does not exist
+# + batchSize - The maximum number of messages fetched by a worker at a time
+# + maxWait - The maximum time in seconds a fetch waits for the messages
+# + maxAckPending - The maximum number of messages delivered by the consumer which are not acknowledged yet. The
+#                   server delivers no more messages once reached
+# + concurrency - The number of workers, which should be between 1 and 64
+public type PullConfig record {|
+    string durable;
+    int batchSize = 10;
+    decimal maxWait = 1;
+    int maxAckPending = 1000;
+    int concurrency = 1;
 |};
 
 # A message consumed from a stream.
@@ -87,3 +182,22 @@ public type JetStreamMessage record {|
    string subject;
    byte[] content;
 |};
+
+# The metadata of a message consumed from a stream, which is retrieved with `nats:getMetadata`.
+#
+# + streamName - Name of the stream
+# + consumerName - Name of the consumer which delivered the message
+# + streamSequence - Sequence of the message in the stream
+# + consumerSequence - Sequence of the delivery of the message by the consumer
+# + deliveredCount - Number of times the message has been delivered, which is greater than 1 if it is redelivered
+# + pendingCount - Number of messages in the stream after this message which are yet to be delivered by the consumer
+# + timestamp - The time at which the message was stored in the stream
+public type JetStreamMessageMetadata record {|
+    string streamName;
+    string consumerName;
+    int streamSequence;
+    int consumerSequence;
+    int deliveredCount;
+    int pendingCount;
+    time:Utc timestamp;
+|};
@@ -25,9 +25,18 @@ public isolated class Listener {
     # nats:Listener natsListener = check new(nats:DEFAULT_URL);
     # ```
     #
-    # + url - The NATS broker URL. For a clustered use case, provide the URLs as a string array
+    # A listener can also share the connection of an existing `nats:Client`, which avoids opening another
+    # connection to the broker. The connection configurations are then taken from the client, except for the
+    # `contentType` and `validation`. Stopping the listener leaves the connection open for the client, which
+    # should not be closed before the listener is stopped.
+    # ```ballerina
+    # nats:Listener natsListener = check new(natsClient);
+    # ```
+    #
+    # + url - The NATS broker URL. For a clustered use case, provide the URLs as a string array. Or else the
+    # client whose connection is shared
     # + config - The connection configurations
-    public isolated function init(string|string[] url, *ConnectionConfiguration config) returns Error? {
+    public isolated function init(string|string[]|Client url, *ConnectionConfiguration config) returns Error? {
         return consumerInit(self, url, config);
     }
 
@@ -94,7 +103,8 @@ isolated function basicStart(Listener lis) =
     'class: "io.ballerina.stdlib.nats.basic.consumer.Start"
 } external;
 
-isolated function consumerInit(Listener lis, string|string[] url, *ConnectionConfiguration config) returns Error? =
+isolated function consumerInit(Listener lis, string|string[]|Client url, *ConnectionConfiguration config)
+        returns Error? =
 @java:Method {
     'class: "io.ballerina.stdlib.nats.basic.consumer.ListenerUtils"
 } external;
@@ -25,8 +25,25 @@ import ballerina/crypto;
 # + inboxPrefix - The connection's inbox prefix, which all inboxes will start with
 # + noEcho - Turns off echoing. This prevents the server from echoing messages back to the connection if it
 #            has subscriptions on the subject being published to
+# + sharedRequestInbox - Uses a single wildcard inbox subscription per connection for all the requests and matches
+#                        the replies using a per-request token. Otherwise, each request subscribes to and
+#                        unsubscribes from its own inbox
 # + secureSocket - The configurations related to SSL/TLS
 # + validation - Configuration related to constraint validation check
+# + contentType - The encoding of the structured message content published by a client. Received messages and replies
+#                 without a `Content-Type` header are decoded with it as well. Services reply in the content type of
+#                 the request. Byte array, `string` and `xml` content is always sent as it is
+# + compression - The compression of the messages published by a client. Messages are not compressed if not
+#                 provided. Compressed messages received by a client or a listener are always decompressed
+# + connectionPoolSize - The number of connections opened by a client. The publishes and the requests of the client
+#                        are spread over the connections, so that they are written in parallel. Subscriptions, JetStream
+#                        and the listener use a single connection
+# + connectionRouting - How the publishes and the requests are routed to the connections of a client
+# + performance - The configurations related to tuning the throughput and the latency of the connection. The
+#                 defaults of the NATS client library are used if not provided
+# + gracefulStopTimeout - The maximum time in seconds a graceful stop of a listener waits for the pending messages to
+#                         be dispatched and for the services to process them. The stop returns a `nats:Error` with
+#                         the number of abandoned messages once it elapses. Waits without a limit if not provided
 public type ConnectionConfiguration record {|
     string connectionName = "ballerina-nats";
     RetryConfig retryConfig?;
@@ -34,10 +51,51 @@ public type ConnectionConfiguration record {|
     Credentials|Tokens auth?;
     string inboxPrefix = "_INBOX.";
     boolean noEcho = false;
+    boolean sharedRequestInbox = false;
     SecureSocket secureSocket?;
     boolean validation = true;
+    ContentType contentType = JSON;
+    CompressionConfig compression?;
+    int connectionPoolSize = 1;
+    ConnectionRouting connectionRouting = SUBJECT_HASH;
+    PerformanceConfig performance?;
+    decimal gracefulStopTimeout?;
 |};
 
+# Represents how the publishes are routed to the connections of a client.
+# `SUBJECT_HASH` routes all the messages of a subject to the same connection, hence they are delivered in the order
+# they were published. `ROUND_ROBIN` spreads the messages evenly over the connections, without any ordering.
+public enum ConnectionRouting {
+    SUBJECT_HASH,
+    ROUND_ROBIN
+}
+
+# Represents the encodings of the structured message content. Content encoded as `CBOR` or `MSGPACK` carries the
+# content type in its `Content-Type` header, which decides how it is decoded by the receiver.
+public enum ContentType {
+    JSON = "application/json",
+    CBOR = "application/cbor",
+    MSGPACK = "application/msgpack"
+}
+
+# Configurations related to compressing the message content.
+#
+# + algorithm - The compression algorithm
+# + threshold - The minimum size (in bytes) of the content to be compressed. Content which does not shrink when
+#               compressed is sent as it is
+public type CompressionConfig record {|
+    Compression algorithm = GZIP;
+    int threshold = 1024;
+|};
+
+# Represents the compression algorithms. The algorithm of a compressed message is carried in its `Content-Encoding`
+# header. `LZ4` compresses and decompresses considerably faster than `GZIP` and `DEFLATE`, at a lower ratio.
+public enum Compression {
+    GZIP = "gzip",
+    DEFLATE = "deflate",
+    LZ4 = "lz4"
+}
+
 # Configurations related to token based authentication.
 #
 # + token - The token for token-based authentication
@@ -109,6 +167,53 @@ public type RetryConfig record {|
     decimal connectionTimeout = 2;
 |};
 
+# Configurations related to tuning the throughput and the latency of the connection. The defaults are the defaults
+# of the NATS client library. See `LOW_LATENCY` and `HIGH_THROUGHPUT` for the presets.
+#
+# + bufferSize - The size (in bytes) of the buffers of the socket reader and writer. Messages published back to back
+#                are written to the socket together up to this size
+# + maxMessagesInOutgoingQueue - The maximum number of messages waiting in the outgoing queue of the connection
+# + discardMessagesWhenOutgoingQueueFull - Fails the publishes with an error when the outgoing queue is full rather
+#                                          than waiting for it to drain
+# + reconnectBufferSize - The size (in bytes) of the buffer of the messages published while reconnecting. Use 0 to
+#                         fail the publishes while reconnecting and -1 for an unbounded buffer
+# + socketWriteTimeout - The time (in seconds) to wait for a write to the socket, after which the connection is
+#                        considered broken and reconnected
+# + requestCleanupInterval - The interval (in seconds) between removing the requests which timed out
+# + flushOnRequest - Flushes the outgoing buffer as soon as a request is published. Disabling it batches the requests
+#                    with the rest of the outgoing messages at the cost of latency
+# + virtualThreadExecutor - Runs the reader, the writer and the callbacks of the connection on virtual threads rather
+#                           than on platform threads
+public type PerformanceConfig record {|
+    int bufferSize = 65536;
+    int maxMessagesInOutgoingQueue = 5000;
+    boolean discardMessagesWhenOutgoingQueueFull = false;
+    int reconnectBufferSize = 8388608;
+    decimal socketWriteTimeout = 60;
+    decimal requestCleanupInterval = 5;
+    boolean flushOnRequest = true;
+    boolean virtualThreadExecutor = false;
+|};
+
+# Tunes the connection for low latency. Publishes fail fast instead of queueing up behind a slow socket, broken
+# connections are detected within seconds and the timed out requests are removed promptly.
+public final readonly & PerformanceConfig LOW_LATENCY = {
+    bufferSize: 16384,
+    maxMessagesInOutgoingQueue: 1000,
+    discardMessagesWhenOutgoingQueueFull: true,
+    socketWriteTimeout: 5,
+    requestCleanupInterval: 1
+};
+
+# Tunes the connection for high throughput. Large buffers let many messages be written to the socket at once and
+# the outgoing queue absorbs bursts, at the cost of memory and latency.
+public final readonly & PerformanceConfig HIGH_THROUGHPUT = {
+    bufferSize: 1048576,
+    maxMessagesInOutgoingQueue: 100000,
+    reconnectBufferSize: 67108864,
+    flushOnRequest: false
+};
+
 # Represents the anydata message, which a NATS server sends to its subscribed services.
 #
 # + content - The message content, which can of type anydata
@@ -134,10 +239,72 @@ public type BytesMessage record {|
 # + queueName - Name of the queue group
 # + pendingLimits - Parameters to set limits on the maximum number of pending messages
 #                   or maximum size of pending messages
+# + maxConcurrency - Maximum number of messages processed by the service at a time. Once reached, new messages wait
+#                    in the pending queue of the subscription, which is bounded by the `pendingLimits`.
+#                    Setting a value less than or equal to 0 will disable this check
+# + dispatchMode - How the messages are dispatched to the remote methods of the service
+# + ordering - The configurations related to deriving the ordering key when the `dispatchMode` is `KEY_ORDERED`.
+#              Messages are ordered by their subject if not provided
+# + batch - The configurations related to the batch delivery of messages to the `onMessages` remote method.
+#           The default configurations are used if not provided
+# + contentType - The encoding of the received messages without a `Content-Type` header and of the replies to them.
+#                 The `contentType` of the listener is used if not provided
 public type ServiceConfigData record {|
     string subject;
     string queueName?;
     PendingLimits pendingLimits?;
+    int maxConcurrency?;
+    DispatchMode dispatchMode = CONCURRENT;
+    OrderingConfig ordering?;
+    BatchConfig batch?;
+    ContentType contentType?;
+|};
+
+# Represents how the messages are dispatched to the remote methods of a service.
+# `CONCURRENT` dispatches each message as soon as it is received, hence messages may be processed in any order.
+# `KEY_ORDERED` processes the messages with the same ordering key one at a time in the order they were received,
+# while the messages with different keys are processed in parallel. Messages of different keys are processed in
+# parallel only if the service and the remote method are `isolated`.
+# `INLINE` processes each message on the thread which receives the messages of the subscription, one at a time in the
+# order they were received. This saves the hand-off of each message to another thread, which suits short handlers
+# that do not block. The subscription takes in no other message while a message is processed.
+public enum DispatchMode {
+    CONCURRENT,
+    KEY_ORDERED,
+    INLINE
+}
+
+# Represents the part of a message which is used as the ordering key.
+public enum OrderingKeySource {
+    SUBJECT,
+    SUBJECT_TOKEN,
+    HEADER
+}
+
+# The configurations related to the key-ordered dispatch of messages.
+#
+# + keySource - The part of the message which is used as the ordering key
+# + subjectToken - Zero-based index of the subject token used as the key when the `keySource` is `SUBJECT_TOKEN`.
+#                  The whole subject is used if the subject has fewer tokens
+# + header - Name of the header used as the key when the `keySource` is `HEADER`. Messages without the header
+#            are ordered by their subject
+# + partitions - Number of serial executors that the keys are spread over. Messages of different keys, which are
+#                assigned to the same partition are also processed one at a time
+public type OrderingConfig record {|
+    OrderingKeySource keySource = SUBJECT;
+    int subjectToken = 0;
+    string header?;
+    int partitions = 16;
+|};
+
+# The configurations related to the batch delivery of messages to the `onMessages` remote method.
+#
+# + maxBatchSize - Maximum number of messages delivered in a single batch
+# + maxLinger - Maximum time in seconds to wait for a batch to fill up. Once elapsed, the messages received so far
+#               are delivered as a batch
+public type BatchConfig record {|
+    int maxBatchSize = 100;
+    decimal maxLinger = 0.1;
 |};
 
 # The configurations to set limits on the maximum number of messages or maximum size of messages this consumer will
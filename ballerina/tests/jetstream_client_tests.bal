@@ -21,6 +21,9 @@ import ballerina/test;
 isolated string receivedAsyncMessage = "";
 isolated string receivedNakMessage = "";
 isolated string receivedInProgressMessage = "";
+isolated int pulledMessageCount = 0;
+isolated int coalescedAckCount = 0;
+isolated int receivedStreamSequence = 0;
 
 isolated function setReceivedAsyncMessage(string message) {
     lock {
@@ -58,6 +61,42 @@ isolated function getReceivedInProgressMessage() returns string {
     }
 }
 
+isolated function incrementPulledMessageCount() {
+    lock {
+        pulledMessageCount += 1;
+    }
+}
+
+isolated function getPulledMessageCount() returns int {
+    lock {
+        return pulledMessageCount;
+    }
+}
+
+isolated function incrementCoalescedAckCount() {
+    lock {
+        coalescedAckCount += 1;
+    }
+}
+
+isolated function getCoalescedAckCount() returns int {
+    lock {
+        return coalescedAckCount;
+    }
+}
+
+isolated function setReceivedStreamSequence(int sequence) {
+    lock {
+        receivedStreamSequence = sequence;
+    }
+}
+
+isolated function getReceivedStreamSequence() returns int {
+    lock {
+        return receivedStreamSequence;
+    }
+}
+
 @test:Config {
     dependsOn: [testJetStreamSyncConsumer, testJetStreamClientManagement],
     groups: ["nats-js"]
@@ -434,6 +473,367 @@ public function testJetStreamSyncConsumer4() returns error? {
     }
 }
 
+@test:Config {
+    groups: ["nats-js"]
+}
+public function testJetStreamFetchMessages() returns error? {
+    string SUBJECT_NAME = "js.fetch";
+    Client? natsClient = jsClient;
+    if natsClient is Client {
+        StreamConfiguration config = { name: "jsfetch",
+                                       subjects: [SUBJECT_NAME],
+                                       storageType:  MEMORY};
+        JetStreamClient jetStreamClient = check new(natsClient);
+        _ = check jetStreamClient->addStream(config);
+        foreach int i in 0 ..< 3 {
+            check jetStreamClient->publishMessage({subject: SUBJECT_NAME, content: i.toString().toBytes()});
+        }
+        JetStreamMessage[] messages = check jetStreamClient->fetchMessages(SUBJECT_NAME, "fetch-durable", 2, 0.5);
+        test:assertEquals(messages.length(), 2, msg = "Batch size mismatch.");
+        test:assertEquals(check string:fromBytes(messages[0].content), "0", msg = "Message received does not match.");
+        test:assertEquals(check string:fromBytes(messages[1].content), "1", msg = "Message received does not match.");
+        foreach JetStreamMessage message in messages {
+            jetStreamClient->ack(message);
+        }
+        // The durable consumer continues from the last acknowledged message
+        messages = check jetStreamClient->fetchMessages(SUBJECT_NAME, "fetch-durable", 2, 0.5);
+        test:assertEquals(messages.length(), 1, msg = "Batch size mismatch.");
+        test:assertEquals(check string:fromBytes(messages[0].content), "2", msg = "Message received does not match.");
+        jetStreamClient->ack(messages[0]);
+    } else {
+        test:assertFail("NATS connection creation failed");
+    }
+}
+
+@test:Config {
+    dependsOn: [testJetStreamSyncConsumer, testJetStreamClientManagement],
+    groups: ["nats-js"]
+}
+public function testJetStreamPullService() returns error? {
+    string SUBJECT_NAME = "js.pull1";
+    Client? natsClient = jsClient;
+    if natsClient is Client {
+        StreamConfiguration config = { name: "jspull1",
+                                       subjects: [SUBJECT_NAME],
+                                       storageType:  MEMORY};
+        JetStreamClient jetStreamClient = check new(natsClient);
+        _ = check jetStreamClient->addStream(config);
+        JetStreamListener jetStreamLis = check new JetStreamListener(natsClient);
+        check jetStreamLis.attach(onPullService);
+        check jetStreamLis.'start();
+        foreach int i in 0 ..< 20 {
+            check jetStreamClient->publishMessage({subject: SUBJECT_NAME, content: i.toString().toBytes()});
+        }
+        int timeoutInSeconds = 120;
+        // Test fails in 2 minutes if it is failed to process the messages
+        while timeoutInSeconds > 0 && getPulledMessageCount() < 20 {
+            runtime:sleep(1);
+            timeoutInSeconds = timeoutInSeconds - 1;
+        }
+        check jetStreamLis.detach(onPullService);
+        test:assertEquals(getPulledMessageCount(), 20, msg = "Pulled messages are not processed.");
+    } else {
+        test:assertFail("NATS connection creation failed");
+    }
+}
+
+@test:Config {
+    dependsOn: [testJetStreamSyncConsumer, testJetStreamClientManagement],
+    groups: ["nats-js"]
+}
+public function testJetStreamAckCoalescing() returns error? {
+    string SUBJECT_NAME = "js.coalesce";
+    Client? natsClient = jsClient;
+    if natsClient is Client {
+        StreamConfiguration config = { name: "jscoalesce",
+                                       subjects: [SUBJECT_NAME],
+                                       storageType:  MEMORY};
+        JetStreamClient jetStreamClient = check new(natsClient);
+        _ = check jetStreamClient->addStream(config);
+        JetStreamListener jetStreamLis = check new JetStreamListener(natsClient);
+        check jetStreamLis.attach(coalescedAckService);
+        check jetStreamLis.'start();
+        foreach int i in 0 ..< 25 {
+            check jetStreamClient->publishMessage({subject: SUBJECT_NAME, content: i.toString().toBytes()});
+        }
+        int timeoutInSeconds = 120;
+        // Test fails in 2 minutes if it is failed to process the messages
+        while timeoutInSeconds > 0 && getCoalescedAckCount() < 25 {
+            runtime:sleep(1);
+            timeoutInSeconds = timeoutInSeconds - 1;
+        }
+        check jetStreamLis.detach(coalescedAckService);
+        test:assertEquals(getCoalescedAckCount(), 25, msg = "Coalesced messages are not processed.");
+
+        error? result = jetStreamLis.attach(coalescedQueueService);
+        if result is error {
+            test:assertEquals(result.message(), "Acknowledgements can be coalesced only if the messages are " +
+                "processed in order, which is not the case with a queue group or with concurrent pull workers.",
+                msg = "Error message mismatch.");
+        } else {
+            test:assertFail("Expected error in coalescing the acknowledgements of a queue group.");
+        }
+    } else {
+        test:assertFail("NATS connection creation failed");
+    }
+}
+
+@test:Config {
+    groups: ["nats-js"]
+}
+public function testJetStreamClientAckCoalescing() returns error? {
+    string SUBJECT_NAME = "js.coalesce.fetch";
+    Client? natsClient = jsClient;
+    if natsClient is Client {
+        StreamConfiguration config = { name: "jscoalescefetch",
+                                       subjects: [SUBJECT_NAME],
+                                       storageType:  MEMORY};
+        JetStreamClient jetStreamClient = check new(natsClient, ackCoalescing = {maxAcks: 10, maxDelay: 0.2});
+        _ = check jetStreamClient->addStream(config);
+        foreach int i in 0 ..< 5 {
+            check jetStreamClient->publishMessage({subject: SUBJECT_NAME, content: i.toString().toBytes()});
+        }
+        JetStreamMessage[] messages = check jetStreamClient->fetchMessages(SUBJECT_NAME, "coalesce-durable", 5, 0.5);
+        test:assertEquals(messages.length(), 5, msg = "Batch size mismatch.");
+        foreach int i in 0 ..< 4 {
+            jetStreamClient->ack(messages[i]);
+        }
+        // The buffered acknowledgements are sent before the negative acknowledgement
+        jetStreamClient->nak(messages[4]);
+        messages = check jetStreamClient->fetchMessages(SUBJECT_NAME, "coalesce-durable", 5, 0.5);
+        test:assertEquals(messages.length(), 1, msg = "Acknowledged messages are redelivered.");
+        test:assertEquals(check string:fromBytes(messages[0].content), "4", msg = "Message received does not match.");
+        check jetStreamClient->ackSync(messages[0]);
+        check jetStreamClient->close();
+    } else {
+        test:assertFail("NATS connection creation failed");
+    }
+}
+
+@test:Config {
+    groups: ["nats-js"]
+}
+public function testJetStreamClientAckCoalescingOutOfOrder() returns error? {
+    string SUBJECT_NAME = "js.coalesce.order";
+    Client? natsClient = jsClient;
+    if natsClient is Client {
+        StreamConfiguration config = { name: "jscoalesceorder",
+                                       subjects: [SUBJECT_NAME],
+                                       storageType:  MEMORY};
+        JetStreamClient jetStreamClient = check new(natsClient, ackCoalescing = {maxAcks: 10, maxDelay: 5});
+        _ = check jetStreamClient->addStream(config);
+        foreach int i in 0 ..< 3 {
+            check jetStreamClient->publishMessage({subject: SUBJECT_NAME, content: i.toString().toBytes()});
+        }
+        JetStreamMessage[] messages = check jetStreamClient->fetchMessages(SUBJECT_NAME, "order-durable", 3, 0.5);
+        test:assertEquals(messages.length(), 3, msg = "Batch size mismatch.");
+        // The buffered acknowledgement of the last message does not acknowledge the ones before it
+        jetStreamClient->ack(messages[2]);
+        jetStreamClient->nak(messages[1]);
+        jetStreamClient->ack(messages[0]);
+        messages = check jetStreamClient->fetchMessages(SUBJECT_NAME, "order-durable", 3, 0.5);
+        test:assertEquals(messages.length(), 1, msg = "Negatively acknowledged message is not redelivered.");
+        test:assertEquals(check string:fromBytes(messages[0].content), "1", msg = "Message received does not match.");
+        jetStreamClient->ack(messages[0]);
+        // Closing the client sends the buffered acknowledgements
+        check jetStreamClient->close();
+    } else {
+        test:assertFail("NATS connection creation failed");
+    }
+}
+
+@test:Config {
+    groups: ["nats-js"]
+}
+public function testJetStreamAckSync() returns error? {
+    string SUBJECT_NAME = "js.acksync";
+    Client? natsClient = jsClient;
+    if natsClient is Client {
+        StreamConfiguration config = { name: "jsacksync",
+                                       subjects: [SUBJECT_NAME],
+                                       storageType:  MEMORY};
+        JetStreamClient jetStreamClient = check new(natsClient);
+        _ = check jetStreamClient->addStream(config);
+        check jetStreamClient->publishMessage({subject: SUBJECT_NAME, content: "Hello".toBytes()});
+        JetStreamMessage[] messages = check jetStreamClient->fetchMessages(SUBJECT_NAME, "acksync-durable", 1, 0.5);
+        test:assertEquals(messages.length(), 1, msg = "Batch size mismatch.");
+        check jetStreamClient->ackSync(messages[0]);
+        // The message is not redelivered once the acknowledgement is confirmed
+        messages = check jetStreamClient->fetchMessages(SUBJECT_NAME, "acksync-durable", 1, 0.5);
+        test:assertEquals(messages.length(), 0, msg = "Acknowledged message is redelivered.");
+    } else {
+        test:assertFail("NATS connection creation failed");
+    }
+}
+
+@test:Config {
+    groups: ["nats-js"]
+}
+public function testJetStreamReplay() returns error? {
+    string SUBJECT_NAME = "js.replay";
+    Client? natsClient = jsClient;
+    if natsClient is Client {
+        StreamConfiguration config = { name: "jsreplay",
+                                       subjects: [SUBJECT_NAME],
+                                       storageType:  MEMORY};
+        JetStreamClient jetStreamClient = check new(natsClient);
+        _ = check jetStreamClient->addStream(config);
+        foreach int i in 0 ..< 30 {
+            check jetStreamClient->publishMessage({subject: SUBJECT_NAME, content: i.toString().toBytes()});
+        }
+        // A prefetch smaller than the replay makes the buffer refill several times
+        stream<JetStreamMessage, Error?> messages = check jetStreamClient->replay("jsreplay", startSequence = 11,
+            prefetch = 4);
+        string[] contents = [];
+        record {|JetStreamMessage value;|}? next = check messages.next();
+        while next is record {|JetStreamMessage value;|} {
+            contents.push(check string:fromBytes(next.value.content));
+            next = check messages.next();
+        }
+        check messages.close();
+        test:assertEquals(contents.length(), 20, msg = "Replayed message count mismatch.");
+        test:assertEquals(contents[0], "10", msg = "Replay does not start from the start sequence.");
+        test:assertEquals(contents[19], "29", msg = "Message order mismatch.");
+    } else {
+        test:assertFail("NATS connection creation failed");
+    }
+}
+
+@test:Config {
+    groups: ["nats-js"]
+}
+public function testJetStreamMessageMetadata() returns error? {
+    string SUBJECT_NAME = "js.metadata";
+    Client? natsClient = jsClient;
+    if natsClient is Client {
+        StreamConfiguration config = { name: "jsmetadata",
+                                       subjects: [SUBJECT_NAME],
+                                       storageType:  MEMORY};
+        JetStreamClient jetStreamClient = check new(natsClient);
+        _ = check jetStreamClient->addStream(config);
+        foreach int i in 0 ..< 3 {
+            check jetStreamClient->publishMessage({subject: SUBJECT_NAME, content: i.toString().toBytes()});
+        }
+        JetStreamMessage[] messages = check jetStreamClient->fetchMessages(SUBJECT_NAME, "metadata-durable", 1, 0.5);
+        JetStreamMessageMetadata metadata = check getMetadata(messages[0]);
+        test:assertEquals(metadata.streamName, "jsmetadata", msg = "Stream name mismatch.");
+        test:assertEquals(metadata.consumerName, "metadata-durable", msg = "Consumer name mismatch.");
+        test:assertEquals(metadata.streamSequence, 1, msg = "Stream sequence mismatch.");
+        test:assertEquals(metadata.deliveredCount, 1, msg = "Delivered count mismatch.");
+        test:assertEquals(metadata.pendingCount, 2, msg = "Pending count mismatch.");
+        jetStreamClient->nak(messages[0]);
+        messages = check jetStreamClient->fetchMessages(SUBJECT_NAME, "metadata-durable", 1, 0.5);
+        metadata = check getMetadata(messages[0]);
+        test:assertEquals(metadata.streamSequence, 1, msg = "Redelivered message mismatch.");
+        test:assertEquals(metadata.deliveredCount, 2, msg = "Redelivery is not counted.");
+        jetStreamClient->ack(messages[0]);
+
+        JetStreamMessageMetadata|Error result = getMetadata({subject: SUBJECT_NAME, content: "Hello".toBytes()});
+        if result is Error {
+            test:assertEquals(result.message(), "The message is not consumed from a JetStream consumer.",
+                msg = "Error message mismatch.");
+        } else {
+            test:assertFail("Expected error in retrieving the metadata of a message which is not consumed.");
+        }
+    } else {
+        test:assertFail("NATS connection creation failed");
+    }
+}
+
+@test:Config {
+    dependsOn: [testJetStreamSyncConsumer, testJetStreamClientManagement],
+    groups: ["nats-js"]
+}
+public function testJetStreamServiceMessageMetadata() returns error? {
+    string SUBJECT_NAME = "js.metadata.service";
+    Client? natsClient = jsClient;
+    if natsClient is Client {
+        StreamConfiguration config = { name: "jsmetadataservice",
+                                       subjects: [SUBJECT_NAME],
+                                       storageType:  MEMORY};
+        JetStreamClient jetStreamClient = check new(natsClient);
+        _ = check jetStreamClient->addStream(config);
+        JetStreamListener jetStreamLis = check new JetStreamListener(natsClient);
+        check jetStreamLis.attach(metadataService);
+        check jetStreamLis.'start();
+        foreach int i in 0 ..< 2 {
+            check jetStreamClient->publishMessage({subject: SUBJECT_NAME, content: i.toString().toBytes()});
+        }
+        int timeoutInSeconds = 120;
+        // Test fails in 2 minutes if it is failed to receive the message
+        while timeoutInSeconds > 0 && getReceivedStreamSequence() < 2 {
+            runtime:sleep(1);
+            timeoutInSeconds = timeoutInSeconds - 1;
+        }
+        check jetStreamLis.detach(metadataService);
+        test:assertEquals(getReceivedStreamSequence(), 2, msg = "Stream sequence mismatch.");
+    } else {
+        test:assertFail("NATS connection creation failed");
+    }
+}
+
+@test:Config {
+    groups: ["nats-js"]
+}
+public function testJetStreamAsyncPublish() returns error? {
+    string SUBJECT_NAME = "js.async";
+    Client? natsClient = jsClient;
+    if natsClient is Client {
+        StreamConfiguration config = { name: "jsasync",
+                                       subjects: [SUBJECT_NAME],
+                                       storageType:  MEMORY};
+        JetStreamClient jetStreamClient = check new(natsClient, maxPendingAcks = 8);
+        _ = check jetStreamClient->addStream(config);
+        foreach int i in 0 ..< 50 {
+            _ = check jetStreamClient->publishMessageAsync({subject: SUBJECT_NAME, content: i.toString().toBytes()});
+        }
+        PublishFailure[] failures = check jetStreamClient->awaitPublishAcks(10);
+        test:assertEquals(failures, [], msg = "Async publish failed.");
+        JetStreamMessage[] messages = check jetStreamClient->fetchMessages(SUBJECT_NAME, "async-durable", 50, 1);
+        test:assertEquals(messages.length(), 50, msg = "Published messages are not in the stream.");
+        test:assertEquals(check string:fromBytes(messages[49].content), "49", msg = "Message order mismatch.");
+    } else {
+        test:assertFail("NATS connection creation failed");
+    }
+}
+
+@test:Config {
+    groups: ["nats-js"]
+}
+public function testJetStreamAsyncPublishWithoutStream() returns error? {
+    Client? natsClient = jsClient;
+    if natsClient is Client {
+        JetStreamClient jetStreamClient = check new(natsClient);
+        int publishId = check jetStreamClient->publishMessageAsync({subject: "js.async.nostream",
+            content: "Hello".toBytes()});
+        PublishFailure[] failures = check jetStreamClient->awaitPublishAcks(10);
+        test:assertEquals(failures.length(), 1, msg = "Failure is not reported.");
+        test:assertEquals(failures[0].publishId, publishId, msg = "Publish ID mismatch.");
+        test:assertEquals(failures[0].subject, "js.async.nostream", msg = "Subject mismatch.");
+    } else {
+        test:assertFail("NATS connection creation failed");
+    }
+}
+
+@test:Config {
+    groups: ["nats-js"]
+}
+public function testJetStreamFetchMessagesWithInvalidBatchSize() returns error? {
+    Client? natsClient = jsClient;
+    if natsClient is Client {
+        JetStreamClient jetStreamClient = check new(natsClient);
+        JetStreamMessage[]|Error result = jetStreamClient->fetchMessages("js.fetch.invalid", "fetch-durable", 0);
+        if result is Error {
+            test:assertEquals(result.message(), "The batch size should be a positive integer.",
+                msg = "Error message mismatch.");
+        } else {
+            test:assertFail("Expected error in fetching messages with a batch size of 0.");
+        }
+    } else {
+        test:assertFail("NATS connection creation failed");
+    }
+}
+
 @test:Config {
     groups: ["nats-js"]
 }
@@ -549,6 +949,66 @@ service object {
     }
 };
 
+JetStreamService onPullService =
+@StreamServiceConfig {
+    subject: "js.pull1",
+    pull: {
+        durable: "pull-workers",
+        batchSize: 5,
+        maxWait: 0.5,
+        concurrency: 4
+    }
+}
+isolated service object {
+    isolated remote function onMessage(readonly & JetStreamMessage msg) {
+        // Slow messages would hold back the others if they were not processed in parallel
+        runtime:sleep(0.1);
+        incrementPulledMessageCount();
+    }
+};
+
+JetStreamService coalescedAckService =
+@StreamServiceConfig {
+    subject: "js.coalesce",
+    pull: {
+        durable: "coalesced-workers",
+        maxWait: 0.5
+    },
+    ackCoalescing: {
+        maxAcks: 10,
+        maxDelay: 0.2
+    }
+}
+isolated service object {
+    isolated remote function onMessage(readonly & JetStreamMessage msg, JetStreamCaller caller) {
+        caller->ack();
+        incrementCoalescedAckCount();
+    }
+};
+
+JetStreamService coalescedQueueService =
+@StreamServiceConfig {
+    subject: "js.coalesce",
+    queueName: "coalesced-group",
+    ackCoalescing: {}
+}
+isolated service object {
+    isolated remote function onMessage(readonly & JetStreamMessage msg) {
+    }
+};
+
+JetStreamService metadataService =
+@StreamServiceConfig {
+    subject: "js.metadata.service"
+}
+isolated service object {
+    // Takes no caller, hence the message is the only link to the consumed message.
+    isolated remote function onMessage(JetStreamMessage msg) returns error? {
+        JetStreamMessageMetadata metadata = check getMetadata(msg);
+        setReceivedStreamSequence(metadata.streamSequence);
+    }
+};
+
 JetStreamService onStreamServiceNegativeSubject =
 service object {
     remote function onMessage(JetStreamMessage msg, JetStreamCaller caller) {
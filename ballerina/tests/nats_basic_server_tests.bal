@@ -18,6 +18,7 @@ import ballerina/lang.'string as strings;
 import ballerina/lang.runtime as runtime;
 import ballerina/log;
 import ballerina/test;
+import ballerina/time;
 
 const string JS_URL = "nats://localhost:4226";
 Client? clientObj = ();
@@ -41,6 +42,41 @@ const REPLY_TO_SUBJECT = "nats-rep";
 const REPLY_TO_DUMMY = "nats-rep-dummy";
 string authToken = "MyToken";
 const ISOLATED_SUBJECT_NAME = "nats-isolated";
+const BATCH_SUBJECT_NAME = "nats-batch";
+const MAX_CONCURRENCY_SUBJECT_NAME = "nats-max-concurrency";
+const KEY_ORDERED_SUBJECT_NAME = "nats-ordered.*";
+const ON_MESSAGES_SUBJECT_NAME = "nats-on-messages";
+const DATA_BINDING_SUBJECT_NAME = "nats-data-binding";
+const JSON_CONTENT_SUBJECT_NAME = "nats-json-content";
+const BINARY_CONTENT_SUBJECT_NAME = "nats-binary-content";
+const SHARED_CONNECTION_SUBJECT_NAME = "nats-shared-connection";
+const GRACEFUL_STOP_SUBJECT_NAME = "nats-graceful-stop";
+const INLINE_SUBJECT_NAME = "nats-inline";
+
+public type IntMessage record {|
+    *AnydataMessage;
+    int content;
+|};
+
+public type OrderLine record {|
+    string sku;
+    int quantity;
+    decimal price;
+|};
+
+public type OrderEvent record {|
+    string id;
+    OrderLine[] lines;
+    map<string> labels;
+    float weight;
+    boolean express = false;
+    string note?;
+|};
+
+public type OrderEventMessage record {|
+    *AnydataMessage;
+    OrderEvent content;
+|};
 
 isolated boolean messageReceived = false;
 isolated boolean requestReceived = false;
@@ -49,6 +85,13 @@ isolated string receivedConsumerMessage = "";
 isolated string receivedOnRequestMessage = "";
 isolated string withoutAnnotMessage = "";
 isolated string receivedReplyMessage = "";
+isolated string[] receivedBatchMessages = [];
+isolated int activeHandlers = 0;
+isolated int maxActiveHandlers = 0;
+isolated int completedHandlers = 0;
+isolated map<int[]> keyOrderedMessages = {};
+isolated int[] receivedBatchSizes = [];
+isolated string receivedJsonContent = "";
 
 isolated function setReceivedConsumerMessage(string message) {
     lock {
@@ -110,6 +153,72 @@ isolated function getReceivedQueueMessage() returns string {
     }
 }
 
+isolated function addReceivedBatchMessage(string message) {
+    lock {
+        receivedBatchMessages.push(message);
+    }
+}
+
+isolated function getReceivedBatchMessages() returns string[] {
+    lock {
+        return receivedBatchMessages.clone();
+    }
+}
+
+isolated function enterHandler() {
+    lock {
+        activeHandlers += 1;
+        if activeHandlers > maxActiveHandlers {
+            maxActiveHandlers = activeHandlers;
+        }
+    }
+}
+
+isolated function exitHandler() {
+    lock {
+        activeHandlers -= 1;
+        completedHandlers += 1;
+    }
+}
+
+isolated function getCompletedHandlers() returns int {
+    lock {
+        return completedHandlers;
+    }
+}
+
+isolated function getMaxActiveHandlers() returns int {
+    lock {
+        return maxActiveHandlers;
+    }
+}
+
+isolated function addKeyOrderedMessage(string key, int sequence) {
+    lock {
+        int[] messages = keyOrderedMessages[key] ?: [];
+        messages.push(sequence);
+        keyOrderedMessages[key] = messages;
+    }
+}
+
+isolated function getKeyOrderedMessages() returns map<int[]> {
+    lock {
+        return keyOrderedMessages.clone();
+    }
+}
+
+isolated function addReceivedBatchSize(int size) {
+    lock {
+        receivedBatchSizes.push(size);
+    }
+}
+
+isolated function getReceivedBatchSizes() returns int[] {
+    lock {
+        return receivedBatchSizes.clone();
+    }
+}
+
 isolated function updateMessageReceived(boolean state) {
     lock {
         messageReceived = state;
@@ -638,6 +747,21 @@ public function testOnRequest2() {
     }
 }
 
+@test:Config {
+    dependsOn: [testOnRequest1],
+    groups: ["nats-basic"]
+}
+public isolated function testRequestMessageWithSharedInbox() returns error? {
+    Client reqClient = check new(DEFAULT_URL, sharedRequestInbox = true);
+    foreach int i in 0 ..< 3 {
+        BytesMessage replyMessage = check reqClient->requestMessage({ content: "Hello over shared inbox".toBytes(),
+                                                                      subject: ON_REQUEST_SUBJECT }, 5);
+        string messageTxt = check strings:fromBytes(replyMessage.content);
+        test:assertEquals(messageTxt, "Hello Back!", msg = "Message received does not match.");
+    }
+    check reqClient.close();
+}
+
 @test:Config {
     dependsOn: [testProducer],
     groups: ["nats-basic"]
@@ -656,6 +780,26 @@ public isolated function testRequestMessage1() {
     checkpanic reqClient.close();
 }
 
+@test:Config {
+    dependsOn: [testProducer],
+    groups: ["nats-basic"]
+}
+public isolated function testRequestMessageWithSubSecondTimeout() returns error? {
+    Client reqClient = check new(DEFAULT_URL);
+    decimal startTime = time:monotonicNow();
+    BytesMessage|Error replyMessage =
+             reqClient->requestMessage({ content: "Hello".toBytes(), subject: ON_REQUEST_TIMEOUT_SUBJECT}, 0.25);
+    decimal elapsedTime = time:monotonicNow() - startTime;
+    if replyMessage is error {
+        string errorMessage = "Error while requesting message to subject nats-on-req-timeout. ";
+        test:assertEquals(replyMessage.message(), errorMessage, msg = "Error message mismatch.");
+        test:assertTrue(elapsedTime >= 0.25d && elapsedTime < 1d, msg = "Request timeout is not honoured.");
+    } else {
+        test:assertFail("Expected request timeout.");
+    }
+    check reqClient.close();
+}
+
 @test:Config {
     dependsOn: [testProducer],
     groups: ["nats-basic"]
@@ -674,6 +818,415 @@ public isolated function testRequestMessage2() {
     }
 }
 
+@test:Config {
+    dependsOn: [testProducer],
+    groups: ["nats-basic"]
+}
+public function testBatchProducer() returns error? {
+    Client? newClient = clientObj2;
+    if newClient is Client {
+        check newClient->publishMessages([
+            { content: "Batch message".toBytes(), subject: BATCH_SUBJECT_NAME },
+            { content: "Batch string", subject: BATCH_SUBJECT_NAME, replyTo: REPLY_TO_DUMMY },
+            { content: { id: 1, name: "batch" }, subject: BATCH_SUBJECT_NAME }
+        ]);
+        int timeoutInSeconds = 120;
+        // Test fails in 2 minutes if it is failed to receive the messages
+        while timeoutInSeconds > 0 {
+            if getReceivedBatchMessages().length() == 3 {
+                // Messages are dispatched concurrently, hence the order is not guaranteed
+                test:assertEquals(getReceivedBatchMessages().sort(),
+                    ["Batch message", "Batch string", "{\"id\":1, \"name\":\"batch\"}"],
+                    msg = "Messages received does not match.");
+                break;
+            } else {
+                runtime:sleep(1);
+                timeoutInSeconds = timeoutInSeconds - 1;
+            }
+        }
+        if timeoutInSeconds == 0 {
+            test:assertFail("Failed to receive the messages for 2 minutes.");
+        }
+    } else {
+        test:assertFail("NATS Connection creation failed.");
+    }
+}
+
+@test:Config {
+    groups: ["nats-basic"]
+}
+public isolated function testBatchProducerWithEmptyBatch() returns error? {
+    Client newClient = check new(DEFAULT_URL);
+    Error? result = newClient->publishMessages([]);
+    test:assertEquals(result, (), msg = "Publishing an empty batch caused an error.");
+    check newClient.close();
+}
+
+@test:Config {
+    groups: ["nats-basic"]
+}
+public isolated function testBatchProducerNegative() returns error? {
+    Client closeClient = check new(DEFAULT_URL);
+    check closeClient.close();
+    Error? result = closeClient->publishMessages([
+        { content: "Hello World".toBytes(), subject: BATCH_SUBJECT_NAME }
+    ]);
+    if result is () {
+        test:assertFail("Error expected for publishing a batch with closed client.");
+    } else {
+        test:assertTrue(result.message().startsWith("Error occurred while publishing the message at index 0"),
+            msg = "Error message mismatch.");
+    }
+}
+
+@test:Config {
+    dependsOn: [testProducer],
+    groups: ["nats-basic"]
+}
+public function testServiceWithMaxConcurrency() returns error? {
+    Listener sub = check new(DEFAULT_URL);
+    check sub.attach(maxConcurrencyService);
+    check sub.'start();
+    Client? newClient = clientObj2;
+    if newClient is Client {
+        foreach int i in 0 ..< 6 {
+            check newClient->publishMessage({ content: i.toString(), subject: MAX_CONCURRENCY_SUBJECT_NAME });
+        }
+        int timeoutInSeconds = 120;
+        // Test fails in 2 minutes if it is failed to process the messages
+        while timeoutInSeconds > 0 {
+            if getCompletedHandlers() == 6 {
+                test:assertEquals(getMaxActiveHandlers(), 2, msg = "Concurrency limit is not honoured.");
+                break;
+            } else {
+                runtime:sleep(1);
+                timeoutInSeconds = timeoutInSeconds - 1;
+            }
+        }
+        if timeoutInSeconds == 0 {
+            test:assertFail("Failed to process the messages for 2 minutes.");
+        }
+    } else {
+        test:assertFail("NATS Connection creation failed.");
+    }
+    check sub.detach(maxConcurrencyService);
+    check sub.gracefulStop();
+}
+
+@test:Config {
+    dependsOn: [testProducer],
+    groups: ["nats-basic"]
+}
+public function testKeyOrderedService() returns error? {
+    Listener sub = check new(DEFAULT_URL);
+    check sub.attach(keyOrderedService);
+    check sub.'start();
+    Client? newClient = clientObj2;
+    if newClient is Client {
+        foreach int i in 0 ..< 5 {
+            check newClient->publishMessages([
+                { content: i, subject: "nats-ordered.device1" },
+                { content: i, subject: "nats-ordered.device2" }
+            ]);
+        }
+        int timeoutInSeconds = 120;
+        // Test fails in 2 minutes if it is failed to process the messages
+        while timeoutInSeconds > 0 {
+            map<int[]> received = getKeyOrderedMessages();
+            if received.length() == 2 && received.toArray().every(messages => messages.length() == 5) {
+                test:assertEquals(received["device1"], [0, 1, 2, 3, 4], msg = "Messages are not in order.");
+                test:assertEquals(received["device2"], [0, 1, 2, 3, 4], msg = "Messages are not in order.");
+                break;
+            } else {
+                runtime:sleep(1);
+                timeoutInSeconds = timeoutInSeconds - 1;
+            }
+        }
+        if timeoutInSeconds == 0 {
+            test:assertFail("Failed to process the messages for 2 minutes.");
+        }
+    } else {
+        test:assertFail("NATS Connection creation failed.");
+    }
+    check sub.detach(keyOrderedService);
+    check sub.gracefulStop();
+}
+
+@test:Config {
+    groups: ["nats-basic"]
+}
+public function testKeyOrderedServiceWithoutHeaderName() returns error? {
+    Listener sub = check new(DEFAULT_URL);
+    error? result = trap sub.attach(invalidKeyOrderedService);
+    if result is () {
+        test:assertFail("Expected error in attaching a service ordered by a header without a header name.");
+    } else {
+        test:assertEquals(result.message(), "The ordering header name is required when ordering by a header",
+            msg = "Error message mismatch");
+    }
+    check sub.gracefulStop();
+}
+
+@test:Config {
+    dependsOn: [testProducer],
+    groups: ["nats-basic"]
+}
+public function testServiceWithOnMessages() returns error? {
+    Listener sub = check new(DEFAULT_URL);
+    check sub.attach(onMessagesService);
+    check sub.'start();
+    Client? newClient = clientObj2;
+    if newClient is Client {
+        foreach int i in 0 ..< 5 {
+            check newClient->publishMessage({ content: i, subject: ON_MESSAGES_SUBJECT_NAME });
+        }
+        int timeoutInSeconds = 120;
+        // Test fails in 2 minutes if it is failed to receive the batches
+        while timeoutInSeconds > 0 {
+            int[] batchSizes = getReceivedBatchSizes();
+            if batchSizes.length() == 2 {
+                // The first batch is delivered once full and the rest once the linger time elapses
+                test:assertEquals(batchSizes.sort(), [2, 3], msg = "Batch sizes mismatch.");
+                break;
+            } else {
+                runtime:sleep(1);
+                timeoutInSeconds = timeoutInSeconds - 1;
+            }
+        }
+        if timeoutInSeconds == 0 {
+            test:assertFail("Failed to receive the batches for 2 minutes.");
+        }
+    } else {
+        test:assertFail("NATS Connection creation failed.");
+    }
+    check sub.detach(onMessagesService);
+    check sub.gracefulStop();
+}
+
+@test:Config {
+    groups: ["nats-basic"]
+}
+public function testRecordDataBinding() returns error? {
+    Client reqClient = check new(DEFAULT_URL);
+    string payload = string `{"id": "order-\"1\"", "lines": [{"sku": "caf\u00e9", "quantity": 2, "price": 3.5}],
+        "labels": {"region": "eu"}, "weight": 1}`;
+    OrderEventMessage reply = check reqClient->requestMessage({ content: payload.toBytes(),
+        subject: DATA_BINDING_SUBJECT_NAME }, 5);
+    OrderEvent expected = {
+        id: "order-\"1\"",
+        lines: [{sku: "café", quantity: 2, price: 3.5}],
+        labels: {region: "eu"},
+        weight: 1.0,
+        express: false
+    };
+    test:assertEquals(reply.content, expected, msg = "Bound record does not match.");
+
+    OrderEventMessage|Error invalidReply = reqClient->requestMessage({ content: string `{"id": 1}`.toBytes(),
+        subject: DATA_BINDING_SUBJECT_NAME }, 5);
+    if invalidReply is Error {
+        test:assertTrue(invalidReply.message().startsWith("Data binding failed"));
+    } else {
+        test:assertFail("Expected a data binding error.");
+    }
+    check reqClient.close();
+}
+
+@test:Config {
+    groups: ["nats-basic"]
+}
+public function testPublishJsonContent() returns error? {
+    Client newClient = check new(DEFAULT_URL);
+    OrderEvent content = {
+        id: "order-\"2\"\n",
+        lines: [{sku: "café", quantity: 1, price: 10.25}, {sku: "tea\t☕", quantity: 3, price: 2}],
+        labels: {region: "eu", "priority": "high"},
+        weight: 2.5
+    };
+    check newClient->publishMessage({ content, subject: JSON_CONTENT_SUBJECT_NAME });
+    int timeoutInSeconds = 120;
+    // Test fails in 2 minutes if it is failed to receive the message
+    while timeoutInSeconds > 0 {
+        string received = getReceivedJsonContent();
+        if received != "" {
+            test:assertEquals(received, content.toJsonString(), msg = "Published JSON content does not match.");
+            break;
+        } else {
+            runtime:sleep(1);
+            timeoutInSeconds = timeoutInSeconds - 1;
+        }
+    }
+    if timeoutInSeconds == 0 {
+        test:assertFail("Failed to receive the message for 2 minutes.");
+    }
+    check newClient.close();
+}
+
+@test:Config {
+    groups: ["nats-basic"]
+}
+public function testBinaryContentTypes() returns error? {
+    OrderEvent content = {
+        id: "order-3",
+        lines: [{sku: "café", quantity: 70000, price: 10.25}, {sku: "tea", quantity: -40, price: 2}],
+        labels: {region: "eu"},
+        weight: 2.5,
+        express: true,
+        note: "fragile"
+    };
+    foreach ContentType contentType in [CBOR, MSGPACK] {
+        Client reqClient = check new(DEFAULT_URL, contentType = contentType);
+        OrderEventMessage reply = check reqClient->requestMessage({ content, subject: BINARY_CONTENT_SUBJECT_NAME },
+            5);
+        OrderEvent expected = content.clone();
+        expected.labels["codec"] = "binary";
+        test:assertEquals(reply.content, expected, msg = string `Content encoded as ${contentType} does not match.`);
+        check reqClient.close();
+    }
+}
+
+@test:Config {
+    groups: ["nats-basic"]
+}
+public function testUnsupportedBinaryContent() returns error? {
+    table<map<string>> content = table [{sku: "tea"}];
+    foreach ContentType contentType in [CBOR, MSGPACK] {
+        Client newClient = check new(DEFAULT_URL, contentType = contentType);
+        Error? result = newClient->publishMessage({ content, subject: BINARY_CONTENT_SUBJECT_NAME });
+        test:assertTrue(result is Error, msg = string `Publishing a table as ${contentType} did not fail.`);
+        check newClient.close();
+    }
+}
+
+@test:Config {
+    groups: ["nats-basic"]
+}
+public function testCompressedContent() returns error? {
+    OrderLine[] lines = [];
+    foreach int i in 0 ..< 500 {
+        lines.push({sku: string `sku-${i % 10}`, quantity: i, price: 9.99});
+    }
+    OrderEvent content = {id: "order-4", lines, labels: {region: "eu"}, weight: 12.5};
+    foreach Compression algorithm in [GZIP, DEFLATE, LZ4] {
+        Client reqClient = check new(DEFAULT_URL, compression = {algorithm, threshold: 512});
+        OrderEventMessage reply = check reqClient->requestMessage({ content, subject: DATA_BINDING_SUBJECT_NAME }, 5);
+        test:assertEquals(reply.content, content, msg = string `Content compressed with ${algorithm} does not match.`);
+        check reqClient.close();
+    }
+}
+
+@test:Config {
+    groups: ["nats-basic"]
+}
+public function testConnectionPool() returns error? {
+    OrderEvent content = {id: "order-5", lines: [{sku: "tea", quantity: 1, price: 2}], labels: {}, weight: 0.5};
+    foreach ConnectionRouting connectionRouting in [SUBJECT_HASH, ROUND_ROBIN] {
+        Client pooledClient = check new(DEFAULT_URL, connectionPoolSize = 4, connectionRouting = connectionRouting);
+        foreach int i in 0 ..< 8 {
+            OrderEventMessage reply = check pooledClient->requestMessage({ content,
+                subject: DATA_BINDING_SUBJECT_NAME }, 5);
+            test:assertEquals(reply.content, content,
+                msg = string `Reply ${i} routed by ${connectionRouting} does not match.`);
+        }
+        check pooledClient.close();
+    }
+    Client|Error invalidClient = new(DEFAULT_URL, connectionPoolSize = 0);
+    test:assertTrue(invalidClient is Error, msg = "Client with an empty connection pool was created.");
+}
+
+@test:Config {
+    groups: ["nats-basic"]
+}
+public function testPerformancePresets() returns error? {
+    OrderEvent content = {id: "order-6", lines: [], labels: {}, weight: 1.5};
+    PerformanceConfig[] presets = [
+        LOW_LATENCY,
+        HIGH_THROUGHPUT,
+        {virtualThreadExecutor: true, socketWriteTimeout: 0.5}
+    ];
+    foreach PerformanceConfig performance in presets {
+        Client tunedClient = check new(DEFAULT_URL, performance = performance, ping = {pingInterval: 0.5});
+        OrderEventMessage reply = check tunedClient->requestMessage({ content, subject: DATA_BINDING_SUBJECT_NAME }, 5);
+        test:assertEquals(reply.content, content, msg = "Reply of the tuned client does not match.");
+        check tunedClient.close();
+    }
+}
+
+@test:Config {
+    groups: ["nats-basic"]
+}
+public function testListenerOnClient() returns error? {
+    Client sharedClient = check new(DEFAULT_URL);
+    Listener sharedListener = check new(sharedClient);
+    Service sharedService = service object {
+        isolated remote function onRequest(OrderEventMessage msg) returns OrderEvent {
+            return msg.content;
+        }
+    };
+    check sharedListener.attach(sharedService, SHARED_CONNECTION_SUBJECT_NAME);
+    check sharedListener.'start();
+    OrderEvent content = {id: "order-7", lines: [], labels: {"route": "shared"}, weight: 2.5};
+    OrderEventMessage reply = check sharedClient->requestMessage({ content,
+        subject: SHARED_CONNECTION_SUBJECT_NAME }, 5);
+    test:assertEquals(reply.content, content, msg = "Reply over the shared connection does not match.");
+
+    // Stopping the listener leaves the connection open for the client.
+    check sharedListener.gracefulStop();
+    reply = check sharedClient->requestMessage({ content, subject: DATA_BINDING_SUBJECT_NAME }, 5);
+    test:assertEquals(reply.content, content, msg = "Client does not work after the listener is stopped.");
+    check sharedClient.close();
+}
+
+@test:Config {
+    groups: ["nats-basic"]
+}
+public function testGracefulStopTimeout() returns error? {
+    Client producer = check new(DEFAULT_URL);
+    foreach decimal processingTime in [0.5, 3] {
+        Listener sub = check new(DEFAULT_URL, gracefulStopTimeout = 1);
+        Service slowService = service object {
+            isolated remote function onMessage(BytesMessage msg) {
+                runtime:sleep(processingTime);
+            }
+        };
+        check sub.attach(slowService, GRACEFUL_STOP_SUBJECT_NAME);
+        check sub.'start();
+        check producer->publishMessage({ content: "Slow message".toBytes(), subject: GRACEFUL_STOP_SUBJECT_NAME });
+        runtime:sleep(0.2);
+        decimal startedAt = time:monotonicNow();
+        error? stopResult = sub.gracefulStop();
+        decimal elapsed = time:monotonicNow() - startedAt;
+        if processingTime < 1d {
+            test:assertFalse(stopResult is error, msg = "Graceful stop did not wait for the message to be processed.");
+        } else {
+            test:assertTrue(stopResult is error, msg = "Graceful stop did not report the abandoned message.");
+            test:assertTrue(elapsed < 2.5d, msg = string `Graceful stop took ${elapsed} seconds past its timeout.`);
+        }
+    }
+    check producer.close();
+}
+
+@test:Config {
+    groups: ["nats-basic"]
+}
+public function testInlineDispatch() returns error? {
+    Listener sub = check new(DEFAULT_URL);
+    check sub.attach(inlineService);
+    check sub.'start();
+    Client requester = check new(DEFAULT_URL);
+    foreach int i in 0 ..< 5 {
+        IntMessage reply = check requester->requestMessage({ content: i, subject: INLINE_SUBJECT_NAME }, 5);
+        test:assertEquals(reply.content, i + 1, msg = "Reply of the inline service does not match.");
+    }
+    check requester.close();
+    check sub.gracefulStop();
+}
+
+isolated function getReceivedJsonContent() returns string {
+    lock {
+        return receivedJsonContent;
+    }
+}
+
 @ServiceConfig {
     subject: SERVICE_SUBJECT_NAME
 }
@@ -793,6 +1346,74 @@ service Service on new Listener(DEFAULT_URL) {
     }
 }
 
+Service maxConcurrencyService =
+@ServiceConfig {
+    subject: MAX_CONCURRENCY_SUBJECT_NAME,
+    maxConcurrency: 2
+}
+isolated service object {
+    isolated remote function onMessage(BytesMessage msg) {
+        enterHandler();
+        runtime:sleep(0.5);
+        exitHandler();
+    }
+};
+
+Service inlineService =
+@ServiceConfig {
+    subject: INLINE_SUBJECT_NAME,
+    dispatchMode: INLINE
+}
+isolated service object {
+    isolated remote function onRequest(IntMessage msg) returns int {
+        return msg.content + 1;
+    }
+};
+
+Service keyOrderedService =
+@ServiceConfig {
+    subject: KEY_ORDERED_SUBJECT_NAME,
+    dispatchMode: KEY_ORDERED,
+    ordering: {
+        keySource: SUBJECT_TOKEN,
+        subjectToken: 1
+    }
+}
+isolated service object {
+    isolated remote function onMessage(record {|*AnydataMessage; int content;|} msg) {
+        // Earlier messages take longer, so that they would be overtaken if not ordered
+        runtime:sleep(<decimal>(5 - msg.content) / 10);
+        addKeyOrderedMessage(msg.subject.substring("nats-ordered.".length()), msg.content);
+    }
+};
+
+Service onMessagesService =
+@ServiceConfig {
+    subject: ON_MESSAGES_SUBJECT_NAME,
+    batch: {
+        maxBatchSize: 3,
+        maxLinger: 1
+    }
+}
+isolated service object {
+    isolated remote function onMessages(readonly & IntMessage[] messages) {
+        addReceivedBatchSize(messages.length());
+    }
+};
+
+Service invalidKeyOrderedService =
+@ServiceConfig {
+    subject: KEY_ORDERED_SUBJECT_NAME,
+    dispatchMode: KEY_ORDERED,
+    ordering: {
+        keySource: HEADER
+    }
+}
+isolated service object {
+    isolated remote function onMessage(BytesMessage msg) {
+    }
+};
+
 Service noConfigService =
 service object {
     isolated remote function onMessage(BytesMessage msg) {
@@ -831,3 +1452,47 @@ service Service on new Listener(DEFAULT_URL) {
         return "Hello Back!";
     }
 }
+
+@ServiceConfig {
+    subject: BATCH_SUBJECT_NAME
+}
+service Service on new Listener(DEFAULT_URL) {
+    remote function onMessage(BytesMessage msg) {
+        string|error message = strings:fromBytes(msg.content);
+        if message is string {
+            addReceivedBatchMessage(message);
+        }
+    }
+}
+
+@ServiceConfig {
+    subject: DATA_BINDING_SUBJECT_NAME
+}
+service Service on new Listener(DEFAULT_URL) {
+    remote function onRequest(BytesMessage msg) returns byte[] {
+        return msg.content;
+    }
+}
+
+@ServiceConfig {
+    subject: BINARY_CONTENT_SUBJECT_NAME
+}
+service Service on new Listener(DEFAULT_URL) {
+    remote function onRequest(OrderEventMessage msg) returns OrderEvent {
+        OrderEvent event = msg.content.clone();
+        event.labels["codec"] = "binary";
+        return event;
+    }
+}
+
+@ServiceConfig {
+    subject: JSON_CONTENT_SUBJECT_NAME
+}
+service Service on new Listener(DEFAULT_URL) {
+    remote function onMessage(BytesMessage msg) returns error? {
+        string message = check strings:fromBytes(msg.content);
+        lock {
+            receivedJsonContent = message;
+        }
+    }
+}
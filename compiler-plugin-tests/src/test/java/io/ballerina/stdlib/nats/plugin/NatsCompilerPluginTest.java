@@ -222,6 +222,22 @@ public class NatsCompilerPluginTest {
         Assert.assertEquals(diagnosticResult.errors().size(), 0);
     }
 
+    @Test
+    public void testValidServicesWithOnMessagesMethod() {
+        Package currentPackage = loadPackage("valid_service_24");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.errors().size(), 0);
+    }
+
+    @Test
+    public void testValidJetStreamServicesWithOnMessagesMethod() {
+        Package currentPackage = loadPackage("valid_service_25");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.errors().size(), 0);
+    }
+
     @Test
     public void testInvalidService1() {
         Package currentPackage = loadPackage("invalid_service_1");
@@ -551,6 +567,46 @@ public class NatsCompilerPluginTest {
         assertDiagnostic(diagnostic, CompilationErrors.NO_ANNOTATION);
     }
 
+    @Test
+    public void testServiceWithOnMessageAndOnMessages() {
+        Package currentPackage = loadPackage("invalid_service_32");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.errors().size(), 1);
+        Diagnostic diagnostic = (Diagnostic) diagnosticResult.errors().toArray()[0];
+        assertDiagnostic(diagnostic, CompilationErrors.ON_MESSAGE_OR_ON_MESSAGES);
+    }
+
+    @Test
+    public void testServiceWithInvalidOnMessagesParam() {
+        Package currentPackage = loadPackage("invalid_service_33");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.errors().size(), 1);
+        Diagnostic diagnostic = (Diagnostic) diagnosticResult.errors().toArray()[0];
+        assertDiagnostic(diagnostic, CompilationErrors.INVALID_FUNCTION_PARAM_MESSAGES);
+    }
+
+    @Test
+    public void testServiceWithInvalidOnMessagesParamCount() {
+        Package currentPackage = loadPackage("invalid_service_34");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.errors().size(), 1);
+        Diagnostic diagnostic = (Diagnostic) diagnosticResult.errors().toArray()[0];
+        assertDiagnostic(diagnostic, CompilationErrors.ONLY_PARAMS_ALLOWED_ON_MESSAGES);
+    }
+
+    @Test
+    public void testJetStreamServiceWithInvalidReturnOnMessagesMethod() {
+        Package currentPackage = loadPackage("invalid_service_35");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.errors().size(), 1);
+        Diagnostic diagnostic = (Diagnostic) diagnosticResult.errors().toArray()[0];
+        assertDiagnostic(diagnostic, CompilationErrors.INVALID_RETURN_TYPE_ERROR_OR_NIL);
+    }
+
     private Package loadPackage(String path) {
         Path projectDirPath = RESOURCE_DIRECTORY.resolve(BALLERINA_SOURCES).resolve(path);
         BuildProject project = BuildProject.load(getEnvironmentBuilder(), projectDirPath);
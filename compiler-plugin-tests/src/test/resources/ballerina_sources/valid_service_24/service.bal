@@ -0,0 +1,59 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerinax/nats;
+
+listener nats:Listener subscription = new(nats:DEFAULT_URL);
+
+public type StringMessage record {|
+    *nats:AnydataMessage;
+    string content;
+|};
+
+@nats:ServiceConfig {
+    subject: "demo.bbe.*",
+    batch: {
+        maxBatchSize: 50,
+        maxLinger: 0.5
+    }
+}
+service nats:Service on subscription {
+
+    remote function onMessages(nats:AnydataMessage[] messages) returns error? {
+    }
+}
+
+@nats:ServiceConfig {
+    subject: "demo.bbe.*"
+}
+service nats:Service on subscription {
+
+    remote function onMessages(readonly & StringMessage[] messages) returns nats:Error? {
+    }
+
+    remote function onError(nats:AnydataMessage message, nats:Error err) {
+    }
+}
+
+service "hello" on subscription {
+
+    remote function onMessages((readonly & nats:BytesMessage)[] messages) {
+    }
+
+    remote function onRequest(nats:AnydataMessage message) returns string {
+        return "Hello Back!";
+    }
+}
@@ -91,6 +91,7 @@ import static io.ballerina.stdlib.nats.plugin.PluginConstants.CompilationErrors.
 import static io.ballerina.stdlib.nats.plugin.PluginConstants.CompilationErrors.INVALID_FUNCTION_PARAM_ANYDATA;
 import static io.ballerina.stdlib.nats.plugin.PluginConstants.CompilationErrors.INVALID_FUNCTION_PARAM_ERROR;
 import static io.ballerina.stdlib.nats.plugin.PluginConstants.CompilationErrors.INVALID_FUNCTION_PARAM_MESSAGE;
+import static io.ballerina.stdlib.nats.plugin.PluginConstants.CompilationErrors.INVALID_FUNCTION_PARAM_MESSAGES;
 import static io.ballerina.stdlib.nats.plugin.PluginConstants.CompilationErrors.INVALID_FUNCTION_PARAM_MESSAGE_OR_ANYDATA;
 import static io.ballerina.stdlib.nats.plugin.PluginConstants.CompilationErrors.INVALID_RETURN_TYPE_ANY_DATA;
 import static io.ballerina.stdlib.nats.plugin.PluginConstants.CompilationErrors.INVALID_RETURN_TYPE_ERROR_OR_NIL;
@@ -99,6 +100,8 @@ import static io.ballerina.stdlib.nats.plugin.PluginConstants.CompilationErrors.
 import static io.ballerina.stdlib.nats.plugin.PluginConstants.CompilationErrors.NO_ON_MESSAGE_OR_ON_REQUEST;
 import static io.ballerina.stdlib.nats.plugin.PluginConstants.CompilationErrors.ONLY_PARAMS_ALLOWED;
 import static io.ballerina.stdlib.nats.plugin.PluginConstants.CompilationErrors.ONLY_PARAMS_ALLOWED_ON_ERROR;
+import static io.ballerina.stdlib.nats.plugin.PluginConstants.CompilationErrors.ONLY_PARAMS_ALLOWED_ON_MESSAGES;
+import static io.ballerina.stdlib.nats.plugin.PluginConstants.CompilationErrors.ON_MESSAGE_OR_ON_MESSAGES;
 import static io.ballerina.stdlib.nats.plugin.PluginConstants.CompilationErrors.ON_MESSAGE_OR_ON_REQUEST;
 import static io.ballerina.stdlib.nats.plugin.PluginConstants.MESSAGE_CONTENT;
 import static io.ballerina.stdlib.nats.plugin.PluginConstants.MESSAGE_REPLY_TO;
@@ -116,14 +119,17 @@ public class NatsFunctionValidator {
     private final SyntaxNodeAnalysisContext context;
     private final ServiceDeclarationNode serviceDeclarationNode;
     FunctionDefinitionNode onMessage;
+    FunctionDefinitionNode onMessages;
     FunctionDefinitionNode onRequest;
     FunctionDefinitionNode onError;
 
     public NatsFunctionValidator(SyntaxNodeAnalysisContext context, FunctionDefinitionNode onMessage,
-                                 FunctionDefinitionNode onRequest, FunctionDefinitionNode onError) {
+                                 FunctionDefinitionNode onMessages, FunctionDefinitionNode onRequest,
+                                 FunctionDefinitionNode onError) {
         this.context = context;
         this.serviceDeclarationNode = (ServiceDeclarationNode) context.node();
         this.onMessage = onMessage;
+        this.onMessages = onMessages;
         this.onRequest = onRequest;
         this.onError = onError;
     }
@@ -133,6 +139,9 @@ public class NatsFunctionValidator {
         if (Objects.nonNull(onMessage)) {
             validateOnMessage();
         }
+        if (Objects.nonNull(onMessages)) {
+            validateOnMessages();
+        }
         if (Objects.nonNull(onRequest)) {
             validateOnRequest();
         }
@@ -142,10 +151,12 @@ public class NatsFunctionValidator {
     }
 
     private void validateMandatoryFunction() {
-        if (Objects.isNull(onMessage) && Objects.isNull(onRequest)) {
+        if (Objects.isNull(onMessage) && Objects.isNull(onRequest) && Objects.isNull(onMessages)) {
             reportErrorDiagnostic(NO_ON_MESSAGE_OR_ON_REQUEST, serviceDeclarationNode.location());
         } else if (!Objects.isNull(onMessage) && !Objects.isNull(onRequest)) {
             reportErrorDiagnostic(ON_MESSAGE_OR_ON_REQUEST, serviceDeclarationNode.location());
+        } else if (!Objects.isNull(onMessage) && !Objects.isNull(onMessages)) {
+            reportErrorDiagnostic(ON_MESSAGE_OR_ON_MESSAGES, serviceDeclarationNode.location());
         }
     }
 
@@ -158,6 +169,19 @@ public class NatsFunctionValidator {
         validateReturnTypeErrorOrNil(onMessage);
     }
 
+    private void validateOnMessages() {
+        if (!isRemoteFunction(context, onMessages)) {
+            reportErrorDiagnostic(FUNCTION_SHOULD_BE_REMOTE, onMessages.functionSignature().location());
+        }
+        SeparatedNodeList<ParameterNode> parameters = onMessages.functionSignature().parameters();
+        if (parameters.size() != 1) {
+            reportErrorDiagnostic(ONLY_PARAMS_ALLOWED_ON_MESSAGES, onMessages.functionSignature().location());
+        } else {
+            validateBatchParam(parameters.get(0));
+        }
+        validateReturnTypeErrorOrNil(onMessages);
+    }
+
     private void validateOnRequest() {
         if (!isRemoteFunction(context, onRequest)) {
             reportErrorDiagnostic(FUNCTION_SHOULD_BE_REMOTE, onRequest.functionSignature().location());
@@ -213,6 +237,35 @@ public class NatsFunctionValidator {
         }
     }
 
+    private void validateBatchParam(ParameterNode parameterNode) {
+        Node arrayNode = getNonReadonlyTypeDesc(((RequiredParameterNode) parameterNode).typeName());
+        if (arrayNode == null || arrayNode.kind() != ARRAY_TYPE_DESC) {
+            reportErrorDiagnostic(INVALID_FUNCTION_PARAM_MESSAGES, parameterNode.location());
+            return;
+        }
+        Node memberNode = getNonReadonlyTypeDesc(((ArrayTypeDescriptorNode) arrayNode).memberTypeDesc());
+        if (memberNode == null || (memberNode.kind() != SIMPLE_NAME_REFERENCE &&
+                memberNode.kind() != QUALIFIED_NAME_REFERENCE) ||
+                !isBatchMessageType((TypeSymbol) context.semanticModel().symbol(memberNode).get())) {
+            reportErrorDiagnostic(INVALID_FUNCTION_PARAM_MESSAGES, parameterNode.location());
+        }
+    }
+
+    private Node getNonReadonlyTypeDesc(Node node) {
+        if (node.kind() == PARENTHESISED_TYPE_DESC) {
+            return getNonReadonlyTypeDesc(((ParenthesisedTypeDescriptorNode) node).typedesc());
+        } else if (node.kind() == INTERSECTION_TYPE_DESC) {
+            IntersectionTypeDescriptorNode intersectionNode = (IntersectionTypeDescriptorNode) node;
+            if (intersectionNode.leftTypeDesc().kind() != READONLY_TYPE_DESC) {
+                return getNonReadonlyTypeDesc(intersectionNode.leftTypeDesc());
+            } else if (intersectionNode.rightTypeDesc().kind() != READONLY_TYPE_DESC) {
+                return getNonReadonlyTypeDesc(intersectionNode.rightTypeDesc());
+            }
+            return null;
+        }
+        return node;
+    }
+
     private void validateFirstParamInTwoParamScenario(ParameterNode parameterNode) {
         if (!isMessageParam((RequiredParameterNode) parameterNode)) {
             reportErrorDiagnostic(INVALID_FUNCTION_PARAM_MESSAGE_OR_ANYDATA, parameterNode.location());
@@ -300,6 +353,23 @@ public class NatsFunctionValidator {
         return validateMessageFields(fieldDescriptors);
     }
 
+    private boolean isBatchMessageType(TypeSymbol typeSymbol) {
+        if (isMessageType(typeSymbol)) {
+            return true;
+        }
+        if (typeSymbol.typeKind() != TYPE_REFERENCE ||
+                ((TypeReferenceTypeSymbol) typeSymbol).typeDescriptor().typeKind() != RECORD) {
+            return false;
+        }
+        // A nats:JetStreamMessage has only the subject and the byte array content.
+        Map<String, RecordFieldSymbol> fieldDescriptors =
+                ((RecordTypeSymbol) ((TypeReferenceTypeSymbol) typeSymbol).typeDescriptor()).fieldDescriptors();
+        return fieldDescriptors.size() == 2 && fieldDescriptors.containsKey(MESSAGE_SUBJECT) &&
+                fieldDescriptors.containsKey(MESSAGE_CONTENT) &&
+                fieldDescriptors.get(MESSAGE_SUBJECT).typeDescriptor().typeKind() == STRING &&
+                fieldDescriptors.get(MESSAGE_CONTENT).typeDescriptor().typeKind() == ARRAY;
+    }
+
     private boolean validateMessageFields(Map<String, RecordFieldSymbol> fieldDescriptors) {
         if (fieldDescriptors.size() != 3 || !fieldDescriptors.containsKey(MESSAGE_CONTENT) ||
                 !fieldDescriptors.containsKey(MESSAGE_REPLY_TO) ||
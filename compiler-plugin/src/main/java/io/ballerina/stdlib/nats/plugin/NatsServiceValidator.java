@@ -60,6 +60,7 @@ public class NatsServiceValidator {
 
         validateAttachPoint(context);
         FunctionDefinitionNode onMessage = null;
+        FunctionDefinitionNode onMessages = null;
         FunctionDefinitionNode onRequest = null;
         FunctionDefinitionNode onError = null;
 
@@ -71,6 +72,8 @@ public class NatsServiceValidator {
                 if (functionName.isPresent()) {
                     if (functionName.get().equals(PluginConstants.ON_MESSAGE_FUNC)) {
                         onMessage = functionDefinitionNode;
+                    } else if (functionName.get().equals(PluginConstants.ON_MESSAGES_FUNC)) {
+                        onMessages = functionDefinitionNode;
                     } else if (functionName.get().equals(PluginConstants.ON_REQUEST_FUNC)) {
                         onRequest = functionDefinitionNode;
                     } else if (functionName.get().equals(PluginConstants.ON_ERROR_FUNC)) {
@@ -85,7 +88,7 @@ public class NatsServiceValidator {
                         DiagnosticSeverity.ERROR, node.location()));
             }
         }
-        new NatsFunctionValidator(context, onMessage, onRequest, onError).validate();
+        new NatsFunctionValidator(context, onMessage, onMessages, onRequest, onError).validate();
     }
 
     private void validateAttachPoint(SyntaxNodeAnalysisContext context) {
@@ -26,6 +26,7 @@ public class PluginConstants {
     public static final String PACKAGE_PREFIX = "nats";
     public static final String PACKAGE_ORG = "ballerinax";
     public static final String ON_MESSAGE_FUNC = "onMessage";
+    public static final String ON_MESSAGES_FUNC = "onMessages";
     public static final String ON_REQUEST_FUNC = "onRequest";
     public static final String ON_ERROR_FUNC = "onError";
 
@@ -47,7 +48,7 @@ public class PluginConstants {
      */
     enum CompilationErrors {
         ON_MESSAGE_OR_ON_REQUEST("Only one of either onMessage or onRequest is allowed.", "NATS_101"),
-        NO_ON_MESSAGE_OR_ON_REQUEST("Service must have either remote method onMessage or onRequest.",
+        NO_ON_MESSAGE_OR_ON_REQUEST("Service must have either remote method onMessage, onMessages or onRequest.",
                 "NATS_102"),
         INVALID_RESOURCE_FUNCTION("Resource functions not allowed", "NATS_103"),
         FUNCTION_SHOULD_BE_REMOTE("Method must have the remote qualifier.", "NATS_104"),
@@ -75,7 +76,12 @@ public class PluginConstants {
         NO_ANNOTATION("No ServiceConfig annotation is found.", "NATS_117"),
         INVALID_SERVICE_ATTACH_POINT("Invalid service attach point. Only string literals are allowed.",
                 "NATS_118"),
-        TEMPLATE_CODE_GENERATION_HINT("Template generation for empty service", "NATS_119");
+        TEMPLATE_CODE_GENERATION_HINT("Template generation for empty service", "NATS_119"),
+        ON_MESSAGE_OR_ON_MESSAGES("Only one of either onMessage or onMessages is allowed.", "NATS_120"),
+        INVALID_FUNCTION_PARAM_MESSAGES("Invalid method parameter. Only an array of subtypes of " +
+                "nats:AnydataMessage or nats:JetStreamMessage is allowed.", "NATS_121"),
+        ONLY_PARAMS_ALLOWED_ON_MESSAGES("Invalid method parameter count. Only an array of subtypes of " +
+                "nats:AnydataMessage or nats:JetStreamMessage is allowed.", "NATS_122");
 
         private final String error;
         private final String errorCode;
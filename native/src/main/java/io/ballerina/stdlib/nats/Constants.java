@@ -69,6 +69,24 @@ public class Constants {
     // Represents dispatcher list.
     public static final String DISPATCHER_LIST = "dispatcher_list";
 
+    // Represents the message handler list of the basic services.
+    public static final String MESSAGE_HANDLER_LIST = "message_handler_list";
+    public static final String PULL_SUBSCRIPTIONS = "pull_subscriptions";
+    public static final String PULL_ACK_COALESCERS = "pull_ack_coalescers";
+    public static final String ASYNC_PUBLISHER = "async_publisher";
+    public static final String PUBLISH_FAILURE = "PublishFailure";
+    public static final String STREAM_MESSAGE_METADATA = "JetStreamMessageMetadata";
+    public static final String METADATA_STREAM_NAME = "streamName";
+    public static final String METADATA_CONSUMER_NAME = "consumerName";
+    public static final String METADATA_STREAM_SEQUENCE = "streamSequence";
+    public static final String METADATA_CONSUMER_SEQUENCE = "consumerSequence";
+    public static final String METADATA_DELIVERED_COUNT = "deliveredCount";
+    public static final String METADATA_PENDING_COUNT = "pendingCount";
+    public static final String METADATA_TIMESTAMP = "timestamp";
+    public static final String PUBLISH_ID = "publishId";
+    public static final String FAILURE_MESSAGE = "message";
+    public static final BString MAX_PENDING_ACKS = StringUtils.fromString("maxPendingAcks");
+
     // Represent NATS Connection error listener.
     public static final String SERVICE_LIST = "service_list";
 
@@ -86,6 +104,7 @@ public class Constants {
     public static final String BASIC_SUBSCRIPTION_LIST = "BasicSubscriptionList";
 
     public static final String ON_MESSAGE_RESOURCE = "onMessage";
+    public static final String ON_MESSAGES_RESOURCE = "onMessages";
     public static final String ON_REQUEST_RESOURCE = "onRequest";
     public static final String ON_ERROR_RESOURCE = "onError";
     public static final String COUNTDOWN_LATCH = "count_down_latch";
@@ -113,6 +132,51 @@ public class Constants {
     public static final BString PENDING_LIMITS = StringUtils.fromString("pendingLimits");
     public static final BString MAX_MESSAGES = StringUtils.fromString("maxMessages");
     public static final BString MAX_BYTES = StringUtils.fromString("maxBytes");
+    public static final BString MAX_CONCURRENCY = StringUtils.fromString("maxConcurrency");
+    public static final BString DISPATCH_MODE = StringUtils.fromString("dispatchMode");
+    public static final String DISPATCH_MODE_KEY_ORDERED = "KEY_ORDERED";
+    public static final String DISPATCH_MODE_INLINE = "INLINE";
+    public static final BString ORDERING = StringUtils.fromString("ordering");
+    public static final BString KEY_SOURCE = StringUtils.fromString("keySource");
+    public static final BString SUBJECT_TOKEN = StringUtils.fromString("subjectToken");
+    public static final BString HEADER = StringUtils.fromString("header");
+    public static final BString PARTITIONS = StringUtils.fromString("partitions");
+    public static final BString BATCH = StringUtils.fromString("batch");
+    public static final BString MAX_BATCH_SIZE = StringUtils.fromString("maxBatchSize");
+    public static final BString PULL = StringUtils.fromString("pull");
+    public static final BString DURABLE = StringUtils.fromString("durable");
+    public static final BString BATCH_SIZE = StringUtils.fromString("batchSize");
+    public static final BString MAX_WAIT = StringUtils.fromString("maxWait");
+    public static final BString MAX_ACK_PENDING = StringUtils.fromString("maxAckPending");
+    public static final BString CONCURRENCY = StringUtils.fromString("concurrency");
+    public static final int MAX_PULL_CONCURRENCY = 64;
+    public static final String PULL_CONSUMERS = "pull_consumers";
+    public static final BString ACK_COALESCING = StringUtils.fromString("ackCoalescing");
+    public static final BString MAX_ACKS = StringUtils.fromString("maxAcks");
+    public static final BString MAX_DELAY = StringUtils.fromString("maxDelay");
+    public static final String ACK_COALESCER = "ack_coalescer";
+    public static final String ACK_COALESCING_CONFIG = "ack_coalescing_config";
+    public static final BString FILTER_SUBJECT = StringUtils.fromString("filterSubject");
+    public static final BString START_SEQUENCE = StringUtils.fromString("startSequence");
+    public static final BString START_TIME = StringUtils.fromString("startTime");
+    public static final BString PREFETCH = StringUtils.fromString("prefetch");
+    public static final String MESSAGE_REPLAY = "message_replay";
+    public static final BString MAX_LINGER = StringUtils.fromString("maxLinger");
+    public static final BString CONTENT_TYPE = StringUtils.fromString("contentType");
+    public static final String CONTENT_TYPE_HEADER = "Content-Type";
+    public static final String PAYLOAD_CODEC = "PAYLOAD_CODEC";
+    public static final BString COMPRESSION = StringUtils.fromString("compression");
+    public static final BString COMPRESSION_ALGORITHM = StringUtils.fromString("algorithm");
+    public static final BString COMPRESSION_THRESHOLD = StringUtils.fromString("threshold");
+    public static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    public static final String PAYLOAD_COMPRESSOR = "PAYLOAD_COMPRESSOR";
+    public static final BString CONNECTION_POOL_SIZE = StringUtils.fromString("connectionPoolSize");
+    public static final BString CONNECTION_ROUTING = StringUtils.fromString("connectionRouting");
+    public static final String ROUTING_SUBJECT_HASH = "SUBJECT_HASH";
+    public static final String CONNECTION_POOL = "CONNECTION_POOL";
+    public static final String SHARED_CONNECTION = "SHARED_CONNECTION";
+    public static final String IN_FLIGHT_TRACKER = "IN_FLIGHT_TRACKER";
+    public static final String GRACEFUL_STOP_TIMEOUT = "gracefulStopTimeout";
 
     public static final BString CERT_FILE = StringUtils.fromString("certFile");
     public static final BString KEY_FILE = StringUtils.fromString("keyFile");
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.nats.client.Connection;
+import io.nats.client.Dispatcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The deadline of a graceful stop of a listener. The subscriptions are drained first, so that no new messages are
+ * taken in while the pending ones are dispatched, then the listener waits for the dispatched messages to be processed.
+ * Each step gets the time left until the deadline, and the work which is not done by then is abandoned and counted.
+ */
+public final class GracefulStop {
+    // The smallest wait passed to the client, which treats a zero duration as no limit.
+    private static final Duration MIN_WAIT = Duration.ofMillis(1);
+
+    private final boolean bounded;
+    private final long deadline;
+
+    private GracefulStop(boolean bounded, long deadline) {
+        this.bounded = bounded;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Starts a graceful stop.
+     *
+     * @param timeout the maximum time in seconds, or `null` to wait without a limit
+     * @return the graceful stop
+     */
+    public static GracefulStop start(BDecimal timeout) {
+        if (timeout == null) {
+            return new GracefulStop(false, 0);
+        }
+        return new GracefulStop(true, System.nanoTime() + Utils.getDuration(timeout).toNanos());
+    }
+
+    /**
+     * Drains the given dispatchers, which unsubscribes them and dispatches their pending messages. The dispatchers
+     * which are not drained by the deadline are closed.
+     *
+     * @param natsConnection the connection of the dispatchers
+     * @param dispatchers    the dispatchers
+     * @return the number of pending messages which were not dispatched
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public long drain(Connection natsConnection, Collection<Dispatcher> dispatchers) throws InterruptedException {
+        List<CompletableFuture<Boolean>> drains = new ArrayList<>(dispatchers.size());
+        for (Dispatcher dispatcher : dispatchers) {
+            drains.add(dispatcher.drain(getWait()));
+        }
+        long undelivered = 0;
+        int index = 0;
+        for (Dispatcher dispatcher : dispatchers) {
+            if (!isDone(drains.get(index++))) {
+                undelivered += dispatcher.getPendingMessageCount();
+                natsConnection.closeDispatcher(dispatcher);
+            }
+        }
+        return undelivered;
+    }
+
+    /**
+     * Waits for the dispatched messages to be processed.
+     *
+     * @param tracker the messages being processed
+     * @return the number of messages still being processed at the deadline
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public int await(InFlightTracker tracker) throws InterruptedException {
+        return tracker.await(getRemainingNanos());
+    }
+
+    /**
+     * Drains and closes a connection, which flushes the messages published by the services. The connection is closed
+     * right away if it is not drained by the deadline.
+     *
+     * @param natsConnection the connection
+     * @throws InterruptedException if interrupted while waiting
+     * @throws TimeoutException     if the connection could not be flushed
+     */
+    public void close(Connection natsConnection) throws InterruptedException, TimeoutException {
+        if (!isDone(natsConnection.drain(getWait()))) {
+            natsConnection.close();
+        }
+    }
+
+    private static boolean isDone(CompletableFuture<Boolean> drain) throws InterruptedException {
+        try {
+            return drain.get();
+        } catch (ExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the time left until the deadline.
+     *
+     * @return the remaining time in nanoseconds, or `-1` if the stop waits without a limit
+     */
+    public long getRemainingNanos() {
+        return bounded ? Math.max(0, deadline - System.nanoTime()) : -1;
+    }
+
+    private Duration getWait() {
+        return bounded ? Duration.ofNanos(getRemainingNanos()).plus(MIN_WAIT) : Duration.ZERO;
+    }
+}
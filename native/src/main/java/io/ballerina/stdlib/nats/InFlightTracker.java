@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Counts the messages of a listener which have been handed over to a service but not yet processed, so that a
+ * graceful stop can wait for them.
+ */
+public final class InFlightTracker {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition idle = lock.newCondition();
+    private int inFlight;
+
+    /**
+     * Marks the start of a dispatch. Each call must be followed by a call to {@link #end()}.
+     */
+    public void begin() {
+        lock.lock();
+        try {
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks the end of a dispatch, whether it completed, failed or was rejected.
+     */
+    public void end() {
+        lock.lock();
+        try {
+            if (--inFlight == 0) {
+                idle.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until all the dispatches have ended or the given time has elapsed.
+     *
+     * @param timeoutNanos the maximum time to wait, or a negative value to wait without a limit
+     * @return the number of dispatches which are still in flight
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public int await(long timeoutNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = timeoutNanos;
+            while (inFlight > 0) {
+                if (timeoutNanos < 0) {
+                    idle.await();
+                } else if (remaining > 0) {
+                    remaining = idle.awaitNanos(remaining);
+                } else {
+                    break;
+                }
+            }
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
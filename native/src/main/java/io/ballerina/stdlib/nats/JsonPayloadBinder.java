@@ -0,0 +1,666 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.ValueUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.nats.codec.BindingPlans;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.runtime.api.utils.TypeUtils.getReferredType;
+
+/**
+ * Binds a JSON payload to records, arrays and maps straight from its UTF-8 bytes, without building an intermediate
+ * JSON value. The binding plan of a type is built once and cached.
+ * <p>
+ * Values which do not fit the plan of their type, such as a value of a mismatching kind, a record with a missing
+ * required field or values of types without a plan, are converted the same way as before, by parsing the JSON text
+ * of the value and converting it to the type. Therefore the result and the errors are the same as those of the
+ * conversion, while the conversion only costs on the values which need it.
+ */
+final class JsonPayloadBinder {
+    private static final BindingPlans<Binder> BINDERS = new BindingPlans<>(new BinderFactory());
+
+    private JsonPayloadBinder() {
+    }
+
+    /**
+     * Binds a JSON payload to the given type.
+     *
+     * @param type    the intended type
+     * @param payload the UTF-8 encoded JSON payload
+     * @return the value of the intended type
+     */
+    static Object bind(Type type, byte[] payload) {
+        try {
+            JsonReader reader = new JsonReader(payload);
+            reader.skipWhitespace();
+            Object value = BINDERS.get(type).read(reader);
+            reader.skipWhitespace();
+            if (reader.hasRemaining()) {
+                throw new MalformedJsonException();
+            }
+            return value;
+        } catch (MalformedJsonException e) {
+            // Let the JSON parser report the error.
+            return ValueUtils.convert(JsonUtils.parse(new String(payload, StandardCharsets.UTF_8)), type);
+        }
+    }
+
+    /**
+     * Reads a JSON value of a type.
+     */
+    private interface Binder {
+        Object read(JsonReader reader);
+    }
+
+    private static final class BinderFactory implements BindingPlans.Factory<Binder> {
+
+        @Override
+        public Binder createConverting(Type type) {
+            return new ConvertingBinder(type);
+        }
+
+        @Override
+        public Binder createDeferred(Type type) {
+            return new DeferredBinder(type);
+        }
+
+        @Override
+        public Binder createInt(Type type) {
+            return new IntBinder(type);
+        }
+
+        @Override
+        public Binder createFloat(Type type) {
+            return new FloatBinder(type);
+        }
+
+        @Override
+        public Binder createDecimal(Type type) {
+            return new DecimalBinder(type);
+        }
+
+        @Override
+        public Binder createString(Type type) {
+            return new StringBinder(type);
+        }
+
+        @Override
+        public Binder createBoolean(Type type) {
+            return new BooleanBinder(type);
+        }
+
+        // Byte arrays are encoded as arrays of numbers, which the conversion binds.
+        @Override
+        public Binder createBytes(Type type) {
+            return new ConvertingBinder(type);
+        }
+
+        @Override
+        public Binder createRecord(RecordType type) {
+            return new RecordBinder(type);
+        }
+
+        @Override
+        public Binder createArray(ArrayType type) {
+            return new ArrayBinder(type);
+        }
+
+        @Override
+        public Binder createMap(MapType type) {
+            return new MapBinder(type);
+        }
+    }
+
+    /**
+     * Converts the JSON value using the JSON parser of the runtime.
+     */
+    private static final class ConvertingBinder implements Binder {
+        private final Type type;
+
+        private ConvertingBinder(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            return reader.convertValue(reader.position(), type);
+        }
+    }
+
+    private static final class DeferredBinder implements Binder {
+        private final Type type;
+        private volatile Binder binder;
+
+        private DeferredBinder(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            Binder resolved = binder;
+            if (resolved == null) {
+                resolved = BINDERS.get(type);
+                binder = resolved;
+            }
+            return resolved.read(reader);
+        }
+    }
+
+    private static final class IntBinder implements Binder {
+        private final Type type;
+
+        private IntBinder(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            int start = reader.position();
+            if (reader.isNumberStart()) {
+                String number = reader.readNumber();
+                if (reader.isIntegral()) {
+                    try {
+                        return Long.parseLong(number);
+                    } catch (NumberFormatException e) {
+                        // Out of range, let the conversion report it.
+                    }
+                }
+            }
+            return reader.convertValue(start, type);
+        }
+    }
+
+    private static final class FloatBinder implements Binder {
+        private final Type type;
+
+        private FloatBinder(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            if (reader.isNumberStart()) {
+                return Double.parseDouble(reader.readNumber());
+            }
+            return reader.convertValue(reader.position(), type);
+        }
+    }
+
+    private static final class DecimalBinder implements Binder {
+        private final Type type;
+
+        private DecimalBinder(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            if (reader.isNumberStart()) {
+                return ValueCreator.createDecimalValue(reader.readNumber());
+            }
+            return reader.convertValue(reader.position(), type);
+        }
+    }
+
+    private static final class StringBinder implements Binder {
+        private final Type type;
+
+        private StringBinder(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            if (reader.peek() == '"') {
+                return StringUtils.fromString(reader.readString());
+            }
+            return reader.convertValue(reader.position(), type);
+        }
+    }
+
+    private static final class BooleanBinder implements Binder {
+        private final Type type;
+
+        private BooleanBinder(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            if (reader.peek() == 't') {
+                reader.readLiteral("true");
+                return Boolean.TRUE;
+            } else if (reader.peek() == 'f') {
+                reader.readLiteral("false");
+                return Boolean.FALSE;
+            }
+            return reader.convertValue(reader.position(), type);
+        }
+    }
+
+    private static final class RecordBinder implements Binder {
+        private final RecordType type;
+        private final Module module;
+        private final String name;
+        private final Map<String, FieldBinder> fields = new HashMap<>();
+        private final List<BString> requiredFields = new ArrayList<>();
+        private final Binder restBinder;
+
+        private RecordBinder(RecordType type) {
+            this.type = type;
+            this.module = type.getPackage();
+            this.name = type.getName();
+            for (Map.Entry<String, Field> entry : type.getFields().entrySet()) {
+                BString key = StringUtils.fromString(entry.getKey());
+                fields.put(entry.getKey(), new FieldBinder(key, BINDERS.getMember(entry.getValue().getFieldType())));
+                if (SymbolFlags.isFlagOn(entry.getValue().getFlags(), SymbolFlags.REQUIRED)) {
+                    requiredFields.add(key);
+                }
+            }
+            this.restBinder = type.isSealed() ? null : BINDERS.getMember(type.getRestFieldType());
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            int start = reader.position();
+            if (reader.peek() != '{') {
+                return reader.convertValue(start, type);
+            }
+            BMap<BString, Object> record = ValueCreator.createRecordValue(module, name);
+            reader.expect('{');
+            reader.skipWhitespace();
+            if (reader.peek() == '}') {
+                reader.expect('}');
+            } else {
+                do {
+                    reader.skipWhitespace();
+                    String fieldName = reader.readString();
+                    reader.skipWhitespace();
+                    reader.expect(':');
+                    reader.skipWhitespace();
+                    FieldBinder field = fields.get(fieldName);
+                    if (field != null) {
+                        record.put(field.key, field.binder.read(reader));
+                    } else if (restBinder != null) {
+                        record.put(StringUtils.fromString(fieldName), restBinder.read(reader));
+                    } else {
+                        return reader.convertValue(start, type);
+                    }
+                    reader.skipWhitespace();
+                } while (reader.nextMember('}'));
+            }
+            for (BString requiredField : requiredFields) {
+                if (!record.containsKey(requiredField)) {
+                    return reader.convertValue(start, type);
+                }
+            }
+            return record;
+        }
+    }
+
+    private static final class FieldBinder {
+        private final BString key;
+        private final Binder binder;
+
+        private FieldBinder(BString key, Binder binder) {
+            this.key = key;
+            this.binder = binder;
+        }
+    }
+
+    private static final class ArrayBinder implements Binder {
+        private final ArrayType type;
+        private final int elementTag;
+        private final Binder elementBinder;
+
+        private ArrayBinder(ArrayType type) {
+            this.type = type;
+            this.elementTag = getReferredType(type.getElementType()).getTag();
+            this.elementBinder = BINDERS.getMember(type.getElementType());
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            int start = reader.position();
+            if (reader.peek() != '[') {
+                return reader.convertValue(start, type);
+            }
+            List<Object> elements = new ArrayList<>();
+            reader.expect('[');
+            reader.skipWhitespace();
+            if (reader.peek() == ']') {
+                reader.expect(']');
+            } else {
+                do {
+                    reader.skipWhitespace();
+                    elements.add(elementBinder.read(reader));
+                    reader.skipWhitespace();
+                } while (reader.nextMember(']'));
+            }
+            return BindingPlans.createArray(type, elementTag, elements);
+        }
+    }
+
+    private static final class MapBinder implements Binder {
+        private final MapType type;
+        private final Binder constraintBinder;
+
+        private MapBinder(MapType type) {
+            this.type = type;
+            this.constraintBinder = BINDERS.getMember(type.getConstrainedType());
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            int start = reader.position();
+            if (reader.peek() != '{') {
+                return reader.convertValue(start, type);
+            }
+            BMap<BString, Object> map = ValueCreator.createMapValue(type);
+            reader.expect('{');
+            reader.skipWhitespace();
+            if (reader.peek() == '}') {
+                reader.expect('}');
+                return map;
+            }
+            do {
+                reader.skipWhitespace();
+                BString key = StringUtils.fromString(reader.readString());
+                reader.skipWhitespace();
+                reader.expect(':');
+                reader.skipWhitespace();
+                map.put(key, constraintBinder.read(reader));
+                reader.skipWhitespace();
+            } while (reader.nextMember('}'));
+            return map;
+        }
+    }
+
+    /**
+     * Reads JSON tokens from UTF-8 bytes.
+     */
+    private static final class JsonReader {
+        private final byte[] bytes;
+        private int position;
+        private boolean integral;
+
+        private JsonReader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int position() {
+            return position;
+        }
+
+        boolean hasRemaining() {
+            return position < bytes.length;
+        }
+
+        int peek() {
+            return position < bytes.length ? bytes[position] : -1;
+        }
+
+        void skipWhitespace() {
+            while (position < bytes.length) {
+                byte b = bytes[position];
+                if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                    return;
+                }
+                position++;
+            }
+        }
+
+        void expect(char c) {
+            if (peek() != c) {
+                throw new MalformedJsonException();
+            }
+            position++;
+        }
+
+        // Consumes the separator after a member, returning `false` once the closing character is consumed.
+        boolean nextMember(char close) {
+            int c = peek();
+            if (c == ',') {
+                position++;
+                return true;
+            } else if (c == close) {
+                position++;
+                return false;
+            }
+            throw new MalformedJsonException();
+        }
+
+        void readLiteral(String literal) {
+            int length = literal.length();
+            if (position + length > bytes.length) {
+                throw new MalformedJsonException();
+            }
+            for (int i = 0; i < length; i++) {
+                if (bytes[position + i] != literal.charAt(i)) {
+                    throw new MalformedJsonException();
+                }
+            }
+            position += length;
+        }
+
+        boolean isNumberStart() {
+            int c = peek();
+            return c == '-' || (c >= '0' && c <= '9');
+        }
+
+        String readNumber() {
+            int start = position;
+            integral = true;
+            if (peek() == '-') {
+                position++;
+            }
+            if (peek() == '0') {
+                position++;
+            } else {
+                readDigits();
+            }
+            if (peek() == '.') {
+                integral = false;
+                position++;
+                readDigits();
+            }
+            if (peek() == 'e' || peek() == 'E') {
+                integral = false;
+                position++;
+                if (peek() == '+' || peek() == '-') {
+                    position++;
+                }
+                readDigits();
+            }
+            return new String(bytes, start, position - start, StandardCharsets.US_ASCII);
+        }
+
+        private void readDigits() {
+            int start = position;
+            while (position < bytes.length && bytes[position] >= '0' && bytes[position] <= '9') {
+                position++;
+            }
+            if (position == start) {
+                throw new MalformedJsonException();
+            }
+        }
+
+        // Whether the last number read has neither a fraction nor an exponent.
+        boolean isIntegral() {
+            return integral;
+        }
+
+        String readString() {
+            expect('"');
+            int start = position;
+            while (position < bytes.length) {
+                byte b = bytes[position];
+                if (b == '"') {
+                    String value = new String(bytes, start, position - start, StandardCharsets.UTF_8);
+                    position++;
+                    return value;
+                } else if (b == '\\') {
+                    return readEscapedString(start);
+                } else if (b >= 0 && b < 0x20) {
+                    throw new MalformedJsonException();
+                }
+                position++;
+            }
+            throw new MalformedJsonException();
+        }
+
+        private String readEscapedString(int start) {
+            StringBuilder builder = new StringBuilder();
+            int chunkStart = start;
+            while (position < bytes.length) {
+                byte b = bytes[position];
+                if (b == '"') {
+                    builder.append(new String(bytes, chunkStart, position - chunkStart, StandardCharsets.UTF_8));
+                    position++;
+                    return builder.toString();
+                } else if (b == '\\') {
+                    builder.append(new String(bytes, chunkStart, position - chunkStart, StandardCharsets.UTF_8));
+                    position++;
+                    builder.append(readEscape());
+                    chunkStart = position;
+                } else if (b >= 0 && b < 0x20) {
+                    throw new MalformedJsonException();
+                } else {
+                    position++;
+                }
+            }
+            throw new MalformedJsonException();
+        }
+
+        private char readEscape() {
+            if (position >= bytes.length) {
+                throw new MalformedJsonException();
+            }
+            byte b = bytes[position++];
+            switch (b) {
+                case '"':
+                    return '"';
+                case '\\':
+                    return '\\';
+                case '/':
+                    return '/';
+                case 'b':
+                    return '\b';
+                case 'f':
+                    return '\f';
+                case 'n':
+                    return '\n';
+                case 'r':
+                    return '\r';
+                case 't':
+                    return '\t';
+                case 'u':
+                    if (position + 4 > bytes.length) {
+                        throw new MalformedJsonException();
+                    }
+                    int codeUnit = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(bytes[position++], 16);
+                        if (digit < 0) {
+                            throw new MalformedJsonException();
+                        }
+                        codeUnit = (codeUnit << 4) | digit;
+                    }
+                    return (char) codeUnit;
+                default:
+                    throw new MalformedJsonException();
+            }
+        }
+
+        /**
+         * Converts the JSON value which starts at the given position to the type using the JSON parser of the
+         * runtime, and moves past the value.
+         */
+        Object convertValue(int start, Type type) {
+            position = start;
+            skipValue();
+            String json = new String(bytes, start, position - start, StandardCharsets.UTF_8);
+            return ValueUtils.convert(JsonUtils.parse(json), type);
+        }
+
+        private void skipValue() {
+            int c = peek();
+            if (c == '{' || c == '[') {
+                char close = c == '{' ? '}' : ']';
+                position++;
+                skipWhitespace();
+                if (peek() == close) {
+                    position++;
+                    return;
+                }
+                do {
+                    skipWhitespace();
+                    if (close == '}') {
+                        readString();
+                        skipWhitespace();
+                        expect(':');
+                        skipWhitespace();
+                    }
+                    skipValue();
+                    skipWhitespace();
+                } while (nextMember(close));
+            } else if (c == '"') {
+                readString();
+            } else if (c == 't') {
+                readLiteral("true");
+            } else if (c == 'f') {
+                readLiteral("false");
+            } else if (c == 'n') {
+                readLiteral("null");
+            } else if (isNumberStart()) {
+                readNumber();
+            } else {
+                throw new MalformedJsonException();
+            }
+        }
+    }
+
+    /**
+     * Signals a payload which is not valid JSON. The whole payload is then handed to the JSON parser of the runtime,
+     * which reports the error.
+     */
+    private static final class MalformedJsonException extends RuntimeException {
+        private MalformedJsonException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.nats.client.Message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Accumulates the messages of a service which consumes messages in batches. A batch is handed over to the service
+ * once it reaches the maximum batch size or once the maximum linger time has elapsed since its first message was
+ * received, whichever happens first. Batches are handed over one at a time in the order they were filled.
+ */
+public final class MessageBatcher {
+    private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    private static final long DEFAULT_MAX_LINGER_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final int maxBatchSize;
+    private final long maxLingerNanos;
+    private final BatchConsumer batchConsumer;
+    private final ScheduledExecutorService lingerScheduler;
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<Message> pending;
+    // Identifies the batch being filled, so that a linger timer does not flush a batch other than its own.
+    private long batchId;
+    private ScheduledFuture<?> lingerTask;
+    private boolean closed;
+
+    private MessageBatcher(int maxBatchSize, long maxLingerNanos, BatchConsumer batchConsumer) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxLingerNanos = maxLingerNanos;
+        this.batchConsumer = batchConsumer;
+        this.pending = new ArrayList<>(maxBatchSize);
+        this.lingerScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofVirtual().name("nats-batch-linger-", 0).factory());
+    }
+
+    /**
+     * Creates the batcher from the `nats:BatchConfig` of a service.
+     *
+     * @param batchConfig   the batch configurations or `null` if not given
+     * @param batchConsumer the consumer which delivers a batch to the service
+     * @return the message batcher
+     */
+    public static MessageBatcher fromConfig(BMap<BString, Object> batchConfig, BatchConsumer batchConsumer) {
+        if (batchConfig == null) {
+            return new MessageBatcher(DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_LINGER_NANOS, batchConsumer);
+        }
+        long maxBatchSize = batchConfig.getIntValue(Constants.MAX_BATCH_SIZE);
+        BDecimal maxLinger = (BDecimal) batchConfig.get(Constants.MAX_LINGER);
+        if (maxBatchSize <= 0 || maxBatchSize > Integer.MAX_VALUE) {
+            throw Utils.createNatsError("The maximum batch size should be a positive integer");
+        }
+        if (maxLinger.decimalValue().signum() <= 0) {
+            throw Utils.createNatsError("The maximum batch linger time should be greater than 0");
+        }
+        long maxLingerNanos = Utils.getDuration(maxLinger).toNanos();
+        return new MessageBatcher((int) maxBatchSize, Math.max(maxLingerNanos, 1), batchConsumer);
+    }
+
+    /**
+     * Adds a message to the current batch. If the batch is full, it is handed over to the service on the calling
+     * thread.
+     *
+     * @param message the received message
+     * @return `false` if the batcher is closed and the message was not accepted
+     * @throws InterruptedException if interrupted while handing over the batch
+     */
+    public boolean add(Message message) throws InterruptedException {
+        lock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            pending.add(message);
+            if (pending.size() >= maxBatchSize) {
+                flushPending();
+            } else if (pending.size() == 1) {
+                long currentBatchId = batchId;
+                lingerTask = lingerScheduler.schedule(() -> onLingerExpired(currentBatchId), maxLingerNanos,
+                        TimeUnit.NANOSECONDS);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting messages.
+     *
+     * @param immediate whether to discard the messages of the current batch rather than handing them over
+     */
+    public void close(boolean immediate) {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (!immediate && !pending.isEmpty()) {
+                flushPending();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pending = new ArrayList<>(0);
+            lock.unlock();
+            lingerScheduler.shutdownNow();
+        }
+    }
+
+    private void onLingerExpired(long expiredBatchId) {
+        lock.lock();
+        try {
+            if (!closed && batchId == expiredBatchId && !pending.isEmpty()) {
+                flushPending();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Must be called while holding the lock. Holding the lock while handing over the batch keeps the batches in
+    // order and holds back the caller when the service cannot keep up.
+    private void flushPending() throws InterruptedException {
+        if (lingerTask != null) {
+            lingerTask.cancel(false);
+            lingerTask = null;
+        }
+        List<Message> batch = pending;
+        pending = new ArrayList<>(maxBatchSize);
+        batchId++;
+        batchConsumer.accept(batch);
+    }
+
+    /**
+     * Delivers a batch of messages to the service.
+     */
+    @FunctionalInterface
+    public interface BatchConsumer {
+        void accept(List<Message> batch) throws InterruptedException;
+    }
+}
@@ -28,19 +28,21 @@ import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.types.UnionType;
-import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
-import io.ballerina.runtime.api.utils.ValueUtils;
 import io.ballerina.runtime.api.utils.XmlUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.stdlib.constraint.Constraints;
+import io.ballerina.stdlib.nats.codec.PayloadCodec;
 
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -62,6 +64,9 @@ import static io.ballerina.stdlib.nats.Constants.PAYLOAD_VALIDATION_ERROR;
  */
 public class Utils {
 
+    private static final BigDecimal NANOSECOND_MULTIPLIER = new BigDecimal(1_000_000_000);
+    private static final BigDecimal MAX_NANOSECONDS = BigDecimal.valueOf(Long.MAX_VALUE);
+
     private static Module natsModule = null;
 
     private Utils() {
@@ -133,29 +138,40 @@ public class Utils {
     }
 
     public static Object getValueWithIntendedType(Type type, byte[] value) throws BError {
-        String strValue = new String(value, StandardCharsets.UTF_8);
+        return getValueWithIntendedType(type, value, null);
+    }
+
+    /**
+     * Binds a payload to the intended type. Structured content is decoded with the given codec, while byte array,
+     * string and xml content is taken as it is.
+     *
+     * @param type  the intended type
+     * @param value the payload
+     * @param codec the codec of the payload or `null` for JSON
+     * @return the value of the intended type
+     */
+    public static Object getValueWithIntendedType(Type type, byte[] value, PayloadCodec codec) throws BError {
         try {
             switch (type.getTag()) {
                 case STRING_TAG:
-                    return StringUtils.fromString(strValue);
+                    return StringUtils.fromString(new String(value, StandardCharsets.UTF_8));
                 case XML_TAG:
-                    return XmlUtils.parse(strValue);
+                    return XmlUtils.parse(new String(value, StandardCharsets.UTF_8));
                 case ANYDATA_TAG:
                     return ValueCreator.createArrayValue(value);
-                case RECORD_TYPE_TAG:
-                    return ValueUtils.convert(JsonUtils.parse(strValue), type);
                 case UNION_TAG:
                     if (hasStringType((UnionType) type)) {
-                        return StringUtils.fromString(strValue);
+                        return StringUtils.fromString(new String(value, StandardCharsets.UTF_8));
                     }
-                    return getValueFromJson(type, strValue);
+                    return codec != null ? codec.decode(value, type) : JsonPayloadBinder.bind(type, value);
                 case ARRAY_TAG:
                     if (getReferredType(((ArrayType) type).getElementType()).getTag() == BYTE_TAG) {
                         return ValueCreator.createArrayValue(value);
                     }
                     /*-fallthrough*/
                 default:
-                    return getValueFromJson(type, strValue);
+                    // Records, arrays, maps and the rest are bound from the structured payload.
+                    return codec != null ? codec.decode(value, type) : JsonPayloadBinder.bind(type, value);
             }
         } catch (BError bError) {
             throw createNatsError(String.format("Data binding failed: %s", bError.getMessage()), bError);
@@ -171,10 +187,6 @@ public class Utils {
         });
     }
 
-    private static Object getValueFromJson(Type type, String stringValue) {
-        return ValueUtils.convert(JsonUtils.parse(stringValue), type);
-    }
-
     public static Object validateConstraints(Object value, BTypedesc bTypedesc, boolean constraintValidation) {
         if (constraintValidation) {
             Object validationResult = Constraints.validate(value, bTypedesc);
@@ -193,6 +205,18 @@ public class Utils {
         return ValueCreator.createTypedescValue((bTypeDesc.getDescribingType()));
     }
 
+    /**
+     * Converts a duration given in seconds to a {@link Duration} of nanosecond precision. Negative values are
+     * treated as 0 and values beyond the range of a long nanosecond value are capped.
+     *
+     * @param seconds the duration in seconds
+     * @return the duration
+     */
+    public static Duration getDuration(BDecimal seconds) {
+        BigDecimal valueInNanoSeconds = seconds.decimalValue().multiply(NANOSECOND_MULTIPLIER);
+        return Duration.ofNanos(valueInNanoSeconds.min(MAX_NANOSECONDS).max(BigDecimal.ZERO).longValue());
+    }
+
     public static Map<String, Object> getProperties(String resourceName) {
         Map<String, Object> properties = new HashMap<>();
         properties.put("moduleOrg", getModule().getOrg());
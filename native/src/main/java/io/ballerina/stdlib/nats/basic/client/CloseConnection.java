@@ -22,7 +22,6 @@ import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.stdlib.nats.Constants;
 import io.ballerina.stdlib.nats.Utils;
 import io.ballerina.stdlib.nats.observability.NatsMetricsReporter;
-import io.nats.client.Connection;
 
 
 /**
@@ -33,9 +32,9 @@ import io.nats.client.Connection;
 public class CloseConnection {
 
     public static Object close(BObject clientObject) {
-        Connection connection = (Connection) clientObject.getNativeData(Constants.NATS_CONNECTION);
+        ConnectionPool connectionPool = (ConnectionPool) clientObject.getNativeData(Constants.CONNECTION_POOL);
         try {
-            connection.close();
+            connectionPool.close();
         } catch (InterruptedException e) {
             return Utils.createNatsError("Error while closing the connection", e);
         }
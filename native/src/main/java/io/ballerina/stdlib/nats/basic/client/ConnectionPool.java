@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.basic.client;
+
+import io.nats.client.Connection;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The connections of a client. Each connection has its own outgoing queue and writer, hence spreading the publishes
+ * over the connections lets them be written in parallel. Publishes are routed either by the hash of their subject,
+ * which keeps the messages of a subject in order, or round-robin.
+ */
+final class ConnectionPool {
+    private final Connection[] connections;
+    private final boolean routedBySubject;
+    private final AtomicInteger next = new AtomicInteger();
+
+    ConnectionPool(Connection[] connections, boolean routedBySubject) {
+        this.connections = connections;
+        this.routedBySubject = routedBySubject;
+    }
+
+    /**
+     * Returns the connection of a message to the given subject.
+     */
+    Connection select(String subject) {
+        if (connections.length == 1) {
+            return connections[0];
+        }
+        int index = routedBySubject ? subject.hashCode() : next.getAndIncrement();
+        return connections[Math.floorMod(index, connections.length)];
+    }
+
+    /**
+     * Flushes the outgoing buffers of all the connections.
+     */
+    void flushBuffers() throws IOException {
+        for (Connection connection : connections) {
+            connection.flushBuffer();
+        }
+    }
+
+    /**
+     * Closes all the connections.
+     *
+     * @throws InterruptedException if interrupted while closing, in which case the rest of the connections are
+     *                              still closed
+     */
+    void close() throws InterruptedException {
+        InterruptedException interrupted = null;
+        for (Connection connection : connections) {
+            try {
+                connection.close();
+            } catch (InterruptedException e) {
+                interrupted = e;
+            }
+        }
+        if (interrupted != null) {
+            throw interrupted;
+        }
+    }
+}
@@ -24,6 +24,8 @@ import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.nats.Constants;
 import io.ballerina.stdlib.nats.Utils;
+import io.ballerina.stdlib.nats.codec.PayloadCodecs;
+import io.ballerina.stdlib.nats.compression.PayloadCompressor;
 import io.ballerina.stdlib.nats.connection.ConnectionUtils;
 import io.ballerina.stdlib.nats.observability.NatsMetricsReporter;
 import io.nats.client.Connection;
@@ -36,15 +38,35 @@ import static io.ballerina.stdlib.nats.Constants.CONSTRAINT_VALIDATION;
  * @since 0.995
  */
 public class Init {
+    // Each connection takes its own socket, reader and writer threads.
+    private static final int MAX_CONNECTION_POOL_SIZE = 64;
 
     public static Object clientInit(BObject clientObj, Object url, BMap<BString, Object> connectionConfig) {
-        Connection natsConnection;
+        long poolSize = connectionConfig.getIntValue(Constants.CONNECTION_POOL_SIZE);
+        if (poolSize <= 0 || poolSize > MAX_CONNECTION_POOL_SIZE) {
+            return Utils.createNatsError("The connection pool size should be between 1 and " +
+                    MAX_CONNECTION_POOL_SIZE + ".");
+        }
+        Connection[] connections = new Connection[(int) poolSize];
         try {
-            natsConnection = ConnectionUtils.getNatsConnection(url, connectionConfig);
+            clientObj.addNativeData(Constants.PAYLOAD_CODEC, PayloadCodecs.fromConfig(
+                    connectionConfig.getStringValue(Constants.CONTENT_TYPE).getValue()));
+            @SuppressWarnings("unchecked")
+            BMap<BString, Object> compressionConfig = (BMap<BString, Object>) connectionConfig.getMapValue(
+                    Constants.COMPRESSION);
+            clientObj.addNativeData(Constants.PAYLOAD_COMPRESSOR, PayloadCompressor.fromConfig(compressionConfig));
+            for (int i = 0; i < connections.length; i++) {
+                connections[i] = ConnectionUtils.getNatsConnection(url, connectionConfig);
+            }
         } catch (Exception e) {
+            closeOpenedConnections(connections);
             String errorMsg = "error occurred while setting up the connection.";
             return Utils.createNatsError(errorMsg, e);
         }
+        Connection natsConnection = connections[0];
+        boolean routedBySubject = Constants.ROUTING_SUBJECT_HASH.equals(
+                connectionConfig.getStringValue(Constants.CONNECTION_ROUTING).getValue());
+        clientObj.addNativeData(Constants.CONNECTION_POOL, new ConnectionPool(connections, routedBySubject));
         clientObj.addNativeData(Constants.NATS_METRIC_UTIL, new NatsMetricsReporter(natsConnection));
         clientObj.addNativeData(Constants.NATS_CONNECTION, natsConnection);
         clientObj.addNativeData(CONSTRAINT_VALIDATION,
@@ -52,4 +74,18 @@ public class Init {
         ((NatsMetricsReporter) clientObj.getNativeData(Constants.NATS_METRIC_UTIL)).reportNewClient();
         return null;
     }
+
+    private static void closeOpenedConnections(Connection[] connections) {
+        for (Connection connection : connections) {
+            if (connection == null) {
+                return;
+            }
+            try {
+                connection.close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
 }
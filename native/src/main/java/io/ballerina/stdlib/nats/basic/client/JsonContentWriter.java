@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.basic.client;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.nats.codec.WriterPool;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Serializes anydata values into UTF-8 encoded JSON, producing the same text as `value:toJsonString` without
+ * building the intermediate Ballerina string. The values are written into a pooled buffer, so that a publish only
+ * allocates the resulting byte array.
+ */
+final class JsonContentWriter {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final WriterPool<JsonContentWriter> POOL = new WriterPool<>(JsonContentWriter::new);
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int count;
+
+    private JsonContentWriter() {
+    }
+
+    /**
+     * Serializes a value into JSON.
+     *
+     * @param value the anydata value
+     * @return the UTF-8 encoded JSON text
+     */
+    static byte[] toJsonBytes(Object value) {
+        JsonContentWriter writer = POOL.acquire();
+        try {
+            writer.writeValue(value);
+            return Arrays.copyOf(writer.buffer, writer.count);
+        } finally {
+            writer.count = 0;
+            POOL.release(writer, writer.buffer.length);
+        }
+    }
+
+    private void writeValue(Object value) {
+        if (value == null) {
+            writeAscii("null");
+        } else if (value instanceof BString) {
+            writeString(((BString) value).getValue());
+        } else if (value instanceof Long || value instanceof Integer) {
+            writeAscii(value.toString());
+        } else if (value instanceof Boolean) {
+            writeAscii((Boolean) value ? "true" : "false");
+        } else if (value instanceof BMap) {
+            writeMap((BMap<?, ?>) value);
+        } else if (value instanceof BArray) {
+            writeArray((BArray) value);
+        } else {
+            // Floats, decimals, xml and tables are rare enough in payloads to use the runtime's representation.
+            writeUtf8(StringUtils.getJsonString(value));
+        }
+    }
+
+    private void writeMap(BMap<?, ?> map) {
+        writeByte('{');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!first) {
+                writeByte(',');
+                writeByte(' ');
+            }
+            first = false;
+            Object key = entry.getKey();
+            writeString(key instanceof BString ? ((BString) key).getValue() : String.valueOf(key));
+            writeByte(':');
+            writeValue(entry.getValue());
+        }
+        writeByte('}');
+    }
+
+    private void writeArray(BArray array) {
+        writeByte('[');
+        int size = array.size();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                writeByte(',');
+                writeByte(' ');
+            }
+            writeValue(array.get(i));
+        }
+        writeByte(']');
+    }
+
+    private void writeString(String value) {
+        writeByte('"');
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    writeByte('\\');
+                    writeByte('"');
+                    break;
+                case '\\':
+                    writeByte('\\');
+                    writeByte('\\');
+                    break;
+                case '\b':
+                    writeByte('\\');
+                    writeByte('b');
+                    break;
+                case '\f':
+                    writeByte('\\');
+                    writeByte('f');
+                    break;
+                case '\n':
+                    writeByte('\\');
+                    writeByte('n');
+                    break;
+                case '\r':
+                    writeByte('\\');
+                    writeByte('r');
+                    break;
+                case '\t':
+                    writeByte('\\');
+                    writeByte('t');
+                    break;
+                default:
+                    if (c < 0x20) {
+                        writeAscii("\\u00");
+                        writeByte(HEX_DIGITS[c >> 4]);
+                        writeByte(HEX_DIGITS[c & 0xF]);
+                    } else if (c < 0x80) {
+                        writeByte(c);
+                    } else {
+                        i = writeNonAscii(value, i);
+                    }
+            }
+        }
+        writeByte('"');
+    }
+
+    // Writes the UTF-8 encoding of the character at the given index, returning the index of its last char.
+    private int writeNonAscii(String value, int index) {
+        char c = value.charAt(index);
+        if (c < 0x800) {
+            writeByte(0xC0 | (c >> 6));
+            writeByte(0x80 | (c & 0x3F));
+            return index;
+        }
+        if (Character.isHighSurrogate(c) && index + 1 < value.length() &&
+                Character.isLowSurrogate(value.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+            writeByte(0xF0 | (codePoint >> 18));
+            writeByte(0x80 | ((codePoint >> 12) & 0x3F));
+            writeByte(0x80 | ((codePoint >> 6) & 0x3F));
+            writeByte(0x80 | (codePoint & 0x3F));
+            return index + 1;
+        }
+        if (Character.isSurrogate(c)) {
+            // Unpaired surrogates are replaced as the UTF-8 encoder of the JDK does.
+            writeByte('?');
+            return index;
+        }
+        writeByte(0xE0 | (c >> 12));
+        writeByte(0x80 | ((c >> 6) & 0x3F));
+        writeByte(0x80 | (c & 0x3F));
+        return index;
+    }
+
+    private void writeAscii(String value) {
+        int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[count++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeUtf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, count, bytes.length);
+        count += bytes.length;
+    }
+
+    private void writeByte(int b) {
+        ensureCapacity(1);
+        buffer[count++] = (byte) b;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (count + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + additional));
+        }
+    }
+}
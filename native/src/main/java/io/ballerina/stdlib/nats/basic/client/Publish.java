@@ -19,20 +19,32 @@
 package io.ballerina.stdlib.nats.basic.client;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.stdlib.nats.Constants;
 import io.ballerina.stdlib.nats.Utils;
+import io.ballerina.stdlib.nats.codec.PayloadCodec;
+import io.ballerina.stdlib.nats.codec.PayloadCodecs;
+import io.ballerina.stdlib.nats.compression.PayloadCompressor;
 import io.ballerina.stdlib.nats.observability.NatsMetricsReporter;
 import io.ballerina.stdlib.nats.observability.NatsObservabilityConstants;
 import io.ballerina.stdlib.nats.observability.NatsTracingUtil;
 import io.nats.client.Connection;
+import io.nats.client.impl.Headers;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Extern function to publish message to a given subject.
@@ -41,27 +53,132 @@ import io.nats.client.Connection;
  */
 public class Publish {
 
-    public static Object publish(Environment environment, BObject clientObject,
+    private static final BString SUBJECT_KEY = StringUtils.fromString(Constants.MESSAGE_SUBJECT);
+    private static final BString CONTENT_KEY = StringUtils.fromString(Constants.MESSAGE_CONTENT);
+    private static final BString REPLY_TO_KEY = StringUtils.fromString(Constants.MESSAGE_REPLY_TO);
+
+    public static Object publishMessage(Environment environment, BObject clientObject,
                                         BMap<BString, Object> message) {
-        String subject = message.getStringValue(StringUtils.fromString(Constants.MESSAGE_SUBJECT)).getValue();
-        BArray data = message.getArrayValue(StringUtils.fromString(Constants.MESSAGE_CONTENT));
-        Object replyTo = message.get(StringUtils.fromString(Constants.MESSAGE_REPLY_TO));
+        String subject = message.getStringValue(SUBJECT_KEY).getValue();
+        Object replyTo = message.get(REPLY_TO_KEY);
         NatsTracingUtil.traceResourceInvocation(environment, clientObject, subject);
-        Connection natsConnection = (Connection) clientObject.getNativeData(Constants.NATS_CONNECTION);
+        Connection natsConnection = ((ConnectionPool) clientObject.getNativeData(Constants.CONNECTION_POOL))
+                .select(subject);
         NatsMetricsReporter natsMetricsReporter =
                 (NatsMetricsReporter) clientObject.getNativeData(Constants.NATS_METRIC_UTIL);
-        byte[] byteContent = data.getBytes();
+        PayloadCodec codec = (PayloadCodec) clientObject.getNativeData(Constants.PAYLOAD_CODEC);
+        PayloadCompressor compressor = (PayloadCompressor) clientObject.getNativeData(Constants.PAYLOAD_COMPRESSOR);
         try {
-            if (TypeUtils.getType(replyTo).getTag() == TypeTags.STRING_TAG) {
-                natsConnection.publish(subject, ((BString) replyTo).getValue(), byteContent);
-            } else {
-                natsConnection.publish(subject, byteContent);
-            }
-            natsMetricsReporter.reportPublish(subject, byteContent.length);
+            int publishedBytes = publish(natsConnection, subject, replyTo, message.get(CONTENT_KEY), codec,
+                    compressor);
+            natsMetricsReporter.reportPublish(subject, publishedBytes);
         } catch (IllegalArgumentException | IllegalStateException ex) {
             natsMetricsReporter.reportProducerError(subject, NatsObservabilityConstants.ERROR_TYPE_PUBLISH);
             return Utils.createNatsError(Constants.PRODUCER_ERROR + subject, ex);
+        } catch (BError bError) {
+            natsMetricsReporter.reportProducerError(subject, NatsObservabilityConstants.ERROR_TYPE_PUBLISH);
+            return bError;
         }
         return null;
     }
+
+    /**
+     * Publishes a batch of messages with a single native call. All the messages are written to the outgoing buffers
+     * of the connections and the buffers are flushed once at the end. Metrics are reported once per subject of the
+     * batch. If a message cannot be published, the messages before it are already buffered and the returned error
+     * points to the index of the failed message.
+     *
+     * @param environment  the environment of the call
+     * @param clientObject the client object
+     * @param messages     the messages to be published
+     * @return `()` or else a `nats:Error` if an error occurred
+     */
+    public static Object publishMessages(Environment environment, BObject clientObject, BArray messages) {
+        int batchSize = messages.size();
+        if (batchSize == 0) {
+            return null;
+        }
+        ConnectionPool connectionPool = (ConnectionPool) clientObject.getNativeData(Constants.CONNECTION_POOL);
+        NatsMetricsReporter natsMetricsReporter =
+                (NatsMetricsReporter) clientObject.getNativeData(Constants.NATS_METRIC_UTIL);
+        PayloadCodec codec = (PayloadCodec) clientObject.getNativeData(Constants.PAYLOAD_CODEC);
+        PayloadCompressor compressor = (PayloadCompressor) clientObject.getNativeData(Constants.PAYLOAD_COMPRESSOR);
+        // Number of messages and number of bytes published per subject
+        Map<String, long[]> publishedSubjects = new LinkedHashMap<>();
+        String subject = null;
+        try {
+            for (int i = 0; i < batchSize; i++) {
+                @SuppressWarnings("unchecked")
+                BMap<BString, Object> message = (BMap<BString, Object>) messages.get(i);
+                subject = message.getStringValue(SUBJECT_KEY).getValue();
+                int publishedBytes;
+                try {
+                    publishedBytes = publish(connectionPool.select(subject), subject, message.get(REPLY_TO_KEY),
+                            message.get(CONTENT_KEY), codec, compressor);
+                } catch (IllegalArgumentException | IllegalStateException | BError ex) {
+                    natsMetricsReporter.reportProducerError(subject, NatsObservabilityConstants.ERROR_TYPE_PUBLISH);
+                    return Utils.createNatsError(String.format("Error occurred while publishing the message at " +
+                            "index %d of the batch to subject %s", i, subject), ex);
+                }
+                long[] published = publishedSubjects.computeIfAbsent(subject, key -> new long[2]);
+                published[0]++;
+                published[1] += publishedBytes;
+            }
+            connectionPool.flushBuffers();
+        } catch (IOException | IllegalStateException ex) {
+            natsMetricsReporter.reportProducerError(subject, NatsObservabilityConstants.ERROR_TYPE_PUBLISH);
+            return Utils.createNatsError("Error occurred while flushing the published messages", ex);
+        } finally {
+            if (publishedSubjects.isEmpty()) {
+                NatsTracingUtil.traceResourceInvocation(environment, clientObject, subject, 1);
+            } else {
+                NatsTracingUtil.traceResourceInvocation(environment, clientObject,
+                        publishedSubjects.keySet().iterator().next(), publishedSubjects.size());
+            }
+            for (Map.Entry<String, long[]> entry : publishedSubjects.entrySet()) {
+                natsMetricsReporter.reportPublish(entry.getKey(), entry.getValue()[0], entry.getValue()[1]);
+            }
+        }
+        return null;
+    }
+
+    // Encodes, compresses and publishes the content, returning the number of bytes published.
+    private static int publish(Connection natsConnection, String subject, Object replyTo, Object content,
+                               PayloadCodec codec, PayloadCompressor compressor) {
+        byte[] byteContent = encodeContent(content, codec);
+        Headers headers = codec != null && PayloadCodecs.isEncoded(content) ? PayloadCodecs.createHeaders(codec) :
+                null;
+        if (compressor != null) {
+            byte[] compressed = compressor.compress(byteContent);
+            if (compressed != byteContent) {
+                byteContent = compressed;
+                headers = compressor.addEncoding(headers);
+            }
+        }
+        if (replyTo instanceof BString) {
+            natsConnection.publish(subject, ((BString) replyTo).getValue(), headers, byteContent);
+        } else {
+            natsConnection.publish(subject, headers, byteContent);
+        }
+        return byteContent.length;
+    }
+
+    /**
+     * Encodes the content of an `AnydataMessage`. Byte arrays are published as they are, strings and xml as their
+     * UTF-8 encoded text and any other value with the codec of the client or, if the client uses JSON, as its JSON
+     * text, as given by `value:toJsonString`.
+     */
+    static byte[] encodeContent(Object content, PayloadCodec codec) {
+        Type contentType = TypeUtils.getReferredType(TypeUtils.getType(content));
+        int typeTag = contentType.getTag();
+        if (typeTag == TypeTags.ARRAY_TAG &&
+                TypeUtils.getReferredType(((ArrayType) contentType).getElementType()).getTag() == TypeTags.BYTE_TAG) {
+            return ((BArray) content).getBytes();
+        } else if (content instanceof BXml) {
+            return content.toString().getBytes(StandardCharsets.UTF_8);
+        } else if (content instanceof BString) {
+            return ((BString) content).getValue().getBytes(StandardCharsets.UTF_8);
+        }
+        return codec != null ? codec.encode(content) : JsonContentWriter.toJsonBytes(content);
+    }
 }
@@ -34,16 +34,21 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.stdlib.nats.Constants;
 import io.ballerina.stdlib.nats.Utils;
+import io.ballerina.stdlib.nats.codec.PayloadCodec;
+import io.ballerina.stdlib.nats.codec.PayloadCodecs;
+import io.ballerina.stdlib.nats.compression.PayloadCompressor;
 import io.ballerina.stdlib.nats.observability.NatsMetricsReporter;
 import io.ballerina.stdlib.nats.observability.NatsObservabilityConstants;
 import io.ballerina.stdlib.nats.observability.NatsTracingUtil;
 import io.nats.client.Connection;
 import io.nats.client.Message;
+import io.nats.client.impl.Headers;
 
-import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -59,36 +64,36 @@ import static io.ballerina.stdlib.nats.Utils.validateConstraints;
  * @since 0.995
  */
 public class Request {
-    private static final BigDecimal MILLISECOND_MULTIPLIER = new BigDecimal(1000);
-    
+
     @SuppressWarnings("unused")
     public static Object requestMessage(Environment environment, BObject clientObj, BMap<BString, Object> message,
                                        Object duration, BTypedesc bTypedesc) {
         String subject = message.getStringValue(StringUtils.fromString(Constants.MESSAGE_SUBJECT)).getValue();
         Object data = message.get(StringUtils.fromString(Constants.MESSAGE_CONTENT));
         NatsTracingUtil.traceResourceInvocation(environment, clientObj, subject);
-        Connection natsConnection = (Connection) clientObj.getNativeData(Constants.NATS_CONNECTION);
+        Connection natsConnection = ((ConnectionPool) clientObj.getNativeData(Constants.CONNECTION_POOL))
+                .select(subject);
         NatsMetricsReporter natsMetricsReporter =
                 (NatsMetricsReporter) clientObj.getNativeData(Constants.NATS_METRIC_UTIL);
-        byte[] byteContent = convertDataIntoByteArray(data, TypeUtils.getType(data));
+        PayloadCodec codec = (PayloadCodec) clientObj.getNativeData(Constants.PAYLOAD_CODEC);
+        PayloadCompressor compressor = (PayloadCompressor) clientObj.getNativeData(Constants.PAYLOAD_COMPRESSOR);
         try {
-            Message reply = environment.yieldAndRun(() -> {
-                Message replyVal;
-                Future<Message> incoming = natsConnection.request(subject, byteContent);
-                natsMetricsReporter.reportRequest(subject, byteContent.length);
-                try {
-                    if (TypeUtils.getType(duration).getTag() == TypeTags.DECIMAL_TAG) {
-                        BigDecimal valueInSeconds = ((BDecimal) duration).decimalValue();
-                        int valueInMilliSeconds = (valueInSeconds).multiply(MILLISECOND_MULTIPLIER).intValue();
-                        replyVal = incoming.get(valueInMilliSeconds, TimeUnit.MILLISECONDS);
-                    } else {
-                        replyVal = incoming.get();
-                    }
-                    return replyVal;
-                } catch (InterruptedException | TimeoutException | ExecutionException ex) {
-                    throw Utils.createNatsError("Error while requesting message to subject " + subject + ".", ex);
-                }
-            });
+            byte[] encodedContent;
+            Headers encodedHeaders;
+            if (codec != null && PayloadCodecs.isEncoded(data)) {
+                encodedContent = codec.encode(data);
+                encodedHeaders = PayloadCodecs.createHeaders(codec);
+            } else {
+                encodedContent = convertDataIntoByteArray(data, TypeUtils.getType(data));
+                encodedHeaders = null;
+            }
+            byte[] byteContent = compressor != null ? compressor.compress(encodedContent) : encodedContent;
+            Headers headers = byteContent != encodedContent ? compressor.addEncoding(encodedHeaders) :
+                    encodedHeaders;
+            Duration timeout = getRequestTimeout(duration);
+            // The strand runs on a virtual thread, hence waiting for the reply only unmounts it from its carrier.
+            Message reply = environment.yieldAndRun(() -> awaitReply(natsConnection, natsMetricsReporter, subject,
+                    headers, byteContent, timeout));
             RecordType recordType = Utils.getRecordType(bTypedesc);
 
             BMap<BString, Object> msgRecord = ValueCreator.createRecordValue(recordType);
@@ -96,7 +101,8 @@ public class Request {
             Type contentType = getReferredType(fieldMap.get(Constants.MESSAGE_CONTENT).getFieldType());
 
             BMap<BString, Object> populatedRecord = ValueCreator.createRecordValue(msgRecord,
-                    Utils.getValueWithIntendedType(contentType, reply.getData()),
+                    Utils.getValueWithIntendedType(contentType, PayloadCompressor.decompress(reply),
+                            PayloadCodecs.forMessage(reply, codec)),
                     StringUtils.fromString(reply.getSubject()),
                     StringUtils.fromString(reply.getReplyTo()));
             boolean constraintValidation = (boolean) clientObj.getNativeData(CONSTRAINT_VALIDATION);
@@ -111,4 +117,32 @@ public class Request {
             return bError;
         }
     }
+
+    private static Message awaitReply(Connection natsConnection, NatsMetricsReporter natsMetricsReporter,
+                                      String subject, Headers headers, byte[] byteContent, Duration timeout) {
+        CompletableFuture<Message> incoming = timeout == null ? natsConnection.request(subject, headers, byteContent) :
+                natsConnection.requestWithTimeout(subject, headers, byteContent, timeout);
+        natsMetricsReporter.reportRequest(subject, byteContent.length);
+        try {
+            if (timeout == null) {
+                return incoming.get();
+            }
+            return incoming.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            incoming.cancel(true);
+            throw Utils.createNatsError("Error while requesting message to subject " + subject + ".", ex);
+        } catch (TimeoutException | ExecutionException | CancellationException ex) {
+            // Requests on the shared inbox are cancelled by the connection once they are stale
+            incoming.cancel(true);
+            throw Utils.createNatsError("Error while requesting message to subject " + subject + ".", ex);
+        }
+    }
+
+    private static Duration getRequestTimeout(Object duration) {
+        if (TypeUtils.getType(duration).getTag() != TypeTags.DECIMAL_TAG) {
+            return null;
+        }
+        return Utils.getDuration((BDecimal) duration);
+    }
 }
@@ -21,14 +21,8 @@ package io.ballerina.stdlib.nats.basic.consumer;
 import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.IntersectionType;
-import io.ballerina.runtime.api.types.MethodType;
-import io.ballerina.runtime.api.types.ObjectType;
-import io.ballerina.runtime.api.types.Parameter;
 import io.ballerina.runtime.api.types.PredefinedTypes;
-import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
@@ -40,29 +34,33 @@ import io.ballerina.runtime.observability.ObservabilityConstants;
 import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.stdlib.nats.Constants;
 import io.ballerina.stdlib.nats.Handler;
+import io.ballerina.stdlib.nats.InFlightTracker;
+import io.ballerina.stdlib.nats.MessageBatcher;
 import io.ballerina.stdlib.nats.Utils;
+import io.ballerina.stdlib.nats.basic.consumer.ServiceDispatchPlan.ParameterBinding;
+import io.ballerina.stdlib.nats.basic.consumer.ServiceDispatchPlan.ResourcePlan;
+import io.ballerina.stdlib.nats.codec.PayloadCodec;
+import io.ballerina.stdlib.nats.codec.PayloadCodecs;
+import io.ballerina.stdlib.nats.compression.PayloadCompressor;
 import io.ballerina.stdlib.nats.observability.NatsMetricsReporter;
 import io.ballerina.stdlib.nats.observability.NatsObservabilityConstants;
 import io.ballerina.stdlib.nats.observability.NatsObserverContext;
 import io.nats.client.Connection;
 import io.nats.client.Message;
 import io.nats.client.MessageHandler;
+import io.nats.client.impl.Headers;
 import org.ballerinalang.langlib.value.CloneReadOnly;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 
-import static io.ballerina.runtime.api.types.TypeTags.INTERSECTION_TAG;
-import static io.ballerina.runtime.api.types.TypeTags.RECORD_TYPE_TAG;
-import static io.ballerina.runtime.api.utils.TypeUtils.getReferredType;
 import static io.ballerina.stdlib.nats.Constants.CONSTRAINT_VALIDATION;
-import static io.ballerina.stdlib.nats.Constants.IS_ANYDATA_MESSAGE;
 import static io.ballerina.stdlib.nats.Constants.MESSAGE_CONTENT;
-import static io.ballerina.stdlib.nats.Constants.PARAM_ANNOTATION_PREFIX;
-import static io.ballerina.stdlib.nats.Constants.PARAM_PAYLOAD_ANNOTATION_NAME;
-import static io.ballerina.stdlib.nats.Constants.TYPE_CHECKER_OBJECT_NAME;
 import static io.ballerina.stdlib.nats.Utils.createPayloadBindingError;
-import static io.ballerina.stdlib.nats.Utils.getElementTypeDescFromArrayTypeDesc;
 import static io.ballerina.stdlib.nats.Utils.getModule;
 import static io.ballerina.stdlib.nats.Utils.validateConstraints;
 
@@ -73,22 +71,53 @@ import static io.ballerina.stdlib.nats.Utils.validateConstraints;
  */
 public class DefaultMessageHandler implements MessageHandler {
 
+    private static final BString MESSAGE_CONTENT_KEY = StringUtils.fromString(MESSAGE_CONTENT);
+    private static final BString MESSAGE_SUBJECT_KEY = StringUtils.fromString(Constants.MESSAGE_SUBJECT);
+    private static final BString MESSAGE_REPLY_TO_KEY = StringUtils.fromString(Constants.MESSAGE_REPLY_TO);
+    // Batches are not split by the ordering key. Hence, all the batches of a key-ordered service are processed one
+    // at a time.
+    private static final String BATCH_ORDERING_KEY = "";
+
     // Resource which the message should be dispatched.
     private final BObject serviceObject;
+    private final ServiceDispatchPlan dispatchPlan;
     private final String connectedUrl;
     private final Runtime runtime;
     private final NatsMetricsReporter natsMetricsReporter;
     private final Connection natsConnection;
-    private final BObject listenerObj;
+    private final boolean constraintValidation;
+    // Decodes the messages without a `Content-Type` header. `null` for JSON.
+    private final PayloadCodec payloadCodec;
+    // Bounds the number of resource invocations running at a time. `null` if unbounded.
+    private final Semaphore concurrencyLimiter;
+    // Serializes the resource invocations of each ordering key. `null` if messages are dispatched concurrently.
+    private final KeyOrderedExecutor orderedExecutor;
+    // Whether the resource invocations run on the dispatcher thread, one at a time.
+    private final boolean inline;
+    // Accumulates the messages delivered to the onMessages remote method. `null` if the service has no such method.
+    private final MessageBatcher messageBatcher;
+    // Counts the resource invocations of the listener which have not completed, which a graceful stop waits for.
+    private final InFlightTracker inFlightTracker;
 
-    DefaultMessageHandler(BObject serviceObject, Runtime runtime, Connection natsConnection,
-                          NatsMetricsReporter natsMetricsReporter, BObject listenerObj) {
+    DefaultMessageHandler(BObject serviceObject, ServiceDispatchPlan dispatchPlan, long maxConcurrency,
+                          KeyOrderedExecutor orderedExecutor, boolean inline, BMap<BString, Object> batchConfig,
+                          Runtime runtime, Connection natsConnection, NatsMetricsReporter natsMetricsReporter,
+                          BObject listenerObj, PayloadCodec payloadCodec) {
         this.serviceObject = serviceObject;
+        this.dispatchPlan = dispatchPlan;
+        this.orderedExecutor = orderedExecutor;
+        this.inline = inline;
+        this.concurrencyLimiter = maxConcurrency > 0 ?
+                new Semaphore((int) Math.min(maxConcurrency, Integer.MAX_VALUE)) : null;
         this.runtime = runtime;
         this.connectedUrl = natsConnection.getConnectedUrl();
         this.natsMetricsReporter = natsMetricsReporter;
         this.natsConnection = natsConnection;
-        this.listenerObj = listenerObj;
+        this.constraintValidation = (boolean) listenerObj.getNativeData(CONSTRAINT_VALIDATION);
+        this.payloadCodec = payloadCodec;
+        this.inFlightTracker = (InFlightTracker) listenerObj.getNativeData(Constants.IN_FLIGHT_TRACKER);
+        this.messageBatcher = dispatchPlan.hasOnMessages() ?
+                MessageBatcher.fromConfig(batchConfig, this::dispatchOnMessages) : null;
     }
 
     /**
@@ -99,14 +128,19 @@ public class DefaultMessageHandler implements MessageHandler {
         natsMetricsReporter.reportConsume(message.getSubject(), message.getData().length);
         String replyTo = message.getReplyTo();
         String subject = message.getSubject();
+        String orderingKey = orderedExecutor != null ? orderedExecutor.getKey(message) : null;
         try {
-            if (replyTo != null && getAttachedFunctionType(serviceObject,
-                    Constants.ON_REQUEST_RESOURCE) != null) {
+            if (replyTo != null && dispatchPlan.hasOnRequest()) {
                 // If replyTo subject is there and the user has written the onRequest function implementation:
-                dispatchOnRequest(subject, replyTo, message.getData());
+                dispatchOnRequest(subject, replyTo, orderingKey, message);
+            } else if (messageBatcher != null) {
+                if (!messageBatcher.add(message)) {
+                    new ResponseHandler(subject, natsMetricsReporter).notifyFailure(
+                            Utils.createNatsError("Message dropped since the service is stopping."));
+                }
             } else {
                 // Default onMessage behavior
-                dispatchOnMessage(subject, replyTo, message.getData());
+                dispatchOnMessage(subject, replyTo, orderingKey, message);
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -116,16 +150,22 @@ public class DefaultMessageHandler implements MessageHandler {
     }
 
     /**
-     * Dispatch only the message to the onMessage resource.
+     * Dispatch only the message to the onRequest resource.
      */
-    private void dispatchOnRequest(String subject, String replyTo, byte[] data)
+    private void dispatchOnRequest(String subject, String replyTo, String orderingKey, Message message)
             throws InterruptedException {
-        MethodType methodType = getAttachedFunctionType(this.serviceObject, Constants.ON_REQUEST_RESOURCE);
+        ResourcePlan resourcePlan = dispatchPlan.getOnRequest();
+        // The reply is encoded in the content type of the request.
+        PayloadCodec codec = PayloadCodecs.forMessage(message, payloadCodec);
+        // The raw data is passed to the onError resource only if the message cannot be decompressed.
+        byte[] data = message.getData();
         try {
-            Object[] arguments = getResourceArguments(data, replyTo, subject, methodType);
-            executeOnRequestResource(subject, replyTo, arguments);
+            data = PayloadCompressor.decompress(message);
+            Object[] arguments = getResourceArguments(data, codec, replyTo, subject, resourcePlan);
+            executeResource(resourcePlan, new ResponseHandler(subject, natsMetricsReporter, replyTo,
+                    this.natsConnection, codec), PredefinedTypes.TYPE_ANYDATA, subject, orderingKey, arguments);
         } catch (BError bError) {
-            if (getAttachedFunctionType(serviceObject, Constants.ON_ERROR_RESOURCE) != null) {
+            if (dispatchPlan.hasOnError()) {
                 executeOnErrorResource(subject, replyTo, data, bError);
             }
         }
@@ -134,36 +174,62 @@ public class DefaultMessageHandler implements MessageHandler {
     /**
      * Dispatch only the message to the onMessage resource.
      */
-    private void dispatchOnMessage(String subject, String replyTo, byte[] data) throws InterruptedException {
-        MethodType methodType = getAttachedFunctionType(this.serviceObject, Constants.ON_MESSAGE_RESOURCE);
+    private void dispatchOnMessage(String subject, String replyTo, String orderingKey, Message message)
+            throws InterruptedException {
+        ResourcePlan resourcePlan = dispatchPlan.getOnMessage();
+        byte[] data = message.getData();
         try {
-            Object[] arguments = getResourceArguments(data, replyTo, subject, methodType);
-            executeOnMessageResource(subject, replyTo, arguments);
+            data = PayloadCompressor.decompress(message);
+            Object[] arguments = getResourceArguments(data, PayloadCodecs.forMessage(message, payloadCodec), replyTo,
+                    subject, resourcePlan);
+            executeResource(resourcePlan, new ResponseHandler(subject, natsMetricsReporter),
+                    PredefinedTypes.TYPE_NULL, replyTo, orderingKey, arguments);
         } catch (BError bError) {
-            if (getAttachedFunctionType(serviceObject, Constants.ON_ERROR_RESOURCE) != null) {
+            if (dispatchPlan.hasOnError()) {
                 executeOnErrorResource(subject, replyTo, data, bError);
             }
         }
     }
 
-    private static MethodType getAttachedFunctionType(BObject serviceObject, String functionName) {
-        MethodType function = null;
-        ObjectType objectType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(serviceObject));
-        MethodType[] remoteFunctions = objectType.getMethods();
-        for (MethodType remoteFunction : remoteFunctions) {
-            if (functionName.equals(remoteFunction.getName())) {
-                function = remoteFunction;
-                break;
+    /**
+     * Dispatch a batch of messages to the onMessages resource. Messages which fail the data binding are dispatched
+     * to the onError resource and left out of the batch.
+     */
+    private void dispatchOnMessages(List<Message> batch) throws InterruptedException {
+        ResourcePlan resourcePlan = dispatchPlan.getOnMessages();
+        String subject = batch.get(0).getSubject();
+        ResponseHandler callback = new ResponseHandler(subject, natsMetricsReporter);
+        if (!resourcePlan.isValidSignature()) {
+            callback.notifyFailure(Utils.createNatsError("Invalid remote function signature"));
+            return;
+        }
+        ParameterBinding batchBinding = resourcePlan.getBindings()[0];
+        ParameterBinding elementBinding = batchBinding.getElementBinding();
+        List<Object> messages = new ArrayList<>(batch.size());
+        for (Message message : batch) {
+            byte[] data = message.getData();
+            try {
+                data = PayloadCompressor.decompress(message);
+                BMap<BString, Object> messageRecord = createAndPopulateMessageRecord(data,
+                        PayloadCodecs.forMessage(message, payloadCodec), message.getReplyTo(), message.getSubject(),
+                        elementBinding);
+                validateConstraints(messageRecord, elementBinding.getTypedesc(), constraintValidation);
+                messages.add(messageRecord);
+            } catch (BError bError) {
+                if (dispatchPlan.hasOnError()) {
+                    executeOnErrorResource(message.getSubject(), message.getReplyTo(), data, bError);
+                }
             }
         }
-        return function;
-    }
-
-    private void executeOnRequestResource(String subject, String replyTo,
-                                          Object... args) {
-        executeResource(Constants.ON_REQUEST_RESOURCE, new ResponseHandler(subject,
-                        natsMetricsReporter, replyTo, this.natsConnection), PredefinedTypes.TYPE_ANYDATA,
-                subject, args);
+        if (messages.isEmpty()) {
+            return;
+        }
+        BArray messageBatch = ValueCreator.createArrayValue(messages.toArray(), batchBinding.getBatchType());
+        if (batchBinding.isReadOnly()) {
+            messageBatch.freezeDirect();
+        }
+        executeResource(resourcePlan, callback, PredefinedTypes.TYPE_NULL, subject, BATCH_ORDERING_KEY,
+                messageBatch);
     }
 
     private void executeOnErrorResource(String subject, String replyTo, byte[] data,
@@ -188,143 +254,123 @@ public class DefaultMessageHandler implements MessageHandler {
         }
     }
 
-    private void executeOnMessageResource(String subject,
-                                          String replyTo, Object... args) {
-        executeResource(Constants.ON_MESSAGE_RESOURCE, new ResponseHandler(subject,
-                        natsMetricsReporter), PredefinedTypes.TYPE_NULL,
-                replyTo, args);
-    }
-
-    private void executeResource(String function, Handler callback, Type returnType, String subject, Object... args) {
-        ObjectType objectType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(serviceObject));
-        Thread.startVirtualThread(() -> {
+    private void executeResource(ResourcePlan resourcePlan, Handler callback, Type returnType, String subject,
+                                 String orderingKey, Object... args) throws InterruptedException {
+        String function = resourcePlan.getName();
+        boolean isConcurrentSafe = resourcePlan.isConcurrentSafe();
+        if (concurrencyLimiter != null) {
+            // Blocks the dispatcher thread when saturated, so that new messages are held back in the pending queue
+            // of the dispatcher and the pending limits of the subscription apply.
+            concurrencyLimiter.acquire();
+        }
+        // Queued key-ordered invocations are counted as well, since they are run on a graceful stop.
+        inFlightTracker.begin();
+        Runnable invocation = () -> {
             Map<String, Object> properties = Utils.getProperties(function);
             if (ObserveUtils.isTracingEnabled()) {
                 NatsObserverContext observerContext = new NatsObserverContext(
                         NatsObservabilityConstants.CONTEXT_CONSUMER, connectedUrl, subject);
                 properties.put(ObservabilityConstants.KEY_OBSERVER_CONTEXT, observerContext);
             }
-            boolean isConcurrentSafe = objectType.isIsolated() && objectType.isIsolated(function);
             try {
                 Object result = runtime.callMethod(serviceObject, function, new StrandMetadata(isConcurrentSafe,
                         properties), args);
                 callback.notifySuccess(result);
             } catch (BError bError) {
                 callback.notifyFailure(bError);
+            } finally {
+                if (concurrencyLimiter != null) {
+                    concurrencyLimiter.release();
+                }
+                inFlightTracker.end();
             }
-        });
-    }
-
-    private Object[] getResourceArguments(byte[] message, String replyTo, String subject, MethodType remoteFunction) {
-        Parameter[] parameters = remoteFunction.getParameters();
-        boolean messageExists = false;
-        boolean payloadExists = false;
-        boolean constraintValidation = (boolean) listenerObj.getNativeData(CONSTRAINT_VALIDATION);
-        Object[] arguments = new Object[parameters.length];
-        int index = 0;
-        for (Parameter parameter : parameters) {
-            Type referredType = getReferredType(parameter.type);
-            switch (referredType.getTag()) {
-                case INTERSECTION_TAG:
-                case RECORD_TYPE_TAG:
-                    if (isMessageType(parameter, remoteFunction.getAnnotations())) {
-                        if (messageExists) {
-                            throw Utils.createNatsError("Invalid remote function signature");
-                        }
-                        messageExists = true;
-                        Object record = createAndPopulateMessageRecord(message, replyTo, subject, referredType);
-                        validateConstraints(record, getElementTypeDescFromArrayTypeDesc(ValueCreator
-                                .createTypedescValue(parameter.type)), constraintValidation);
-                        arguments[index++] = record;
-                        break;
-                    }
-                    /*-fallthrough*/
-                default:
-                    if (payloadExists) {
-                        throw Utils.createNatsError("Invalid remote function signature");
-                    }
-                    payloadExists = true;
-                    Object value = createPayload(message, referredType);
-                    validateConstraints(value, getElementTypeDescFromArrayTypeDesc(ValueCreator
-                            .createTypedescValue(parameter.type)), constraintValidation);
-                    arguments[index++] = value;
-                    break;
+        };
+        if (inline) {
+            // Saves the hand-off to another thread, while the dispatcher takes in no other message meanwhile.
+            invocation.run();
+            return;
+        }
+        if (orderedExecutor == null) {
+            Thread.startVirtualThread(invocation);
+            return;
+        }
+        try {
+            orderedExecutor.execute(orderingKey, invocation);
+        } catch (RejectedExecutionException e) {
+            // The service is being detached or the listener is being stopped.
+            if (concurrencyLimiter != null) {
+                concurrencyLimiter.release();
             }
+            inFlightTracker.end();
+            callback.notifyFailure(Utils.createNatsError("Message dropped since the service is stopping.", e));
         }
-        return arguments;
     }
 
-    private boolean isMessageType(Parameter parameter, BMap<BString, Object> annotations) {
-        if (annotations.containsKey(StringUtils.fromString(PARAM_ANNOTATION_PREFIX + parameter.name))) {
-            BMap paramAnnotationMap = annotations.getMapValue(StringUtils.fromString(
-                    PARAM_ANNOTATION_PREFIX + parameter.name));
-            if (paramAnnotationMap.containsKey(PARAM_PAYLOAD_ANNOTATION_NAME)) {
-                return false;
-            }
+    /**
+     * Stops dispatching messages to the service.
+     *
+     * @param immediate whether to interrupt the ongoing key-ordered invocations and discard the queued ones and the
+     *                  messages of the batch being filled
+     */
+    void shutdown(boolean immediate) {
+        if (messageBatcher != null) {
+            messageBatcher.close(immediate);
+        }
+        if (orderedExecutor != null) {
+            orderedExecutor.shutdown(immediate);
         }
-        return invokeIsAnydataMessageTypeMethod(getRecordType(getReferredType(parameter.type)));
     }
 
-    private boolean invokeIsAnydataMessageTypeMethod(Type paramType) {
-        BObject client = ValueCreator.createObjectValue(getModule(), TYPE_CHECKER_OBJECT_NAME);
-        NatsTypeCheckHandler messageTypeCheckCallback = new NatsTypeCheckHandler();
-        try {
-            Object result = runtime.callMethod(client, IS_ANYDATA_MESSAGE, null,
-                    ValueCreator.createTypedescValue(paramType));
-            messageTypeCheckCallback.notifySuccess(result);
-        } catch (BError bError) {
-            messageTypeCheckCallback.notifyFailure(bError);
+    private Object[] getResourceArguments(byte[] data, PayloadCodec codec, String replyTo, String subject,
+                                          ResourcePlan resourcePlan) {
+        if (!resourcePlan.isValidSignature()) {
+            throw Utils.createNatsError("Invalid remote function signature");
         }
-        return messageTypeCheckCallback.getIsMessageType();
+        ParameterBinding[] bindings = resourcePlan.getBindings();
+        Object[] arguments = new Object[bindings.length];
+        for (int i = 0; i < bindings.length; i++) {
+            ParameterBinding binding = bindings[i];
+            Object value = binding.isMessage() ?
+                    createAndPopulateMessageRecord(data, codec, replyTo, subject, binding) :
+                    createPayload(data, codec, binding);
+            validateConstraints(value, binding.getTypedesc(), constraintValidation);
+            arguments[i] = value;
+        }
+        return arguments;
     }
 
-    private static BMap<BString, Object> createAndPopulateMessageRecord(byte[] message, String replyTo, String subject,
-                                                                        Type messageType) {
-        RecordType recordType = getRecordType(messageType);
-        Type intendedType = TypeUtils.getReferredType(recordType.getFields().get(MESSAGE_CONTENT).getFieldType());
-        BMap<BString, Object> messageRecord = ValueCreator.createRecordValue(recordType);
-        Object messageContent = Utils.getValueWithIntendedType(intendedType, message);
+    private static BMap<BString, Object> createAndPopulateMessageRecord(byte[] message, PayloadCodec codec,
+                                                                        String replyTo, String subject,
+                                                                        ParameterBinding binding) {
+        BMap<BString, Object> messageRecord = ValueCreator.createRecordValue(binding.getRecordType());
+        Object messageContent = Utils.getValueWithIntendedType(binding.getIntendedType(), message, codec);
         if (messageContent instanceof BError) {
             throw createPayloadBindingError(String.format("Data binding failed: %s", ((BError) messageContent)
                     .getMessage()), (BError) messageContent);
         }
-        messageRecord.put(StringUtils.fromString(MESSAGE_CONTENT), messageContent);
-        messageRecord.put(StringUtils.fromString(Constants.MESSAGE_SUBJECT), StringUtils.fromString(subject));
+        messageRecord.put(MESSAGE_CONTENT_KEY, messageContent);
+        messageRecord.put(MESSAGE_SUBJECT_KEY, StringUtils.fromString(subject));
         if (replyTo != null) {
-            messageRecord.put(StringUtils.fromString(Constants.MESSAGE_REPLY_TO), StringUtils.fromString(replyTo));
+            messageRecord.put(MESSAGE_REPLY_TO_KEY, StringUtils.fromString(replyTo));
         }
-        if (messageType.getTag() == TypeTags.INTERSECTION_TAG) {
+        if (binding.isReadOnly()) {
             messageRecord.freezeDirect();
         }
         return messageRecord;
     }
 
-    private static Object createPayload(byte[] message, Type payloadType) {
-        Object messageContent = Utils.getValueWithIntendedType(getPayloadType(payloadType), message);
+    private static Object createPayload(byte[] message, PayloadCodec codec, ParameterBinding binding) {
+        Object messageContent = Utils.getValueWithIntendedType(binding.getIntendedType(), message, codec);
         if (messageContent instanceof BError) {
             throw createPayloadBindingError(String.format("Data binding failed: %s", ((BError) messageContent)
                     .getMessage()), (BError) messageContent);
         }
-        if (payloadType.isReadOnly()) {
+        if (binding.isReadOnly()) {
             return CloneReadOnly.cloneReadOnly(messageContent);
         }
         return messageContent;
     }
 
-    private static RecordType getRecordType(Type type) {
-        if (type.getTag() == TypeTags.INTERSECTION_TAG) {
-            return (RecordType) TypeUtils.getReferredType(((IntersectionType) (type)).getConstituentTypes().get(0));
-        }
-        return (RecordType) type;
-    }
-
-    private static Type getPayloadType(Type definedType) {
-        if (definedType.getTag() == INTERSECTION_TAG) {
-            return TypeUtils.getReferredType(definedType);
-        }
-        return definedType;
-    }
-
     /**
      * Represents the callback which will be triggered upon submitting to resource.
      */
@@ -333,6 +379,7 @@ public class DefaultMessageHandler implements MessageHandler {
         private final NatsMetricsReporter natsMetricsReporter;
         private String replyTo;
         private Connection natsConnection;
+        private PayloadCodec payloadCodec;
 
         ResponseHandler(String subject, NatsMetricsReporter natsMetricsReporter) {
             this.subject = subject;
@@ -340,11 +387,12 @@ public class DefaultMessageHandler implements MessageHandler {
         }
 
         ResponseHandler(String subject, NatsMetricsReporter natsMetricsReporter,
-                         String replyTo, Connection natsConnection) {
+                         String replyTo, Connection natsConnection, PayloadCodec payloadCodec) {
             this.subject = subject;
             this.natsMetricsReporter = natsMetricsReporter;
             this.replyTo = replyTo;
             this.natsConnection = natsConnection;
+            this.payloadCodec = payloadCodec;
         }
 
         /**
@@ -355,7 +403,19 @@ public class DefaultMessageHandler implements MessageHandler {
             if (obj instanceof BError) {
                 ((BError) obj).printStackTrace();
             } else if (replyTo != null) {
-                natsConnection.publish(replyTo, Utils.convertDataIntoByteArray(obj, TypeUtils.getType(obj)));
+                try {
+                    if (payloadCodec != null && PayloadCodecs.isEncoded(obj)) {
+                        Headers headers = PayloadCodecs.createHeaders(payloadCodec);
+                        natsConnection.publish(replyTo, headers, payloadCodec.encode(obj));
+                    } else {
+                        natsConnection.publish(replyTo, Utils.convertDataIntoByteArray(obj, TypeUtils.getType(obj)));
+                    }
+                } catch (BError bError) {
+                    // The reply cannot be encoded, hence it is not sent.
+                    bError.printStackTrace();
+                    natsMetricsReporter.reportProducerError(replyTo, NatsObservabilityConstants.ERROR_TYPE_PUBLISH);
+                    return;
+                }
             }
             natsMetricsReporter.reportDelivery(subject);
         }
@@ -81,6 +81,14 @@ public class Detach {
         }
         serviceList.remove(service);
         dispatcherList.remove(TypeUtils.getType(service).getName());
+        @SuppressWarnings("unchecked")
+        ConcurrentHashMap<String, DefaultMessageHandler> messageHandlerList =
+                (ConcurrentHashMap<String, DefaultMessageHandler>) listener.getNativeData(
+                        Constants.MESSAGE_HANDLER_LIST);
+        DefaultMessageHandler messageHandler = messageHandlerList.remove(TypeUtils.getType(service).getName());
+        if (messageHandler != null) {
+            messageHandler.shutdown(false);
+        }
         Connection natsConnection = (Connection) listener.getNativeData(Constants.NATS_CONNECTION);
         if (natsConnection != null) {
             natsMetricsReporter.reportUnsubscription(subject);
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.basic.consumer;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.nats.Constants;
+import io.ballerina.stdlib.nats.Utils;
+import io.nats.client.Message;
+import io.nats.client.impl.Headers;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Runs the resource invocations of a key-ordered service. Messages are spread over a fixed set of serial executors
+ * by their ordering key, so that the messages of a key are processed one at a time in the order they were received
+ * while the messages of other keys are processed in parallel.
+ */
+final class KeyOrderedExecutor {
+    private static final int DEFAULT_PARTITIONS = 16;
+    private static final int MAX_PARTITIONS = 4096;
+    private static final String KEY_SOURCE_SUBJECT = "SUBJECT";
+    private static final String KEY_SOURCE_SUBJECT_TOKEN = "SUBJECT_TOKEN";
+    private static final String KEY_SOURCE_HEADER = "HEADER";
+
+    private final ExecutorService[] partitions;
+    private final String keySource;
+    private final int subjectToken;
+    private final String header;
+
+    private KeyOrderedExecutor(String keySource, int subjectToken, String header, int partitionCount) {
+        this.keySource = keySource;
+        this.subjectToken = subjectToken;
+        this.header = header;
+        this.partitions = new ExecutorService[partitionCount];
+        ThreadFactory threadFactory = Thread.ofVirtual().name("nats-ordered-dispatch-", 0).factory();
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = Executors.newSingleThreadExecutor(threadFactory);
+        }
+    }
+
+    /**
+     * Creates the executor from the `nats:OrderingConfig` of a service.
+     *
+     * @param orderingConfig the ordering configurations or `null` if not given
+     * @return the key-ordered executor
+     */
+    static KeyOrderedExecutor fromConfig(BMap<BString, Object> orderingConfig) {
+        if (orderingConfig == null) {
+            return new KeyOrderedExecutor(KEY_SOURCE_SUBJECT, 0, null, DEFAULT_PARTITIONS);
+        }
+        String keySource = orderingConfig.getStringValue(Constants.KEY_SOURCE).getValue();
+        long subjectToken = orderingConfig.getIntValue(Constants.SUBJECT_TOKEN);
+        long partitionCount = orderingConfig.getIntValue(Constants.PARTITIONS);
+        String header = orderingConfig.containsKey(Constants.HEADER) ?
+                orderingConfig.getStringValue(Constants.HEADER).getValue() : null;
+        if (partitionCount <= 0 || partitionCount > MAX_PARTITIONS) {
+            throw Utils.createNatsError("The number of ordering partitions should be between 1 and " +
+                    MAX_PARTITIONS);
+        }
+        if (subjectToken < 0) {
+            throw Utils.createNatsError("The ordering subject token index cannot be negative");
+        }
+        if (KEY_SOURCE_HEADER.equals(keySource) && header == null) {
+            throw Utils.createNatsError("The ordering header name is required when ordering by a header");
+        }
+        return new KeyOrderedExecutor(keySource, (int) subjectToken, header, (int) partitionCount);
+    }
+
+    /**
+     * Runs the given task after all the previously submitted tasks of the same ordering key.
+     *
+     * @param key  the ordering key of the message
+     * @param task the resource invocation
+     */
+    void execute(String key, Runnable task) {
+        partitions[Math.floorMod(key.hashCode(), partitions.length)].execute(task);
+    }
+
+    /**
+     * Derives the ordering key of a message. The subject is used if the configured subject token or header is not
+     * available in the message.
+     *
+     * @param message the received message
+     * @return the ordering key
+     */
+    String getKey(Message message) {
+        String subject = message.getSubject();
+        if (KEY_SOURCE_SUBJECT_TOKEN.equals(keySource)) {
+            return getSubjectToken(subject);
+        } else if (KEY_SOURCE_HEADER.equals(keySource)) {
+            Headers headers = message.getHeaders();
+            String value = headers != null ? headers.getFirst(header) : null;
+            return value != null ? value : subject;
+        }
+        return subject;
+    }
+
+    private String getSubjectToken(String subject) {
+        int start = 0;
+        for (int i = 0; i < subjectToken; i++) {
+            start = subject.indexOf('.', start) + 1;
+            if (start == 0) {
+                return subject;
+            }
+        }
+        int end = subject.indexOf('.', start);
+        return end < 0 ? subject.substring(start) : subject.substring(start, end);
+    }
+
+    /**
+     * Stops accepting new tasks.
+     *
+     * @param immediate whether to interrupt the running tasks and discard the queued ones
+     */
+    void shutdown(boolean immediate) {
+        for (ExecutorService partition : partitions) {
+            if (immediate) {
+                partition.shutdownNow();
+            } else {
+                partition.shutdown();
+            }
+        }
+    }
+}
@@ -19,17 +19,20 @@
 package io.ballerina.stdlib.nats.basic.consumer;
 
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.stdlib.nats.Constants;
+import io.ballerina.stdlib.nats.GracefulStop;
+import io.ballerina.stdlib.nats.InFlightTracker;
 import io.ballerina.stdlib.nats.Utils;
+import io.ballerina.stdlib.nats.codec.PayloadCodecs;
 import io.ballerina.stdlib.nats.connection.ConnectionUtils;
 import io.ballerina.stdlib.nats.observability.NatsMetricsReporter;
 import io.ballerina.stdlib.nats.observability.NatsObservabilityConstants;
 import io.nats.client.Connection;
 import io.nats.client.Dispatcher;
 
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
@@ -58,11 +61,16 @@ public class ListenerUtils {
             natsConnection.closeDispatcher((Dispatcher) pair.getValue());
             dispatchers.remove(); // avoids a ConcurrentModificationException
         }
+        shutdownMessageHandlers(listenerObject, true);
         @SuppressWarnings("unchecked")
         ArrayList<String> subscriptionsList =
                 (ArrayList<String>) listenerObject
                         .getNativeData(Constants.BASIC_SUBSCRIPTION_LIST);
         natsMetricsReporter.reportBulkUnsubscription(subscriptionsList);
+        if (isSharedConnection(listenerObject)) {
+            // The connection belongs to the client, which closes it.
+            return null;
+        }
 
         // Actual NATS connection is not used in any other clients. So we can close the actual connection.
         try {
@@ -85,21 +93,26 @@ public class ListenerUtils {
         @SuppressWarnings("unchecked")
         ConcurrentHashMap<String, Dispatcher> dispatcherList = (ConcurrentHashMap<String, Dispatcher>)
                 listenerObject.getNativeData(Constants.DISPATCHER_LIST);
-        Iterator dispatchers = dispatcherList.entrySet().iterator();
-        while (dispatchers.hasNext()) {
-            Map.Entry pair = (Map.Entry) dispatchers.next();
-            natsConnection.closeDispatcher((Dispatcher) pair.getValue());
-            dispatchers.remove(); // avoids a ConcurrentModificationException
-        }
-        @SuppressWarnings("unchecked")
-        ArrayList<String> subscriptionsList =
-                (ArrayList<String>) listenerObject
-                        .getNativeData(Constants.BASIC_SUBSCRIPTION_LIST);
-        natsMetricsReporter.reportBulkUnsubscription(subscriptionsList);
-
+        GracefulStop gracefulStop = GracefulStop.start(
+                (BDecimal) listenerObject.getNativeData(Constants.GRACEFUL_STOP_TIMEOUT));
+        long undelivered;
+        int abandoned;
         try {
-            // Wait for the drain to succeed, passed 0 to wait forever.
-            natsConnection.drain(Duration.ZERO);
+            // Stops taking in messages and dispatches the pending ones.
+            undelivered = gracefulStop.drain(natsConnection, dispatcherList.values());
+            dispatcherList.clear();
+            shutdownMessageHandlers(listenerObject, false);
+            abandoned = gracefulStop.await(
+                    (InFlightTracker) listenerObject.getNativeData(Constants.IN_FLIGHT_TRACKER));
+            @SuppressWarnings("unchecked")
+            ArrayList<String> subscriptionsList =
+                    (ArrayList<String>) listenerObject
+                            .getNativeData(Constants.BASIC_SUBSCRIPTION_LIST);
+            natsMetricsReporter.reportBulkUnsubscription(subscriptionsList);
+            if (!isSharedConnection(listenerObject)) {
+                // Flushes the replies of the services before closing the connection.
+                gracefulStop.close(natsConnection);
+            }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             natsMetricsReporter.reportConsumerError(NatsObservabilityConstants.UNKNOWN,
@@ -114,13 +127,42 @@ public class ListenerUtils {
                     NatsObservabilityConstants.ERROR_TYPE_CLOSE);
             return Utils.createNatsError("Connection is already closed.", e);
         }
+        if (undelivered > 0 || abandoned > 0) {
+            natsMetricsReporter.reportConsumerError(NatsObservabilityConstants.UNKNOWN,
+                    NatsObservabilityConstants.ERROR_TYPE_CLOSE);
+            return Utils.createNatsError(String.format("Graceful stop timed out with %d pending message(s) not " +
+                    "dispatched and %d message(s) still being processed.", undelivered, abandoned));
+        }
         return null;
     }
 
+    private static boolean isSharedConnection(BObject listenerObject) {
+        return listenerObject.getNativeData(Constants.SHARED_CONNECTION) != null;
+    }
+
+    private static void shutdownMessageHandlers(BObject listenerObject, boolean immediate) {
+        @SuppressWarnings("unchecked")
+        ConcurrentHashMap<String, DefaultMessageHandler> messageHandlerList =
+                (ConcurrentHashMap<String, DefaultMessageHandler>) listenerObject.getNativeData(
+                        Constants.MESSAGE_HANDLER_LIST);
+        for (DefaultMessageHandler messageHandler : messageHandlerList.values()) {
+            messageHandler.shutdown(immediate);
+        }
+        messageHandlerList.clear();
+    }
+
     public static Object consumerInit(BObject listenerObject, Object url, BMap connectionConfig) {
         Connection natsConnection;
         try {
-            natsConnection = ConnectionUtils.getNatsConnection(url, connectionConfig);
+            listenerObject.addNativeData(Constants.PAYLOAD_CODEC, PayloadCodecs.fromConfig(
+                    connectionConfig.getStringValue(Constants.CONTENT_TYPE).getValue()));
+            if (url instanceof BObject) {
+                // Shares the connection of the given client, hence the connection configurations are not used.
+                natsConnection = (Connection) ((BObject) url).getNativeData(Constants.NATS_CONNECTION);
+                listenerObject.addNativeData(Constants.SHARED_CONNECTION, true);
+            } else {
+                natsConnection = ConnectionUtils.getNatsConnection(url, connectionConfig);
+            }
         } catch (Exception e) {
             String errorMsg = "Error occurred while setting up the connection.";
             return Utils.createNatsError(errorMsg, e);
@@ -129,11 +171,19 @@ public class ListenerUtils {
         listenerObject.addNativeData(Constants.NATS_CONNECTION, natsConnection);
         listenerObject.addNativeData(CONSTRAINT_VALIDATION,
                 connectionConfig.getBooleanValue(StringUtils.fromString(CONSTRAINT_VALIDATION)));
-        ((NatsMetricsReporter) listenerObject.getNativeData(Constants.NATS_METRIC_UTIL)).reportNewClient();
+        listenerObject.addNativeData(Constants.GRACEFUL_STOP_TIMEOUT,
+                connectionConfig.get(StringUtils.fromString(Constants.GRACEFUL_STOP_TIMEOUT)));
+        listenerObject.addNativeData(Constants.IN_FLIGHT_TRACKER, new InFlightTracker());
+        // A shared connection is already reported by the client which owns it.
+        if (!isSharedConnection(listenerObject)) {
+            ((NatsMetricsReporter) listenerObject.getNativeData(Constants.NATS_METRIC_UTIL)).reportNewClient();
+        }
 
         // Initialize dispatcher list to use in service register and listener close.
         ConcurrentHashMap<String, Dispatcher> dispatcherList = new ConcurrentHashMap<>();
         listenerObject.addNativeData(Constants.DISPATCHER_LIST, dispatcherList);
+        ConcurrentHashMap<String, DefaultMessageHandler> messageHandlerList = new ConcurrentHashMap<>();
+        listenerObject.addNativeData(Constants.MESSAGE_HANDLER_LIST, messageHandlerList);
         ArrayList<String> subscriptionsList = new ArrayList<>();
         listenerObject.addNativeData(Constants.BASIC_SUBSCRIPTION_LIST, subscriptionsList);
         List<BObject> serviceList = Collections.synchronizedList(new ArrayList<>());
@@ -24,11 +24,14 @@ import io.ballerina.runtime.api.types.AnnotatableType;
 import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.nats.Constants;
 import io.ballerina.stdlib.nats.Utils;
+import io.ballerina.stdlib.nats.codec.PayloadCodec;
+import io.ballerina.stdlib.nats.codec.PayloadCodecs;
 import io.ballerina.stdlib.nats.observability.NatsMetricsReporter;
 import io.nats.client.Connection;
 import io.nats.client.Dispatcher;
@@ -65,35 +68,88 @@ public class Register {
                                         Constants.SUBSCRIPTION_CONFIG)));
         String queueName = null;
         String subject;
-
-        Runtime runtime = env.getRuntime();
-        NatsMetricsReporter natsMetricsReporter =
-                (NatsMetricsReporter) listenerObject.getNativeData(Constants.NATS_METRIC_UTIL);
-        Dispatcher dispatcher = natsConnection.createDispatcher(new DefaultMessageHandler(
-                service, runtime, natsConnection, natsMetricsReporter, listenerObject));
-
-        // Add dispatcher. This is needed when closing the connection.
-        @SuppressWarnings("unchecked")
-        ConcurrentHashMap<String, Dispatcher> dispatcherList = (ConcurrentHashMap<String, Dispatcher>)
-                listenerObject.getNativeData(Constants.DISPATCHER_LIST);
-        dispatcherList.put(TypeUtils.getType(service).getName(), dispatcher);
+        // The subject and the codec are resolved before any resource of the service is created, so that nothing is
+        // left behind if the service cannot be attached.
+        PayloadCodec payloadCodec = (PayloadCodec) listenerObject.getNativeData(Constants.PAYLOAD_CODEC);
         if (subscriptionConfig != null) {
             if (subscriptionConfig.containsKey(Constants.QUEUE_NAME)) {
                 queueName = subscriptionConfig.getStringValue(Constants.QUEUE_NAME).getValue();
             }
             // If the service config is not null, get subject from the config
             subject = subscriptionConfig.getStringValue(Constants.SUBJECT).getValue();
-            if (subscriptionConfig.getMapValue(Constants.PENDING_LIMITS) != null) {
-                setPendingLimits(dispatcher, subscriptionConfig.getMapValue(Constants.PENDING_LIMITS));
+            if (subscriptionConfig.containsKey(Constants.CONTENT_TYPE)) {
+                payloadCodec = PayloadCodecs.fromConfig(
+                        subscriptionConfig.getStringValue(Constants.CONTENT_TYPE).getValue());
             }
         } else if (TypeUtils.getType(annotationData).getTag() == TypeTags.STRING_TAG) {
             // Else get the service name as the subject
             subject = ((BString) annotationData).getValue();
-            service.addNativeData(Constants.SERVICE_NAME, subject);
         } else {
             throw Utils.createNatsError("Subject name cannot be found");
         }
 
+        Runtime runtime = env.getRuntime();
+        NatsMetricsReporter natsMetricsReporter =
+                (NatsMetricsReporter) listenerObject.getNativeData(Constants.NATS_METRIC_UTIL);
+        ServiceDispatchPlan dispatchPlan = ServiceDispatchPlan.build(env, service);
+        long maxConcurrency = 0;
+        KeyOrderedExecutor orderedExecutor = null;
+        boolean inline = false;
+        BMap<BString, Object> batchConfig = null;
+        if (subscriptionConfig != null) {
+            if (subscriptionConfig.containsKey(Constants.MAX_CONCURRENCY)) {
+                maxConcurrency = subscriptionConfig.getIntValue(Constants.MAX_CONCURRENCY);
+            }
+            String dispatchMode = subscriptionConfig.getStringValue(Constants.DISPATCH_MODE).getValue();
+            if (Constants.DISPATCH_MODE_KEY_ORDERED.equals(dispatchMode)) {
+                @SuppressWarnings("unchecked")
+                BMap<BString, Object> orderingConfig = (BMap<BString, Object>) subscriptionConfig.getMapValue(
+                        Constants.ORDERING);
+                orderedExecutor = KeyOrderedExecutor.fromConfig(orderingConfig);
+            } else {
+                inline = Constants.DISPATCH_MODE_INLINE.equals(dispatchMode);
+            }
+            if (subscriptionConfig.containsKey(Constants.BATCH)) {
+                @SuppressWarnings("unchecked")
+                BMap<BString, Object> batch = (BMap<BString, Object>) subscriptionConfig.getMapValue(Constants.BATCH);
+                batchConfig = batch;
+            }
+        }
+        DefaultMessageHandler messageHandler;
+        try {
+            messageHandler = new DefaultMessageHandler(service, dispatchPlan, maxConcurrency, orderedExecutor,
+                    inline, batchConfig, runtime, natsConnection, natsMetricsReporter, listenerObject, payloadCodec);
+        } catch (BError e) {
+            // Such as an invalid batch configuration, in which case the handler does not own the executor yet.
+            if (orderedExecutor != null) {
+                orderedExecutor.shutdown(true);
+            }
+            throw e;
+        }
+        Dispatcher dispatcher;
+        try {
+            dispatcher = natsConnection.createDispatcher(messageHandler);
+        } catch (IllegalStateException e) {
+            messageHandler.shutdown(true);
+            throw Utils.createNatsError("Error occurred while creating the dispatcher of the service.", e);
+        }
+
+        // Add dispatcher. This is needed when closing the connection.
+        @SuppressWarnings("unchecked")
+        ConcurrentHashMap<String, Dispatcher> dispatcherList = (ConcurrentHashMap<String, Dispatcher>)
+                listenerObject.getNativeData(Constants.DISPATCHER_LIST);
+        dispatcherList.put(TypeUtils.getType(service).getName(), dispatcher);
+        @SuppressWarnings("unchecked")
+        ConcurrentHashMap<String, DefaultMessageHandler> messageHandlerList =
+                (ConcurrentHashMap<String, DefaultMessageHandler>) listenerObject.getNativeData(
+                        Constants.MESSAGE_HANDLER_LIST);
+        messageHandlerList.put(TypeUtils.getType(service).getName(), messageHandler);
+        if (subscriptionConfig == null) {
+            service.addNativeData(Constants.SERVICE_NAME, subject);
+        } else if (subscriptionConfig.getMapValue(Constants.PENDING_LIMITS) != null) {
+            setPendingLimits(dispatcher, subscriptionConfig.getMapValue(Constants.PENDING_LIMITS));
+        }
+
         if (queueName != null) {
             dispatcher.subscribe(subject, queueName);
         } else {
@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.basic.consumer;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.IntersectionType;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.nats.Constants;
+
+import static io.ballerina.runtime.api.types.TypeTags.INTERSECTION_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.RECORD_TYPE_TAG;
+import static io.ballerina.runtime.api.utils.TypeUtils.getReferredType;
+import static io.ballerina.stdlib.nats.Constants.IS_ANYDATA_MESSAGE;
+import static io.ballerina.stdlib.nats.Constants.MESSAGE_CONTENT;
+import static io.ballerina.stdlib.nats.Constants.PARAM_ANNOTATION_PREFIX;
+import static io.ballerina.stdlib.nats.Constants.PARAM_PAYLOAD_ANNOTATION_NAME;
+import static io.ballerina.stdlib.nats.Constants.TYPE_CHECKER_OBJECT_NAME;
+import static io.ballerina.stdlib.nats.Utils.getElementTypeDescFromArrayTypeDesc;
+import static io.ballerina.stdlib.nats.Utils.getModule;
+
+/**
+ * Immutable description of how messages are dispatched to a basic service. The remote methods, the kind of each
+ * parameter and the type descriptors used for data binding are resolved once when the service is attached, so that
+ * the per-message path does not need to inspect the service type again.
+ */
+final class ServiceDispatchPlan {
+
+    private final ResourcePlan onMessage;
+    private final ResourcePlan onMessages;
+    private final ResourcePlan onRequest;
+    private final ResourcePlan onError;
+
+    private ServiceDispatchPlan(ResourcePlan onMessage, ResourcePlan onMessages, ResourcePlan onRequest,
+                                ResourcePlan onError) {
+        this.onMessage = onMessage;
+        this.onMessages = onMessages;
+        this.onRequest = onRequest;
+        this.onError = onError;
+    }
+
+    /**
+     * Resolves the dispatch plan of the given service.
+     *
+     * @param env     the environment of the attach call
+     * @param service the service being attached
+     * @return the dispatch plan of the service
+     */
+    static ServiceDispatchPlan build(Environment env, BObject service) {
+        ObjectType objectType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
+        MessageTypeResolver typeResolver = new MessageTypeResolver(env);
+        ResourcePlan onMessage = null;
+        ResourcePlan onMessages = null;
+        ResourcePlan onRequest = null;
+        ResourcePlan onError = null;
+        for (MethodType method : objectType.getMethods()) {
+            switch (method.getName()) {
+                case Constants.ON_MESSAGE_RESOURCE:
+                    onMessage = ResourcePlan.of(objectType, method, typeResolver);
+                    break;
+                case Constants.ON_MESSAGES_RESOURCE:
+                    onMessages = ResourcePlan.ofBatch(objectType, method, typeResolver);
+                    break;
+                case Constants.ON_REQUEST_RESOURCE:
+                    onRequest = ResourcePlan.of(objectType, method, typeResolver);
+                    break;
+                case Constants.ON_ERROR_RESOURCE:
+                    onError = new ResourcePlan(method.getName(), isConcurrentSafe(objectType, method.getName()),
+                            new ParameterBinding[0], true);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return new ServiceDispatchPlan(onMessage, onMessages, onRequest, onError);
+    }
+
+    ResourcePlan getOnMessage() {
+        return onMessage;
+    }
+
+    ResourcePlan getOnMessages() {
+        return onMessages;
+    }
+
+    /**
+     * Whether the service consumes messages in batches through the onMessages remote method.
+     */
+    boolean hasOnMessages() {
+        return onMessages != null;
+    }
+
+    ResourcePlan getOnRequest() {
+        return onRequest;
+    }
+
+    boolean hasOnRequest() {
+        return onRequest != null;
+    }
+
+    boolean hasOnError() {
+        return onError != null;
+    }
+
+    private static boolean isConcurrentSafe(ObjectType objectType, String function) {
+        return objectType.isIsolated() && objectType.isIsolated(function);
+    }
+
+    /**
+     * Resolved details of a single remote method of the service.
+     */
+    static final class ResourcePlan {
+        private final String name;
+        private final boolean concurrentSafe;
+        private final ParameterBinding[] bindings;
+        private final boolean validSignature;
+
+        private ResourcePlan(String name, boolean concurrentSafe, ParameterBinding[] bindings,
+                             boolean validSignature) {
+            this.name = name;
+            this.concurrentSafe = concurrentSafe;
+            this.bindings = bindings;
+            this.validSignature = validSignature;
+        }
+
+        private static ResourcePlan of(ObjectType objectType, MethodType method, MessageTypeResolver typeResolver) {
+            Parameter[] parameters = method.getParameters();
+            BMap<BString, Object> annotations = method.getAnnotations();
+            ParameterBinding[] bindings = new ParameterBinding[parameters.length];
+            boolean messageExists = false;
+            boolean payloadExists = false;
+            boolean validSignature = true;
+            for (int i = 0; i < parameters.length; i++) {
+                Parameter parameter = parameters[i];
+                Type referredType = getReferredType(parameter.type);
+                BTypedesc typedesc = getElementTypeDescFromArrayTypeDesc(
+                        ValueCreator.createTypedescValue(parameter.type));
+                int tag = referredType.getTag();
+                if ((tag == INTERSECTION_TAG || tag == RECORD_TYPE_TAG) &&
+                        isMessageType(parameter, referredType, annotations, typeResolver)) {
+                    validSignature &= !messageExists;
+                    messageExists = true;
+                    bindings[i] = ParameterBinding.message(referredType, typedesc);
+                } else {
+                    validSignature &= !payloadExists;
+                    payloadExists = true;
+                    bindings[i] = ParameterBinding.payload(referredType, typedesc);
+                }
+            }
+            return new ResourcePlan(method.getName(),
+                    ServiceDispatchPlan.isConcurrentSafe(objectType, method.getName()), bindings, validSignature);
+        }
+
+        private static ResourcePlan ofBatch(ObjectType objectType, MethodType method,
+                                            MessageTypeResolver typeResolver) {
+            Parameter[] parameters = method.getParameters();
+            ParameterBinding batchBinding = parameters.length == 1 ?
+                    ParameterBinding.batch(getReferredType(parameters[0].type), typeResolver) : null;
+            ParameterBinding[] bindings = batchBinding != null ? new ParameterBinding[]{batchBinding} :
+                    new ParameterBinding[0];
+            return new ResourcePlan(method.getName(),
+                    ServiceDispatchPlan.isConcurrentSafe(objectType, method.getName()), bindings,
+                    batchBinding != null);
+        }
+
+        String getName() {
+            return name;
+        }
+
+        boolean isConcurrentSafe() {
+            return concurrentSafe;
+        }
+
+        ParameterBinding[] getBindings() {
+            return bindings;
+        }
+
+        boolean isValidSignature() {
+            return validSignature;
+        }
+
+        private static boolean isMessageType(Parameter parameter, Type referredType,
+                                             BMap<BString, Object> annotations, MessageTypeResolver typeResolver) {
+            BString paramAnnotationKey = StringUtils.fromString(PARAM_ANNOTATION_PREFIX + parameter.name);
+            if (annotations.containsKey(paramAnnotationKey)) {
+                BMap<?, ?> paramAnnotationMap = annotations.getMapValue(paramAnnotationKey);
+                if (paramAnnotationMap.containsKey(PARAM_PAYLOAD_ANNOTATION_NAME)) {
+                    return false;
+                }
+            }
+            return typeResolver.isAnydataMessage(getRecordType(referredType));
+        }
+    }
+
+    /**
+     * Describes how a single parameter of a remote method is bound from an incoming message.
+     */
+    static final class ParameterBinding {
+        private final boolean message;
+        private final boolean readOnly;
+        private final RecordType recordType;
+        private final Type intendedType;
+        private final BTypedesc typedesc;
+        private final ArrayType batchType;
+        private final ParameterBinding elementBinding;
+
+        private ParameterBinding(boolean message, boolean readOnly, RecordType recordType, Type intendedType,
+                                 BTypedesc typedesc, ArrayType batchType, ParameterBinding elementBinding) {
+            this.message = message;
+            this.readOnly = readOnly;
+            this.recordType = recordType;
+            this.intendedType = intendedType;
+            this.typedesc = typedesc;
+            this.batchType = batchType;
+            this.elementBinding = elementBinding;
+        }
+
+        private static ParameterBinding message(Type messageType, BTypedesc typedesc) {
+            RecordType recordType = ServiceDispatchPlan.getRecordType(messageType);
+            Type contentType = getReferredType(recordType.getFields().get(MESSAGE_CONTENT).getFieldType());
+            return new ParameterBinding(true, messageType.getTag() == TypeTags.INTERSECTION_TAG, recordType,
+                    contentType, typedesc, null, null);
+        }
+
+        private static ParameterBinding payload(Type payloadType, BTypedesc typedesc) {
+            Type intendedType = payloadType.getTag() == INTERSECTION_TAG ?
+                    getReferredType(payloadType) : payloadType;
+            return new ParameterBinding(false, payloadType.isReadOnly(), null, intendedType, typedesc, null, null);
+        }
+
+        private static ParameterBinding batch(Type batchType, MessageTypeResolver typeResolver) {
+            boolean readOnly = batchType.getTag() == INTERSECTION_TAG;
+            Type arrayType = readOnly ? getReferredType(((IntersectionType) batchType).getEffectiveType()) : batchType;
+            if (arrayType.getTag() != TypeTags.ARRAY_TAG) {
+                return null;
+            }
+            Type elementType = getReferredType(((ArrayType) arrayType).getElementType());
+            int tag = elementType.getTag();
+            if ((tag != INTERSECTION_TAG && tag != RECORD_TYPE_TAG) ||
+                    !typeResolver.isAnydataMessage(ServiceDispatchPlan.getRecordType(elementType))) {
+                return null;
+            }
+            ParameterBinding elementBinding = message(elementType,
+                    getElementTypeDescFromArrayTypeDesc(ValueCreator.createTypedescValue(elementType)));
+            return new ParameterBinding(false, readOnly, null, null, null, (ArrayType) arrayType, elementBinding);
+        }
+
+        /**
+         * Whether this parameter is bound to the whole message rather than only to its payload.
+         */
+        boolean isMessage() {
+            return message;
+        }
+
+        /**
+         * Whether this parameter is bound to an array of messages delivered as a batch.
+         */
+        boolean isBatch() {
+            return batchType != null;
+        }
+
+        boolean isReadOnly() {
+            return readOnly;
+        }
+
+        /**
+         * The message record type. Only available for message parameters.
+         */
+        RecordType getRecordType() {
+            return recordType;
+        }
+
+        /**
+         * The type the message content is bound to.
+         */
+        Type getIntendedType() {
+            return intendedType;
+        }
+
+        /**
+         * The type descriptor used for constraint validation.
+         */
+        BTypedesc getTypedesc() {
+            return typedesc;
+        }
+
+        /**
+         * The array type of the batch. Only available for batch parameters.
+         */
+        ArrayType getBatchType() {
+            return batchType;
+        }
+
+        /**
+         * The binding of each message of the batch. Only available for batch parameters.
+         */
+        ParameterBinding getElementBinding() {
+            return elementBinding;
+        }
+    }
+
+    private static RecordType getRecordType(Type type) {
+        if (type.getTag() == TypeTags.INTERSECTION_TAG) {
+            return (RecordType) TypeUtils.getReferredType(((IntersectionType) (type)).getConstituentTypes().get(0));
+        }
+        return (RecordType) type;
+    }
+
+    /**
+     * Checks whether a record type is a subtype of nats:AnydataMessage using the Ballerina side type checker.
+     */
+    private static final class MessageTypeResolver {
+        private final Environment env;
+        private BObject typeChecker;
+
+        private MessageTypeResolver(Environment env) {
+            this.env = env;
+        }
+
+        private boolean isAnydataMessage(RecordType recordType) {
+            if (typeChecker == null) {
+                typeChecker = ValueCreator.createObjectValue(getModule(), TYPE_CHECKER_OBJECT_NAME);
+            }
+            DefaultMessageHandler.NatsTypeCheckHandler messageTypeCheckCallback =
+                    new DefaultMessageHandler.NatsTypeCheckHandler();
+            try {
+                Object result = env.yieldAndRun(() -> env.getRuntime().callMethod(typeChecker, IS_ANYDATA_MESSAGE,
+                        null, ValueCreator.createTypedescValue(recordType)));
+                messageTypeCheckCallback.notifySuccess(result);
+            } catch (BError bError) {
+                messageTypeCheckCallback.notifyFailure(bError);
+            }
+            return messageTypeCheckCallback.getIsMessageType();
+        }
+    }
+}
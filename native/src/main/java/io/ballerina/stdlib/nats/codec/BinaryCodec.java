@@ -0,0 +1,540 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.codec;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.utils.ValueUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.stdlib.nats.Utils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.runtime.api.types.TypeTags.BYTE_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.RECORD_TYPE_TAG;
+import static io.ballerina.runtime.api.utils.TypeUtils.getReferredType;
+import static io.ballerina.stdlib.nats.codec.BinaryReader.KIND_ARRAY;
+import static io.ballerina.stdlib.nats.codec.BinaryReader.KIND_BINARY;
+import static io.ballerina.stdlib.nats.codec.BinaryReader.KIND_BOOLEAN;
+import static io.ballerina.stdlib.nats.codec.BinaryReader.KIND_FLOAT;
+import static io.ballerina.stdlib.nats.codec.BinaryReader.KIND_INT;
+import static io.ballerina.stdlib.nats.codec.BinaryReader.KIND_MAP;
+import static io.ballerina.stdlib.nats.codec.BinaryReader.KIND_NIL;
+import static io.ballerina.stdlib.nats.codec.BinaryReader.KIND_STRING;
+
+/**
+ * The data binding shared by the self-describing binary formats. Decimals are encoded as strings, since neither
+ * format has a portable decimal representation.
+ * <p>
+ * A codec caches the encoder of each record type, which holds the encoded field names, and the decoder of each
+ * intended type. Values which do not fit the decoder of their type, such as a value of a mismatching kind or a
+ * record with a missing required field, are decoded as anydata values and converted to the type, which reports the
+ * same errors as the JSON data binding.
+ */
+abstract class BinaryCodec implements PayloadCodec {
+    private static final MapType ANYDATA_MAP_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA);
+    private static final ArrayType ANYDATA_ARRAY_TYPE = TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA);
+
+    private final String contentType;
+    private final String formatName;
+    private final WriterPool<BinaryWriter> writers = new WriterPool<>(this::createWriter);
+    private final Map<Type, Map<String, byte[]>> recordEncoders = new ConcurrentHashMap<>();
+    private final BindingPlans<Decoder> decoders = new BindingPlans<>(new DecoderFactory());
+
+    BinaryCodec(String contentType, String formatName) {
+        this.contentType = contentType;
+        this.formatName = formatName;
+    }
+
+    abstract BinaryWriter createWriter();
+
+    abstract BinaryReader createReader(byte[] payload);
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        BinaryWriter writer = writers.acquire();
+        try {
+            writeValue(writer, value);
+            return writer.toByteArray();
+        } finally {
+            writer.reset();
+            writers.release(writer, writer.capacity());
+        }
+    }
+
+    @Override
+    public Object decode(byte[] payload, Type type) {
+        BinaryReader reader = createReader(payload);
+        try {
+            Object value = decoders.get(type).read(reader);
+            if (reader.hasRemaining()) {
+                throw new BinaryReader.MalformedPayloadException("unexpected data after the value");
+            }
+            return value;
+        } catch (BinaryReader.MalformedPayloadException e) {
+            throw Utils.createNatsError(String.format("Invalid %s payload: %s", formatName, e.getMessage()));
+        }
+    }
+
+    private void writeValue(BinaryWriter writer, Object value) {
+        if (value == null) {
+            writer.writeNil();
+        } else if (value instanceof BString) {
+            writer.writeString(((BString) value).getValue());
+        } else if (value instanceof Long || value instanceof Integer) {
+            writer.writeLong(((Number) value).longValue());
+        } else if (value instanceof Double) {
+            writer.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            writer.writeBoolean((Boolean) value);
+        } else if (value instanceof BDecimal) {
+            writer.writeString(((BDecimal) value).decimalValue().toString());
+        } else if (value instanceof BMap) {
+            writeMap(writer, (BMap<?, ?>) value);
+        } else if (value instanceof BArray) {
+            writeArray(writer, (BArray) value);
+        } else if (value instanceof BXml) {
+            writer.writeString(value.toString());
+        } else {
+            throw Utils.createNatsError(String.format("Values of type '%s' cannot be encoded as %s",
+                    TypeUtils.getType(value), formatName));
+        }
+    }
+
+    private void writeMap(BinaryWriter writer, BMap<?, ?> map) {
+        Type type = getReferredType(TypeUtils.getType(map));
+        Map<String, byte[]> fieldNames = type.getTag() == RECORD_TYPE_TAG ? getRecordEncoder((RecordType) type) : null;
+        writer.writeMapHeader(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object key = entry.getKey();
+            String name = key instanceof BString ? ((BString) key).getValue() : String.valueOf(key);
+            byte[] encodedName = fieldNames != null ? fieldNames.get(name) : null;
+            if (encodedName != null) {
+                writer.writeBytes(encodedName);
+            } else {
+                writer.writeString(name);
+            }
+            writeValue(writer, entry.getValue());
+        }
+    }
+
+    private void writeArray(BinaryWriter writer, BArray array) {
+        if (getReferredType(array.getElementType()).getTag() == BYTE_TAG) {
+            writer.writeBinary(array.getBytes());
+            return;
+        }
+        int size = array.size();
+        writer.writeArrayHeader(size);
+        for (int i = 0; i < size; i++) {
+            writeValue(writer, array.get(i));
+        }
+    }
+
+    private Map<String, byte[]> getRecordEncoder(RecordType type) {
+        Map<String, byte[]> fieldNames = recordEncoders.get(type);
+        if (fieldNames == null) {
+            Map<String, byte[]> encodedNames = new HashMap<>();
+            BinaryWriter writer = createWriter();
+            for (String fieldName : type.getFields().keySet()) {
+                writer.writeString(fieldName);
+                encodedNames.put(fieldName, writer.toByteArray());
+                writer.reset();
+            }
+            recordEncoders.putIfAbsent(type, encodedNames);
+            fieldNames = encodedNames;
+        }
+        return fieldNames;
+    }
+
+    /**
+     * Reads the next value as an anydata value.
+     */
+    private static Object readAnydata(BinaryReader reader) {
+        switch (reader.peekKind()) {
+            case KIND_NIL:
+                reader.readNil();
+                return null;
+            case KIND_BOOLEAN:
+                return reader.readBoolean();
+            case KIND_INT:
+                return reader.readLong();
+            case KIND_FLOAT:
+                return reader.readDouble();
+            case KIND_STRING:
+                return StringUtils.fromString(reader.readString());
+            case KIND_BINARY:
+                return ValueCreator.createArrayValue(reader.readBinary());
+            case KIND_ARRAY:
+                List<Object> elements = new ArrayList<>();
+                int size = reader.readArrayHeader();
+                for (int i = 0; reader.hasNext(size, i); i++) {
+                    elements.add(readAnydata(reader));
+                }
+                return ValueCreator.createArrayValue(elements.toArray(), ANYDATA_ARRAY_TYPE);
+            default:
+                BMap<BString, Object> map = ValueCreator.createMapValue(ANYDATA_MAP_TYPE);
+                int entries = reader.readMapHeader();
+                for (int i = 0; reader.hasNext(entries, i); i++) {
+                    map.put(StringUtils.fromString(readKey(reader)), readAnydata(reader));
+                }
+                return map;
+        }
+    }
+
+    private static String readKey(BinaryReader reader) {
+        if (reader.peekKind() != KIND_STRING) {
+            throw new BinaryReader.MalformedPayloadException("map keys should be strings");
+        }
+        return reader.readString();
+    }
+
+    private static Object convert(BinaryReader reader, Type type) {
+        return ValueUtils.convert(readAnydata(reader), type);
+    }
+
+    /**
+     * Reads a value of a type.
+     */
+    private interface Decoder {
+        Object read(BinaryReader reader);
+    }
+
+    private final class DecoderFactory implements BindingPlans.Factory<Decoder> {
+
+        @Override
+        public Decoder createConverting(Type type) {
+            return new ConvertingDecoder(type);
+        }
+
+        @Override
+        public Decoder createDeferred(Type type) {
+            return new DeferredDecoder(type);
+        }
+
+        @Override
+        public Decoder createInt(Type type) {
+            return new IntDecoder(type);
+        }
+
+        @Override
+        public Decoder createFloat(Type type) {
+            return new FloatDecoder(type);
+        }
+
+        @Override
+        public Decoder createDecimal(Type type) {
+            return new DecimalDecoder(type);
+        }
+
+        @Override
+        public Decoder createString(Type type) {
+            return new StringDecoder(type);
+        }
+
+        @Override
+        public Decoder createBoolean(Type type) {
+            return new BooleanDecoder(type);
+        }
+
+        @Override
+        public Decoder createBytes(Type type) {
+            return new BytesDecoder(type);
+        }
+
+        @Override
+        public Decoder createRecord(RecordType type) {
+            return new RecordDecoder(type);
+        }
+
+        @Override
+        public Decoder createArray(ArrayType type) {
+            return new ArrayDecoder(type);
+        }
+
+        @Override
+        public Decoder createMap(MapType type) {
+            return new MapDecoder(type);
+        }
+    }
+
+    private static final class ConvertingDecoder implements Decoder {
+        private final Type type;
+
+        private ConvertingDecoder(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object read(BinaryReader reader) {
+            return convert(reader, type);
+        }
+    }
+
+    private final class DeferredDecoder implements Decoder {
+        private final Type type;
+        private volatile Decoder decoder;
+
+        private DeferredDecoder(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object read(BinaryReader reader) {
+            Decoder resolved = decoder;
+            if (resolved == null) {
+                resolved = decoders.get(type);
+                decoder = resolved;
+            }
+            return resolved.read(reader);
+        }
+    }
+
+    private static final class IntDecoder implements Decoder {
+        private final Type type;
+
+        private IntDecoder(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object read(BinaryReader reader) {
+            return reader.peekKind() == KIND_INT ? reader.readLong() : convert(reader, type);
+        }
+    }
+
+    private static final class FloatDecoder implements Decoder {
+        private final Type type;
+
+        private FloatDecoder(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object read(BinaryReader reader) {
+            int kind = reader.peekKind();
+            if (kind == KIND_FLOAT) {
+                return reader.readDouble();
+            } else if (kind == KIND_INT) {
+                return (double) reader.readLong();
+            }
+            return convert(reader, type);
+        }
+    }
+
+    private static final class DecimalDecoder implements Decoder {
+        private final Type type;
+
+        private DecimalDecoder(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object read(BinaryReader reader) {
+            try {
+                switch (reader.peekKind()) {
+                    case KIND_STRING:
+                        return ValueCreator.createDecimalValue(new BigDecimal(reader.readString()));
+                    case KIND_INT:
+                        return ValueCreator.createDecimalValue(BigDecimal.valueOf(reader.readLong()));
+                    case KIND_FLOAT:
+                        return ValueCreator.createDecimalValue(BigDecimal.valueOf(reader.readDouble()));
+                    default:
+                        return convert(reader, type);
+                }
+            } catch (NumberFormatException e) {
+                throw new BinaryReader.MalformedPayloadException("invalid decimal value");
+            }
+        }
+    }
+
+    private static final class StringDecoder implements Decoder {
+        private final Type type;
+
+        private StringDecoder(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object read(BinaryReader reader) {
+            return reader.peekKind() == KIND_STRING ? StringUtils.fromString(reader.readString()) :
+                    convert(reader, type);
+        }
+    }
+
+    private static final class BooleanDecoder implements Decoder {
+        private final Type type;
+
+        private BooleanDecoder(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object read(BinaryReader reader) {
+            return reader.peekKind() == KIND_BOOLEAN ? reader.readBoolean() : convert(reader, type);
+        }
+    }
+
+    private static final class BytesDecoder implements Decoder {
+        private final Type type;
+
+        private BytesDecoder(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object read(BinaryReader reader) {
+            return reader.peekKind() == KIND_BINARY ? ValueCreator.createArrayValue(reader.readBinary()) :
+                    convert(reader, type);
+        }
+    }
+
+    private final class RecordDecoder implements Decoder {
+        private final RecordType type;
+        private final Module module;
+        private final String name;
+        private final Map<String, FieldDecoder> fields = new HashMap<>();
+        private final List<BString> requiredFields = new ArrayList<>();
+        private final Decoder restDecoder;
+
+        private RecordDecoder(RecordType type) {
+            this.type = type;
+            this.module = type.getPackage();
+            this.name = type.getName();
+            for (Map.Entry<String, Field> entry : type.getFields().entrySet()) {
+                BString key = StringUtils.fromString(entry.getKey());
+                fields.put(entry.getKey(), new FieldDecoder(key, decoders.getMember(entry.getValue().getFieldType())));
+                if (SymbolFlags.isFlagOn(entry.getValue().getFlags(), SymbolFlags.REQUIRED)) {
+                    requiredFields.add(key);
+                }
+            }
+            this.restDecoder = type.isSealed() ? null : decoders.getMember(type.getRestFieldType());
+        }
+
+        @Override
+        public Object read(BinaryReader reader) {
+            if (reader.peekKind() != KIND_MAP) {
+                return convert(reader, type);
+            }
+            int start = reader.position;
+            BMap<BString, Object> record = ValueCreator.createRecordValue(module, name);
+            int entries = reader.readMapHeader();
+            for (int i = 0; reader.hasNext(entries, i); i++) {
+                String fieldName = readKey(reader);
+                FieldDecoder field = fields.get(fieldName);
+                if (field != null) {
+                    record.put(field.key, field.decoder.read(reader));
+                } else if (restDecoder != null) {
+                    record.put(StringUtils.fromString(fieldName), restDecoder.read(reader));
+                } else {
+                    reader.position = start;
+                    return convert(reader, type);
+                }
+            }
+            for (BString requiredField : requiredFields) {
+                if (!record.containsKey(requiredField)) {
+                    reader.position = start;
+                    return convert(reader, type);
+                }
+            }
+            return record;
+        }
+    }
+
+    private static final class FieldDecoder {
+        private final BString key;
+        private final Decoder decoder;
+
+        private FieldDecoder(BString key, Decoder decoder) {
+            this.key = key;
+            this.decoder = decoder;
+        }
+    }
+
+    private final class ArrayDecoder implements Decoder {
+        private final ArrayType type;
+        private final int elementTag;
+        private final Decoder elementDecoder;
+
+        private ArrayDecoder(ArrayType type) {
+            this.type = type;
+            this.elementTag = getReferredType(type.getElementType()).getTag();
+            this.elementDecoder = decoders.getMember(type.getElementType());
+        }
+
+        @Override
+        public Object read(BinaryReader reader) {
+            if (reader.peekKind() != KIND_ARRAY) {
+                return convert(reader, type);
+            }
+            List<Object> elements = new ArrayList<>();
+            int size = reader.readArrayHeader();
+            for (int i = 0; reader.hasNext(size, i); i++) {
+                elements.add(elementDecoder.read(reader));
+            }
+            return BindingPlans.createArray(type, elementTag, elements);
+        }
+    }
+
+    private final class MapDecoder implements Decoder {
+        private final MapType type;
+        private final Decoder constraintDecoder;
+
+        private MapDecoder(MapType type) {
+            this.type = type;
+            this.constraintDecoder = decoders.getMember(type.getConstrainedType());
+        }
+
+        @Override
+        public Object read(BinaryReader reader) {
+            if (reader.peekKind() != KIND_MAP) {
+                return convert(reader, type);
+            }
+            BMap<BString, Object> map = ValueCreator.createMapValue(type);
+            int entries = reader.readMapHeader();
+            for (int i = 0; reader.hasNext(entries, i); i++) {
+                map.put(StringUtils.fromString(readKey(reader)), constraintDecoder.read(reader));
+            }
+            return map;
+        }
+    }
+}
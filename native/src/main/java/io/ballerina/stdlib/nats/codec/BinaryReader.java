@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the values of a self-describing binary format. Implementations decode the format specific headers, while
+ * the data binding is shared by the formats.
+ */
+abstract class BinaryReader {
+    static final int KIND_NIL = 0;
+    static final int KIND_BOOLEAN = 1;
+    static final int KIND_INT = 2;
+    static final int KIND_FLOAT = 3;
+    static final int KIND_STRING = 4;
+    static final int KIND_BINARY = 5;
+    static final int KIND_ARRAY = 6;
+    static final int KIND_MAP = 7;
+
+    final byte[] bytes;
+    int position;
+
+    BinaryReader(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Returns the kind of the next value without consuming it.
+     */
+    abstract int peekKind();
+
+    abstract void readNil();
+
+    abstract boolean readBoolean();
+
+    abstract long readLong();
+
+    abstract double readDouble();
+
+    abstract String readString();
+
+    abstract byte[] readBinary();
+
+    /**
+     * Reads the header of an array.
+     *
+     * @return the number of elements or -1 if the array is terminated by a break
+     */
+    abstract int readArrayHeader();
+
+    /**
+     * Reads the header of a map.
+     *
+     * @return the number of entries or -1 if the map is terminated by a break
+     */
+    abstract int readMapHeader();
+
+    /**
+     * Consumes the break, which terminates an array or a map of unknown length, if it is next.
+     *
+     * @return whether the break was consumed
+     */
+    boolean readBreak() {
+        return false;
+    }
+
+    /**
+     * Whether there is another member in an array or a map with the given header.
+     */
+    boolean hasNext(int count, int index) {
+        return count < 0 ? !readBreak() : index < count;
+    }
+
+    boolean hasRemaining() {
+        return position < bytes.length;
+    }
+
+    int readUnsignedByte() {
+        require(1);
+        return bytes[position++] & 0xFF;
+    }
+
+    int readUnsignedShort() {
+        require(2);
+        int value = ((bytes[position] & 0xFF) << 8) | (bytes[position + 1] & 0xFF);
+        position += 2;
+        return value;
+    }
+
+    long readUnsignedInt() {
+        require(4);
+        long value = ((long) (bytes[position] & 0xFF) << 24) | ((bytes[position + 1] & 0xFF) << 16) |
+                ((bytes[position + 2] & 0xFF) << 8) | (bytes[position + 3] & 0xFF);
+        position += 4;
+        return value;
+    }
+
+    long readLong64() {
+        long high = readUnsignedInt();
+        return (high << 32) | readUnsignedInt();
+    }
+
+    String readUtf8(long length) {
+        int size = checkLength(length);
+        String value = new String(bytes, position, size, StandardCharsets.UTF_8);
+        position += size;
+        return value;
+    }
+
+    byte[] readBytes(long length) {
+        int size = checkLength(length);
+        byte[] value = new byte[size];
+        System.arraycopy(bytes, position, value, 0, size);
+        position += size;
+        return value;
+    }
+
+    int checkLength(long length) {
+        if (length < 0 || length > bytes.length - position) {
+            throw new MalformedPayloadException("unexpected end of the payload");
+        }
+        return (int) length;
+    }
+
+    private void require(int length) {
+        if (bytes.length - position < length) {
+            throw new MalformedPayloadException("unexpected end of the payload");
+        }
+    }
+
+    /**
+     * Signals a payload which does not conform to the format.
+     */
+    static final class MalformedPayloadException extends RuntimeException {
+        MalformedPayloadException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes the values of a self-describing binary format into a growable buffer, which is reused across the encoded
+ * values.
+ */
+abstract class BinaryWriter {
+    private static final int INITIAL_CAPACITY = 512;
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int count;
+
+    abstract void writeNil();
+
+    abstract void writeBoolean(boolean value);
+
+    abstract void writeLong(long value);
+
+    abstract void writeDouble(double value);
+
+    abstract void writeBinary(byte[] value);
+
+    abstract void writeArrayHeader(int size);
+
+    abstract void writeMapHeader(int size);
+
+    /**
+     * Writes the header of a string with the given length of UTF-8 bytes.
+     */
+    abstract void writeStringHeader(int length);
+
+    void writeString(String value) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeStringHeader(utf8.length);
+        writeBytes(utf8);
+    }
+
+    void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[count++] = (byte) value;
+    }
+
+    void writeShort(int value) {
+        ensureCapacity(2);
+        buffer[count++] = (byte) (value >>> 8);
+        buffer[count++] = (byte) value;
+    }
+
+    void writeInt(long value) {
+        ensureCapacity(4);
+        buffer[count++] = (byte) (value >>> 24);
+        buffer[count++] = (byte) (value >>> 16);
+        buffer[count++] = (byte) (value >>> 8);
+        buffer[count++] = (byte) value;
+    }
+
+    void writeLong64(long value) {
+        writeInt(value >>> 32);
+        writeInt(value);
+    }
+
+    void writeBytes(byte[] value) {
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, buffer, count, value.length);
+        count += value.length;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, count);
+    }
+
+    int capacity() {
+        return buffer.length;
+    }
+
+    void reset() {
+        count = 0;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (count + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + additional));
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.codec;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.runtime.api.types.TypeTags.ANYDATA_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.ARRAY_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.BOOLEAN_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.BYTE_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.DECIMAL_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.FLOAT_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.INT_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.JSON_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.MAP_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.RECORD_TYPE_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.STRING_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.UNION_TAG;
+import static io.ballerina.runtime.api.utils.TypeUtils.getReferredType;
+
+/**
+ * The cached binding plans of the intended types of payloads, shared by the JSON data binding and the binary codecs.
+ * Which plan binds a type is decided here, while the plans themselves are created by the factory of the payload
+ * format. Hence all the formats bind the same types natively and leave the same types to the conversion.
+ *
+ * @param <T> the plans of the payload format
+ */
+public final class BindingPlans<T> {
+    private final Map<Type, T> plans = new ConcurrentHashMap<>();
+    private final Factory<T> factory;
+
+    public BindingPlans(Factory<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the plan of a type, creating it on first use.
+     *
+     * @param type the intended type
+     * @return the plan of the type
+     */
+    public T get(Type type) {
+        T plan = plans.get(type);
+        if (plan == null) {
+            plan = create(type);
+            T existing = plans.putIfAbsent(type, plan);
+            if (existing != null) {
+                plan = existing;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Returns the plan of a field, element or constraint type of a structured type.
+     *
+     * @param type the member type
+     * @return the plan of the member type
+     */
+    public T getMember(Type type) {
+        int tag = getReferredType(type).getTag();
+        if (tag == RECORD_TYPE_TAG || tag == ARRAY_TAG || tag == MAP_TAG) {
+            // Resolved on first use, since structured types may refer to themselves.
+            return factory.createDeferred(type);
+        }
+        return get(type);
+    }
+
+    private T create(Type type) {
+        Type referredType = getReferredType(type);
+        if (referredType.isReadOnly()) {
+            return factory.createConverting(type);
+        }
+        switch (referredType.getTag()) {
+            case INT_TAG:
+                return factory.createInt(type);
+            case FLOAT_TAG:
+                return factory.createFloat(type);
+            case DECIMAL_TAG:
+                return factory.createDecimal(type);
+            case STRING_TAG:
+                return factory.createString(type);
+            case BOOLEAN_TAG:
+                return factory.createBoolean(type);
+            case RECORD_TYPE_TAG:
+                String recordName = referredType.getName();
+                if (recordName == null || recordName.isEmpty() || recordName.contains("$")) {
+                    // Anonymous records cannot be created by name.
+                    return factory.createConverting(type);
+                }
+                return factory.createRecord((RecordType) referredType);
+            case ARRAY_TAG:
+                ArrayType arrayType = (ArrayType) referredType;
+                int elementTag = getReferredType(arrayType.getElementType()).getTag();
+                if (arrayType.getSize() != -1) {
+                    return factory.createConverting(type);
+                } else if (elementTag == BYTE_TAG) {
+                    return factory.createBytes(type);
+                } else if (!isSupportedArrayElement(elementTag)) {
+                    return factory.createConverting(type);
+                }
+                return factory.createArray(arrayType);
+            case MAP_TAG:
+                return factory.createMap((MapType) referredType);
+            default:
+                return factory.createConverting(type);
+        }
+    }
+
+    // Arrays of other simple types, such as int subtypes, have their own storage and are left to the conversion.
+    private static boolean isSupportedArrayElement(int tag) {
+        switch (tag) {
+            case INT_TAG:
+            case FLOAT_TAG:
+            case DECIMAL_TAG:
+            case STRING_TAG:
+            case BOOLEAN_TAG:
+            case RECORD_TYPE_TAG:
+            case ARRAY_TAG:
+            case MAP_TAG:
+            case JSON_TAG:
+            case ANYDATA_TAG:
+            case UNION_TAG:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Creates an array of the given type from its bound elements. Arrays of simple values store their members
+     * unboxed, hence are created from the matching Java array.
+     *
+     * @param type       the array type
+     * @param elementTag the tag of the referred element type
+     * @param elements   the bound elements
+     * @return the array value
+     */
+    public static Object createArray(ArrayType type, int elementTag, List<Object> elements) {
+        int size = elements.size();
+        switch (elementTag) {
+            case INT_TAG:
+                long[] ints = new long[size];
+                for (int i = 0; i < size; i++) {
+                    ints[i] = (Long) elements.get(i);
+                }
+                return ValueCreator.createArrayValue(ints);
+            case FLOAT_TAG:
+                double[] floats = new double[size];
+                for (int i = 0; i < size; i++) {
+                    floats[i] = (Double) elements.get(i);
+                }
+                return ValueCreator.createArrayValue(floats);
+            case BOOLEAN_TAG:
+                boolean[] booleans = new boolean[size];
+                for (int i = 0; i < size; i++) {
+                    booleans[i] = (Boolean) elements.get(i);
+                }
+                return ValueCreator.createArrayValue(booleans);
+            case STRING_TAG:
+                return ValueCreator.createArrayValue(elements.toArray(new BString[0]));
+            default:
+                return ValueCreator.createArrayValue(elements.toArray(), type);
+        }
+    }
+
+    /**
+     * Creates the plans of a payload format.
+     *
+     * @param <T> the plans of the payload format
+     */
+    public interface Factory<T> {
+
+        /**
+         * Creates a plan which converts the value as an anydata value, for the types which are not bound natively.
+         */
+        T createConverting(Type type);
+
+        /**
+         * Creates a plan which looks up the plan of a structured member type on first use.
+         */
+        T createDeferred(Type type);
+
+        T createInt(Type type);
+
+        T createFloat(Type type);
+
+        T createDecimal(Type type);
+
+        T createString(Type type);
+
+        T createBoolean(Type type);
+
+        T createBytes(Type type);
+
+        T createRecord(RecordType type);
+
+        T createArray(ArrayType type);
+
+        T createMap(MapType type);
+    }
+}
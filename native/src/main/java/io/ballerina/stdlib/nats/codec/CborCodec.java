@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes the content in the Concise Binary Object Representation (RFC 8949). Tags are ignored when decoding, and
+ * floats are always encoded in double precision.
+ */
+final class CborCodec extends BinaryCodec {
+    private static final int MAJOR_UNSIGNED = 0;
+    private static final int MAJOR_NEGATIVE = 1;
+    private static final int MAJOR_BYTES = 2;
+    private static final int MAJOR_TEXT = 3;
+    private static final int MAJOR_ARRAY = 4;
+    private static final int MAJOR_MAP = 5;
+    private static final int MAJOR_TAG = 6;
+    private static final int MAJOR_SIMPLE = 7;
+    private static final int FALSE = 0xF4;
+    private static final int TRUE = 0xF5;
+    private static final int NULL = 0xF6;
+    private static final int UNDEFINED = 0xF7;
+    private static final int FLOAT16 = 0xF9;
+    private static final int FLOAT32 = 0xFA;
+    private static final int FLOAT64 = 0xFB;
+    private static final int BREAK = 0xFF;
+    private static final int INDEFINITE_LENGTH = 31;
+
+    CborCodec() {
+        super("application/cbor", "CBOR");
+    }
+
+    @Override
+    BinaryWriter createWriter() {
+        return new CborWriter();
+    }
+
+    @Override
+    BinaryReader createReader(byte[] payload) {
+        return new CborReader(payload);
+    }
+
+    private static final class CborWriter extends BinaryWriter {
+
+        @Override
+        void writeNil() {
+            writeByte(NULL);
+        }
+
+        @Override
+        void writeBoolean(boolean value) {
+            writeByte(value ? TRUE : FALSE);
+        }
+
+        @Override
+        void writeLong(long value) {
+            if (value >= 0) {
+                writeHeader(MAJOR_UNSIGNED, value);
+            } else {
+                writeHeader(MAJOR_NEGATIVE, -1 - value);
+            }
+        }
+
+        @Override
+        void writeDouble(double value) {
+            writeByte(FLOAT64);
+            writeLong64(Double.doubleToRawLongBits(value));
+        }
+
+        @Override
+        void writeBinary(byte[] value) {
+            writeHeader(MAJOR_BYTES, value.length);
+            writeBytes(value);
+        }
+
+        @Override
+        void writeArrayHeader(int size) {
+            writeHeader(MAJOR_ARRAY, size);
+        }
+
+        @Override
+        void writeMapHeader(int size) {
+            writeHeader(MAJOR_MAP, size);
+        }
+
+        @Override
+        void writeStringHeader(int length) {
+            writeHeader(MAJOR_TEXT, length);
+        }
+
+        private void writeHeader(int majorType, long argument) {
+            int initialByte = majorType << 5;
+            if (argument < 24) {
+                writeByte(initialByte | (int) argument);
+            } else if (argument <= 0xFF) {
+                writeByte(initialByte | 24);
+                writeByte((int) argument);
+            } else if (argument <= 0xFFFF) {
+                writeByte(initialByte | 25);
+                writeShort((int) argument);
+            } else if (argument <= 0xFFFFFFFFL) {
+                writeByte(initialByte | 26);
+                writeInt(argument);
+            } else {
+                writeByte(initialByte | 27);
+                writeLong64(argument);
+            }
+        }
+    }
+
+    private static final class CborReader extends BinaryReader {
+
+        private CborReader(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        int peekKind() {
+            skipTags();
+            int initialByte = peekInitialByte();
+            switch (initialByte >>> 5) {
+                case MAJOR_UNSIGNED:
+                case MAJOR_NEGATIVE:
+                    return KIND_INT;
+                case MAJOR_BYTES:
+                    return KIND_BINARY;
+                case MAJOR_TEXT:
+                    return KIND_STRING;
+                case MAJOR_ARRAY:
+                    return KIND_ARRAY;
+                case MAJOR_MAP:
+                    return KIND_MAP;
+                default:
+                    switch (initialByte) {
+                        case FALSE:
+                        case TRUE:
+                            return KIND_BOOLEAN;
+                        case NULL:
+                        case UNDEFINED:
+                            return KIND_NIL;
+                        case FLOAT16:
+                        case FLOAT32:
+                        case FLOAT64:
+                            return KIND_FLOAT;
+                        default:
+                            throw new MalformedPayloadException(String.format("unsupported initial byte 0x%02x",
+                                    initialByte));
+                    }
+            }
+        }
+
+        @Override
+        void readNil() {
+            skipTags();
+            readUnsignedByte();
+        }
+
+        @Override
+        boolean readBoolean() {
+            skipTags();
+            return readUnsignedByte() == TRUE;
+        }
+
+        @Override
+        long readLong() {
+            skipTags();
+            int initialByte = readUnsignedByte();
+            long argument = readArgument(initialByte);
+            if (argument < 0) {
+                throw new MalformedPayloadException("integer out of range");
+            }
+            return initialByte >>> 5 == MAJOR_UNSIGNED ? argument : -1 - argument;
+        }
+
+        @Override
+        double readDouble() {
+            skipTags();
+            int initialByte = readUnsignedByte();
+            if (initialByte == FLOAT16) {
+                return Float.float16ToFloat((short) readUnsignedShort());
+            } else if (initialByte == FLOAT32) {
+                return Float.intBitsToFloat((int) readUnsignedInt());
+            }
+            return Double.longBitsToDouble(readLong64());
+        }
+
+        @Override
+        String readString() {
+            skipTags();
+            int initialByte = readUnsignedByte();
+            if ((initialByte & 0x1F) == INDEFINITE_LENGTH) {
+                return new String(readChunks(MAJOR_TEXT), StandardCharsets.UTF_8);
+            }
+            return readUtf8(readArgument(initialByte));
+        }
+
+        @Override
+        byte[] readBinary() {
+            skipTags();
+            int initialByte = readUnsignedByte();
+            if ((initialByte & 0x1F) == INDEFINITE_LENGTH) {
+                return readChunks(MAJOR_BYTES);
+            }
+            return readBytes(readArgument(initialByte));
+        }
+
+        @Override
+        int readArrayHeader() {
+            return readContainerHeader();
+        }
+
+        @Override
+        int readMapHeader() {
+            return readContainerHeader();
+        }
+
+        @Override
+        boolean readBreak() {
+            if (peekInitialByte() == BREAK) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private int readContainerHeader() {
+            skipTags();
+            int initialByte = readUnsignedByte();
+            if ((initialByte & 0x1F) == INDEFINITE_LENGTH) {
+                return -1;
+            }
+            // Each member takes at least a byte, which bounds the size of a valid container.
+            return checkLength(readArgument(initialByte));
+        }
+
+        private byte[] readChunks(int majorType) {
+            ByteArrayOutputStream chunks = new ByteArrayOutputStream();
+            while (!readBreak()) {
+                int initialByte = readUnsignedByte();
+                if (initialByte >>> 5 != majorType || (initialByte & 0x1F) == INDEFINITE_LENGTH) {
+                    throw new MalformedPayloadException("invalid chunk of an indefinite length string");
+                }
+                chunks.writeBytes(readBytes(readArgument(initialByte)));
+            }
+            return chunks.toByteArray();
+        }
+
+        // Returns a negative value if the argument does not fit in a signed long.
+        private long readArgument(int initialByte) {
+            int additionalInfo = initialByte & 0x1F;
+            if (additionalInfo < 24) {
+                return additionalInfo;
+            }
+            switch (additionalInfo) {
+                case 24:
+                    return readUnsignedByte();
+                case 25:
+                    return readUnsignedShort();
+                case 26:
+                    return readUnsignedInt();
+                case 27:
+                    return readLong64();
+                default:
+                    throw new MalformedPayloadException(String.format("unsupported initial byte 0x%02x",
+                            initialByte));
+            }
+        }
+
+        private void skipTags() {
+            while (peekInitialByte() >>> 5 == MAJOR_TAG) {
+                readArgument(readUnsignedByte());
+            }
+        }
+
+        private int peekInitialByte() {
+            if (!hasRemaining()) {
+                throw new MalformedPayloadException("unexpected end of the payload");
+            }
+            return bytes[position] & 0xFF;
+        }
+    }
+}
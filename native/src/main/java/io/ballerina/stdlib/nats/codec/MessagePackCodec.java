@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.codec;
+
+/**
+ * Encodes the content in MessagePack. Extension types are not supported, and floats are always encoded in double
+ * precision.
+ */
+final class MessagePackCodec extends BinaryCodec {
+    private static final int NIL = 0xC0;
+    private static final int FALSE = 0xC2;
+    private static final int TRUE = 0xC3;
+    private static final int BIN8 = 0xC4;
+    private static final int BIN16 = 0xC5;
+    private static final int BIN32 = 0xC6;
+    private static final int FLOAT32 = 0xCA;
+    private static final int FLOAT64 = 0xCB;
+    private static final int UINT8 = 0xCC;
+    private static final int UINT16 = 0xCD;
+    private static final int UINT32 = 0xCE;
+    private static final int UINT64 = 0xCF;
+    private static final int INT8 = 0xD0;
+    private static final int INT16 = 0xD1;
+    private static final int INT32 = 0xD2;
+    private static final int INT64 = 0xD3;
+    private static final int STR8 = 0xD9;
+    private static final int STR16 = 0xDA;
+    private static final int STR32 = 0xDB;
+    private static final int ARRAY16 = 0xDC;
+    private static final int ARRAY32 = 0xDD;
+    private static final int MAP16 = 0xDE;
+    private static final int MAP32 = 0xDF;
+    private static final int FIXMAP = 0x80;
+    private static final int FIXARRAY = 0x90;
+    private static final int FIXSTR = 0xA0;
+    private static final int NEGATIVE_FIXINT = 0xE0;
+
+    MessagePackCodec() {
+        super("application/msgpack", "MessagePack");
+    }
+
+    @Override
+    BinaryWriter createWriter() {
+        return new MessagePackWriter();
+    }
+
+    @Override
+    BinaryReader createReader(byte[] payload) {
+        return new MessagePackReader(payload);
+    }
+
+    private static final class MessagePackWriter extends BinaryWriter {
+
+        @Override
+        void writeNil() {
+            writeByte(NIL);
+        }
+
+        @Override
+        void writeBoolean(boolean value) {
+            writeByte(value ? TRUE : FALSE);
+        }
+
+        @Override
+        void writeLong(long value) {
+            if (value >= 0) {
+                if (value < 0x80) {
+                    writeByte((int) value);
+                } else if (value <= 0xFF) {
+                    writeByte(UINT8);
+                    writeByte((int) value);
+                } else if (value <= 0xFFFF) {
+                    writeByte(UINT16);
+                    writeShort((int) value);
+                } else if (value <= 0xFFFFFFFFL) {
+                    writeByte(UINT32);
+                    writeInt(value);
+                } else {
+                    writeByte(UINT64);
+                    writeLong64(value);
+                }
+            } else if (value >= -32) {
+                writeByte((int) value);
+            } else if (value >= Byte.MIN_VALUE) {
+                writeByte(INT8);
+                writeByte((int) value);
+            } else if (value >= Short.MIN_VALUE) {
+                writeByte(INT16);
+                writeShort((int) value);
+            } else if (value >= Integer.MIN_VALUE) {
+                writeByte(INT32);
+                writeInt(value);
+            } else {
+                writeByte(INT64);
+                writeLong64(value);
+            }
+        }
+
+        @Override
+        void writeDouble(double value) {
+            writeByte(FLOAT64);
+            writeLong64(Double.doubleToRawLongBits(value));
+        }
+
+        @Override
+        void writeBinary(byte[] value) {
+            int length = value.length;
+            if (length <= 0xFF) {
+                writeByte(BIN8);
+                writeByte(length);
+            } else if (length <= 0xFFFF) {
+                writeByte(BIN16);
+                writeShort(length);
+            } else {
+                writeByte(BIN32);
+                writeInt(length);
+            }
+            writeBytes(value);
+        }
+
+        @Override
+        void writeArrayHeader(int size) {
+            writeContainerHeader(size, FIXARRAY, ARRAY16, ARRAY32);
+        }
+
+        @Override
+        void writeMapHeader(int size) {
+            writeContainerHeader(size, FIXMAP, MAP16, MAP32);
+        }
+
+        @Override
+        void writeStringHeader(int length) {
+            if (length < 32) {
+                writeByte(FIXSTR | length);
+            } else if (length <= 0xFF) {
+                writeByte(STR8);
+                writeByte(length);
+            } else if (length <= 0xFFFF) {
+                writeByte(STR16);
+                writeShort(length);
+            } else {
+                writeByte(STR32);
+                writeInt(length);
+            }
+        }
+
+        private void writeContainerHeader(int size, int fixType, int type16, int type32) {
+            if (size < 16) {
+                writeByte(fixType | size);
+            } else if (size <= 0xFFFF) {
+                writeByte(type16);
+                writeShort(size);
+            } else {
+                writeByte(type32);
+                writeInt(size);
+            }
+        }
+    }
+
+    private static final class MessagePackReader extends BinaryReader {
+
+        private MessagePackReader(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        int peekKind() {
+            if (!hasRemaining()) {
+                throw new MalformedPayloadException("unexpected end of the payload");
+            }
+            int type = bytes[position] & 0xFF;
+            if (type < FIXMAP || type >= NEGATIVE_FIXINT) {
+                return KIND_INT;
+            } else if (type < FIXARRAY) {
+                return KIND_MAP;
+            } else if (type < FIXSTR) {
+                return KIND_ARRAY;
+            } else if (type < NIL) {
+                return KIND_STRING;
+            }
+            switch (type) {
+                case NIL:
+                    return KIND_NIL;
+                case FALSE:
+                case TRUE:
+                    return KIND_BOOLEAN;
+                case BIN8:
+                case BIN16:
+                case BIN32:
+                    return KIND_BINARY;
+                case FLOAT32:
+                case FLOAT64:
+                    return KIND_FLOAT;
+                case UINT8:
+                case UINT16:
+                case UINT32:
+                case UINT64:
+                case INT8:
+                case INT16:
+                case INT32:
+                case INT64:
+                    return KIND_INT;
+                case STR8:
+                case STR16:
+                case STR32:
+                    return KIND_STRING;
+                case ARRAY16:
+                case ARRAY32:
+                    return KIND_ARRAY;
+                case MAP16:
+                case MAP32:
+                    return KIND_MAP;
+                default:
+                    throw new MalformedPayloadException(String.format("unsupported type 0x%02x", type));
+            }
+        }
+
+        @Override
+        void readNil() {
+            readUnsignedByte();
+        }
+
+        @Override
+        boolean readBoolean() {
+            return readUnsignedByte() == TRUE;
+        }
+
+        @Override
+        long readLong() {
+            int type = readUnsignedByte();
+            if (type < FIXMAP) {
+                return type;
+            } else if (type >= NEGATIVE_FIXINT) {
+                return (byte) type;
+            }
+            switch (type) {
+                case UINT8:
+                    return readUnsignedByte();
+                case UINT16:
+                    return readUnsignedShort();
+                case UINT32:
+                    return readUnsignedInt();
+                case UINT64:
+                    long value = readLong64();
+                    if (value < 0) {
+                        throw new MalformedPayloadException("integer out of range");
+                    }
+                    return value;
+                case INT8:
+                    return (byte) readUnsignedByte();
+                case INT16:
+                    return (short) readUnsignedShort();
+                case INT32:
+                    return (int) readUnsignedInt();
+                default:
+                    return readLong64();
+            }
+        }
+
+        @Override
+        double readDouble() {
+            int type = readUnsignedByte();
+            if (type == FLOAT32) {
+                return Float.intBitsToFloat((int) readUnsignedInt());
+            }
+            return Double.longBitsToDouble(readLong64());
+        }
+
+        @Override
+        String readString() {
+            int type = readUnsignedByte();
+            switch (type) {
+                case STR8:
+                    return readUtf8(readUnsignedByte());
+                case STR16:
+                    return readUtf8(readUnsignedShort());
+                case STR32:
+                    return readUtf8(readUnsignedInt());
+                default:
+                    return readUtf8(type & 0x1F);
+            }
+        }
+
+        @Override
+        byte[] readBinary() {
+            int type = readUnsignedByte();
+            switch (type) {
+                case BIN8:
+                    return readBytes(readUnsignedByte());
+                case BIN16:
+                    return readBytes(readUnsignedShort());
+                default:
+                    return readBytes(readUnsignedInt());
+            }
+        }
+
+        @Override
+        int readArrayHeader() {
+            int type = readUnsignedByte();
+            switch (type) {
+                case ARRAY16:
+                    return checkLength(readUnsignedShort());
+                case ARRAY32:
+                    return checkLength(readUnsignedInt());
+                default:
+                    return type & 0x0F;
+            }
+        }
+
+        @Override
+        int readMapHeader() {
+            int type = readUnsignedByte();
+            switch (type) {
+                case MAP16:
+                    return checkLength(readUnsignedShort());
+                case MAP32:
+                    return checkLength(readUnsignedInt());
+                default:
+                    return type & 0x0F;
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.codec;
+
+import io.ballerina.runtime.api.types.Type;
+
+/**
+ * Encodes and decodes the structured content of messages. Codecs are looked up by their content type, which is
+ * carried in the `Content-Type` header of the messages they encode. Additional codecs can be provided as services of
+ * this interface.
+ */
+public interface PayloadCodec {
+
+    /**
+     * Returns the content type of the encoded messages.
+     *
+     * @return the media type, such as `application/cbor`
+     */
+    String getContentType();
+
+    /**
+     * Encodes an anydata value.
+     *
+     * @param value the value
+     * @return the encoded bytes
+     */
+    byte[] encode(Object value);
+
+    /**
+     * Decodes a payload into a value of the given type.
+     *
+     * @param payload the encoded bytes
+     * @param type    the intended type
+     * @return the value of the intended type
+     */
+    Object decode(byte[] payload, Type type);
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.codec;
+
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.stdlib.nats.Constants;
+import io.ballerina.stdlib.nats.Utils;
+import io.nats.client.Message;
+import io.nats.client.impl.Headers;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The registry of the payload codecs. JSON is not a registered codec, since JSON and text content is handled by the
+ * default data binding. Hence, a `null` codec stands for JSON.
+ */
+public final class PayloadCodecs {
+    public static final String JSON_CONTENT_TYPE = "application/json";
+
+    private static final Map<String, PayloadCodec> CODECS = new ConcurrentHashMap<>();
+
+    static {
+        register(new CborCodec());
+        register(new MessagePackCodec());
+        for (PayloadCodec codec : ServiceLoader.load(PayloadCodec.class, PayloadCodecs.class.getClassLoader())) {
+            register(codec);
+        }
+    }
+
+    private PayloadCodecs() {
+    }
+
+    /**
+     * Registers a codec, replacing any codec of the same content type.
+     *
+     * @param codec the codec
+     */
+    public static void register(PayloadCodec codec) {
+        CODECS.put(normalize(codec.getContentType()), codec);
+    }
+
+    /**
+     * Returns the codec of a configured content type.
+     *
+     * @param contentType the content type of the configurations
+     * @return the codec or `null` for JSON
+     */
+    public static PayloadCodec fromConfig(String contentType) {
+        String normalized = normalize(contentType);
+        if (JSON_CONTENT_TYPE.equals(normalized)) {
+            return null;
+        }
+        PayloadCodec codec = CODECS.get(normalized);
+        if (codec == null) {
+            throw Utils.createNatsError("No payload codec is available for the content type: " + contentType);
+        }
+        return codec;
+    }
+
+    /**
+     * Returns the codec of a received message, which is given by its `Content-Type` header. Messages with an unknown
+     * content type are handled by the default data binding.
+     *
+     * @param message      the received message
+     * @param defaultCodec the codec of the messages without a `Content-Type` header
+     * @return the codec or `null` for JSON and text
+     */
+    public static PayloadCodec forMessage(Message message, PayloadCodec defaultCodec) {
+        if (!message.hasHeaders()) {
+            return defaultCodec;
+        }
+        String contentType = message.getHeaders().getFirst(Constants.CONTENT_TYPE_HEADER);
+        if (contentType == null) {
+            return defaultCodec;
+        }
+        return CODECS.get(normalize(contentType));
+    }
+
+    /**
+     * Whether the content is encoded with the codec. Byte array, string and xml content is always sent as it is.
+     *
+     * @param content the message content
+     * @return `false` if the content is sent as it is
+     */
+    public static boolean isEncoded(Object content) {
+        if (content instanceof BString || content instanceof BXml) {
+            return false;
+        }
+        Type contentType = TypeUtils.getReferredType(TypeUtils.getType(content));
+        return contentType.getTag() != TypeTags.ARRAY_TAG ||
+                TypeUtils.getReferredType(((ArrayType) contentType).getElementType()).getTag() != TypeTags.BYTE_TAG;
+    }
+
+    /**
+     * Creates the headers of a message encoded with a codec.
+     *
+     * @param codec the codec
+     * @return the headers carrying the content type
+     */
+    public static Headers createHeaders(PayloadCodec codec) {
+        return new Headers().put(Constants.CONTENT_TYPE_HEADER, codec.getContentType());
+    }
+
+    // Drops the parameters of the media type, such as the charset.
+    private static String normalize(String contentType) {
+        int parametersStart = contentType.indexOf(';');
+        String mediaType = parametersStart < 0 ? contentType : contentType.substring(0, parametersStart);
+        return mediaType.trim().toLowerCase(Locale.ROOT);
+    }
+}
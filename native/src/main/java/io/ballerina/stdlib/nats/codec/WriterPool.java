@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.codec;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of the buffered writers which serialize payloads, so that encoding a payload only allocates the
+ * resulting byte array.
+ *
+ * @param <T> the type of the writers
+ */
+public final class WriterPool<T> {
+    // Buffers grown beyond this size by an unusually large value are not kept in the pool.
+    private static final int MAX_POOLED_CAPACITY = 64 * 1024;
+    private static final int MAX_POOLED_WRITERS = 64;
+
+    private final ArrayBlockingQueue<T> writers = new ArrayBlockingQueue<>(MAX_POOLED_WRITERS);
+    private final Supplier<T> factory;
+
+    public WriterPool(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Takes a writer from the pool, or creates one if the pool is empty.
+     *
+     * @return a writer with an empty buffer
+     */
+    public T acquire() {
+        T writer = writers.poll();
+        return writer != null ? writer : factory.get();
+    }
+
+    /**
+     * Returns a reset writer to the pool, unless its buffer has grown too large to be kept.
+     *
+     * @param writer   the writer
+     * @param capacity the capacity of the buffer of the writer
+     */
+    public void release(T writer, int capacity) {
+        if (capacity <= MAX_POOLED_CAPACITY) {
+            writers.offer(writer);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.compression;
+
+import java.io.IOException;
+
+/**
+ * Compresses the payloads of messages. Algorithms are identified by their content encoding, which is carried in the
+ * `Content-Encoding` header of the compressed messages.
+ */
+interface CompressionAlgorithm {
+
+    /**
+     * Returns the content encoding of the compressed payloads.
+     *
+     * @return the encoding, such as `gzip`
+     */
+    String getEncoding();
+
+    byte[] compress(byte[] payload) throws IOException;
+
+    /**
+     * Decompresses a payload.
+     *
+     * @param payload the compressed payload
+     * @param maxSize the maximum size of the decompressed payload
+     * @return the decompressed payload
+     * @throws IOException if the payload is malformed or it expands beyond the maximum size
+     */
+    byte[] decompress(byte[] payload, int maxSize) throws IOException;
+}
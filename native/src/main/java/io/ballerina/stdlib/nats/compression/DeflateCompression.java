@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compresses the payloads with DEFLATE, either in the gzip format (RFC 1952) or in the zlib format (RFC 1950), which
+ * is what the `deflate` content encoding stands for.
+ */
+final class DeflateCompression implements CompressionAlgorithm {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final boolean gzip;
+
+    DeflateCompression(boolean gzip) {
+        this.gzip = gzip;
+    }
+
+    @Override
+    public String getEncoding() {
+        return gzip ? "gzip" : "deflate";
+    }
+
+    @Override
+    public byte[] compress(byte[] payload) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, payload.length / 4));
+        try (OutputStream output = gzip ? new GZIPOutputStream(compressed, BUFFER_SIZE) :
+                new DeflaterOutputStream(compressed)) {
+            output.write(payload);
+        }
+        return compressed.toByteArray();
+    }
+
+    @Override
+    public byte[] decompress(byte[] payload, int maxSize) throws IOException {
+        ByteArrayOutputStream decompressed = new ByteArrayOutputStream(Math.min(maxSize, payload.length * 4));
+        try (InputStream input = gzip ? new GZIPInputStream(new ByteArrayInputStream(payload), BUFFER_SIZE) :
+                new InflaterInputStream(new ByteArrayInputStream(payload))) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = input.read(buffer)) > 0) {
+                if (read > maxSize - decompressed.size()) {
+                    throw new IOException("the decompressed payload exceeds " + maxSize + " bytes");
+                }
+                decompressed.write(buffer, 0, read);
+            }
+        }
+        return decompressed.toByteArray();
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.compression;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Compresses the payloads in the LZ4 frame format, which trades compression ratio for speed. Payloads are split into
+ * independent blocks of 64 KB, each compressed with a single pass greedy match finder. Frames written by other LZ4
+ * implementations are decompressed as well, except for the ones which need a dictionary. Checksums are not verified.
+ */
+final class Lz4Compression implements CompressionAlgorithm {
+    private static final int MAGIC = 0x184D2204;
+    // Version 01 with independent blocks of at most 64 KB, followed by the checksum of the descriptor. The
+    // descriptor is constant, hence so is its checksum.
+    private static final byte[] FRAME_DESCRIPTOR = {0x60, 0x40, (byte) 0x82};
+    private static final int FLAG_BLOCK_CHECKSUM = 0x10;
+    private static final int FLAG_CONTENT_SIZE = 0x08;
+    private static final int FLAG_CONTENT_CHECKSUM = 0x04;
+    private static final int FLAG_DICTIONARY_ID = 0x01;
+    private static final int UNCOMPRESSED_BLOCK = 0x80000000;
+    private static final int BLOCK_SIZE = 64 * 1024;
+    private static final int MIN_MATCH = 4;
+    // The last 5 bytes of a block are always literals and the last match starts at least 12 bytes before the end.
+    private static final int LAST_LITERALS = 5;
+    private static final int MATCH_FIND_LIMIT = 12;
+    private static final int HASH_LOG = 12;
+    private static final int MASK = 15;
+    private static final int RUN_MASK = 255;
+
+    @Override
+    public String getEncoding() {
+        return "lz4";
+    }
+
+    @Override
+    public byte[] compress(byte[] payload) {
+        int blocks = Math.max(1, (payload.length + BLOCK_SIZE - 1) / BLOCK_SIZE);
+        byte[] output = new byte[11 + payload.length + payload.length / 255 + blocks * 20];
+        writeIntLe(output, 0, MAGIC);
+        System.arraycopy(FRAME_DESCRIPTOR, 0, output, 4, FRAME_DESCRIPTOR.length);
+        int outputPosition = 7;
+        int[] hashTable = new int[1 << HASH_LOG];
+        for (int blockStart = 0; blockStart < payload.length; blockStart += BLOCK_SIZE) {
+            int blockLength = Math.min(BLOCK_SIZE, payload.length - blockStart);
+            int compressedLength = compressBlock(payload, blockStart, blockLength, output, outputPosition + 4,
+                    hashTable);
+            if (compressedLength < blockLength) {
+                writeIntLe(output, outputPosition, compressedLength);
+                outputPosition += 4 + compressedLength;
+            } else {
+                writeIntLe(output, outputPosition, blockLength | UNCOMPRESSED_BLOCK);
+                System.arraycopy(payload, blockStart, output, outputPosition + 4, blockLength);
+                outputPosition += 4 + blockLength;
+            }
+        }
+        // End mark
+        writeIntLe(output, outputPosition, 0);
+        return Arrays.copyOf(output, outputPosition + 4);
+    }
+
+    @Override
+    public byte[] decompress(byte[] payload, int maxSize) throws IOException {
+        if (payload.length < 7 || readIntLe(payload, 0) != MAGIC) {
+            throw new IOException("not an LZ4 frame");
+        }
+        int flags = payload[4] & 0xFF;
+        if ((flags >>> 6) != 1) {
+            throw new IOException("unsupported LZ4 frame version");
+        }
+        if ((flags & FLAG_DICTIONARY_ID) != 0) {
+            throw new IOException("LZ4 frames with a dictionary are not supported");
+        }
+        // Skips the descriptor and its checksum.
+        int position = 7 + ((flags & FLAG_CONTENT_SIZE) != 0 ? 8 : 0);
+        int blockChecksumLength = (flags & FLAG_BLOCK_CHECKSUM) != 0 ? 4 : 0;
+        Output output = new Output(Math.min(maxSize, payload.length * 4), maxSize);
+        while (true) {
+            checkAvailable(payload, position, 4);
+            int blockHeader = readIntLe(payload, position);
+            position += 4;
+            if (blockHeader == 0) {
+                break;
+            }
+            int blockLength = blockHeader & ~UNCOMPRESSED_BLOCK;
+            checkAvailable(payload, position, blockLength + blockChecksumLength);
+            if ((blockHeader & UNCOMPRESSED_BLOCK) != 0) {
+                output.write(payload, position, blockLength);
+            } else {
+                decompressBlock(payload, position, blockLength, output);
+            }
+            position += blockLength + blockChecksumLength;
+        }
+        if ((flags & FLAG_CONTENT_CHECKSUM) != 0) {
+            checkAvailable(payload, position, 4);
+        }
+        return output.toByteArray();
+    }
+
+    // Returns the compressed length, which may exceed the block length if the block is incompressible.
+    private static int compressBlock(byte[] source, int start, int length, byte[] output, int outputStart,
+                                     int[] hashTable) {
+        int end = start + length;
+        int anchor = start;
+        int outputPosition = outputStart;
+        if (length >= MATCH_FIND_LIMIT + 1) {
+            Arrays.fill(hashTable, -1);
+            int matchLimit = end - LAST_LITERALS;
+            int matchFindLimit = end - MATCH_FIND_LIMIT;
+            int position = start;
+            while (position < matchFindLimit) {
+                int sequence = readIntLe(source, position);
+                int hash = (sequence * -1640531535) >>> (32 - HASH_LOG);
+                int reference = hashTable[hash];
+                hashTable[hash] = position;
+                if (reference < 0 || readIntLe(source, reference) != sequence) {
+                    position++;
+                    continue;
+                }
+                while (position > anchor && reference > start && source[position - 1] == source[reference - 1]) {
+                    position--;
+                    reference--;
+                }
+                int matchLength = MIN_MATCH;
+                while (position + matchLength < matchLimit &&
+                        source[position + matchLength] == source[reference + matchLength]) {
+                    matchLength++;
+                }
+                int tokenPosition = outputPosition;
+                outputPosition = writeSequence(source, anchor, position - anchor, output, outputPosition);
+                int offset = position - reference;
+                output[outputPosition++] = (byte) offset;
+                output[outputPosition++] = (byte) (offset >>> 8);
+                int matchLengthToken = matchLength - MIN_MATCH;
+                if (matchLengthToken >= MASK) {
+                    output[tokenPosition] |= MASK;
+                    outputPosition = writeLength(matchLengthToken - MASK, output, outputPosition);
+                } else {
+                    output[tokenPosition] |= (byte) matchLengthToken;
+                }
+                position += matchLength;
+                anchor = position;
+            }
+        }
+        outputPosition = writeSequence(source, anchor, end - anchor, output, outputPosition);
+        return outputPosition - outputStart;
+    }
+
+    private static void decompressBlock(byte[] source, int start, int length, Output output) throws IOException {
+        int position = start;
+        int end = start + length;
+        while (position < end) {
+            int token = source[position++] & 0xFF;
+            int literalLength = token >>> 4;
+            if (literalLength == MASK) {
+                int lengthByte;
+                do {
+                    checkAvailable(source, position, 1, end);
+                    lengthByte = source[position++] & 0xFF;
+                    literalLength += lengthByte;
+                } while (lengthByte == RUN_MASK);
+            }
+            checkAvailable(source, position, literalLength, end);
+            output.write(source, position, literalLength);
+            position += literalLength;
+            if (position == end) {
+                // The last sequence has only the literals.
+                break;
+            }
+            checkAvailable(source, position, 2, end);
+            int offset = (source[position] & 0xFF) | ((source[position + 1] & 0xFF) << 8);
+            position += 2;
+            int matchLength = token & MASK;
+            if (matchLength == MASK) {
+                int lengthByte;
+                do {
+                    checkAvailable(source, position, 1, end);
+                    lengthByte = source[position++] & 0xFF;
+                    matchLength += lengthByte;
+                } while (lengthByte == RUN_MASK);
+            }
+            output.copyMatch(offset, matchLength + MIN_MATCH);
+        }
+    }
+
+    // Writes the token and the literals of a sequence. The match length of the token is filled in afterwards.
+    private static int writeSequence(byte[] source, int start, int literalLength, byte[] output, int position) {
+        int tokenPosition = position++;
+        if (literalLength >= MASK) {
+            output[tokenPosition] = (byte) (MASK << 4);
+            position = writeLength(literalLength - MASK, output, position);
+        } else {
+            output[tokenPosition] = (byte) (literalLength << 4);
+        }
+        System.arraycopy(source, start, output, position, literalLength);
+        return position + literalLength;
+    }
+
+    private static int writeLength(int length, byte[] output, int position) {
+        while (length >= RUN_MASK) {
+            output[position++] = (byte) RUN_MASK;
+            length -= RUN_MASK;
+        }
+        output[position++] = (byte) length;
+        return position;
+    }
+
+    private static void checkAvailable(byte[] source, int position, int length) throws IOException {
+        checkAvailable(source, position, length, source.length);
+    }
+
+    private static void checkAvailable(byte[] source, int position, int length, int end) throws IOException {
+        if (length < 0 || length > end - position) {
+            throw new IOException("truncated LZ4 frame");
+        }
+    }
+
+    private static int readIntLe(byte[] bytes, int position) {
+        return (bytes[position] & 0xFF) | ((bytes[position + 1] & 0xFF) << 8) | ((bytes[position + 2] & 0xFF) << 16) |
+                ((bytes[position + 3] & 0xFF) << 24);
+    }
+
+    private static void writeIntLe(byte[] bytes, int position, int value) {
+        bytes[position] = (byte) value;
+        bytes[position + 1] = (byte) (value >>> 8);
+        bytes[position + 2] = (byte) (value >>> 16);
+        bytes[position + 3] = (byte) (value >>> 24);
+    }
+
+    /**
+     * The decompressed payload, which matches are copied from.
+     */
+    private static final class Output {
+        private final int maxSize;
+        private byte[] bytes;
+        private int size;
+
+        private Output(int initialCapacity, int maxSize) {
+            this.bytes = new byte[Math.max(initialCapacity, 64)];
+            this.maxSize = maxSize;
+        }
+
+        private void write(byte[] source, int start, int length) throws IOException {
+            ensureCapacity(length);
+            System.arraycopy(source, start, bytes, size, length);
+            size += length;
+        }
+
+        private void copyMatch(int offset, int length) throws IOException {
+            if (offset == 0 || offset > size) {
+                throw new IOException("invalid LZ4 match offset");
+            }
+            ensureCapacity(length);
+            int from = size - offset;
+            // Matches may overlap with the bytes they produce, hence they are copied byte by byte.
+            for (int i = 0; i < length; i++) {
+                bytes[size++] = bytes[from + i];
+            }
+        }
+
+        private void ensureCapacity(int length) throws IOException {
+            if (length > maxSize - size) {
+                throw new IOException("the decompressed payload exceeds " + maxSize + " bytes");
+            }
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, (int) Math.min(maxSize, Math.max((long) bytes.length * 2, size + length)));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+}
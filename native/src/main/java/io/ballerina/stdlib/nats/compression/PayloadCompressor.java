@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.compression;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.nats.Constants;
+import io.ballerina.stdlib.nats.Utils;
+import io.nats.client.Message;
+import io.nats.client.impl.Headers;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compresses the payloads of the published messages which are larger than a threshold. Compressed messages carry the
+ * algorithm in their `Content-Encoding` header, which is used to decompress them before the data binding.
+ */
+public final class PayloadCompressor {
+    // Bounds the memory taken by a message which expands beyond any reasonable payload when decompressed.
+    private static final int MAX_DECOMPRESSED_SIZE = 64 * 1024 * 1024;
+    private static final Map<String, CompressionAlgorithm> ALGORITHMS = Map.of(
+            "gzip", new DeflateCompression(true),
+            "deflate", new DeflateCompression(false),
+            "lz4", new Lz4Compression());
+
+    private final CompressionAlgorithm algorithm;
+    private final long threshold;
+
+    private PayloadCompressor(CompressionAlgorithm algorithm, long threshold) {
+        this.algorithm = algorithm;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Creates the compressor of the given configurations.
+     *
+     * @param compressionConfig the `nats:CompressionConfig` or `null`
+     * @return the compressor or `null` if the payloads are not compressed
+     */
+    public static PayloadCompressor fromConfig(BMap<BString, Object> compressionConfig) {
+        if (compressionConfig == null) {
+            return null;
+        }
+        long threshold = compressionConfig.getIntValue(Constants.COMPRESSION_THRESHOLD);
+        if (threshold < 0) {
+            throw Utils.createNatsError("The compression threshold should be a non-negative integer.");
+        }
+        String encoding = compressionConfig.getStringValue(Constants.COMPRESSION_ALGORITHM).getValue();
+        CompressionAlgorithm algorithm = ALGORITHMS.get(encoding);
+        if (algorithm == null) {
+            throw Utils.createNatsError("Unsupported compression algorithm: " + encoding);
+        }
+        return new PayloadCompressor(algorithm, threshold);
+    }
+
+    /**
+     * Compresses a payload if it is at least as large as the threshold and it shrinks when compressed.
+     *
+     * @param payload the payload
+     * @return the compressed payload or else the given payload itself
+     */
+    public byte[] compress(byte[] payload) {
+        if (payload.length < threshold) {
+            return payload;
+        }
+        try {
+            byte[] compressed = algorithm.compress(payload);
+            return compressed.length < payload.length ? compressed : payload;
+        } catch (IOException e) {
+            throw Utils.createNatsError("Error occurred while compressing the message content.", e);
+        }
+    }
+
+    /**
+     * Adds the `Content-Encoding` header of the compressed payloads.
+     *
+     * @param headers the headers of the message or `null`
+     * @return the headers with the content encoding
+     */
+    public Headers addEncoding(Headers headers) {
+        return (headers == null ? new Headers() : headers).put(Constants.CONTENT_ENCODING_HEADER,
+                algorithm.getEncoding());
+    }
+
+    /**
+     * Returns the payload of a message, decompressing it if it has a `Content-Encoding` header.
+     *
+     * @param message the received message
+     * @return the decompressed payload
+     */
+    public static byte[] decompress(Message message) {
+        byte[] payload = message.getData();
+        if (!message.hasHeaders()) {
+            return payload;
+        }
+        String encoding = message.getHeaders().getFirst(Constants.CONTENT_ENCODING_HEADER);
+        if (encoding == null || encoding.equalsIgnoreCase("identity")) {
+            return payload;
+        }
+        CompressionAlgorithm algorithm = ALGORITHMS.get(encoding.trim().toLowerCase(Locale.ROOT));
+        if (algorithm == null) {
+            throw Utils.createNatsError("Unsupported content encoding: " + encoding);
+        }
+        try {
+            return algorithm.decompress(payload, MAX_DECOMPRESSED_SIZE);
+        } catch (IOException e) {
+            throw Utils.createNatsError("Error occurred while decompressing the message content.", e);
+        }
+    }
+}
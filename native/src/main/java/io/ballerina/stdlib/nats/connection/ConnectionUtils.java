@@ -28,6 +28,7 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.crypto.nativeimpl.Decode;
 import io.ballerina.stdlib.nats.Constants;
+import io.ballerina.stdlib.nats.Utils;
 import io.nats.client.Connection;
 import io.nats.client.Nats;
 import io.nats.client.Options;
@@ -37,9 +38,9 @@ import java.security.KeyStore;
 import java.security.PrivateKey;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
-import java.time.Duration;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Executors;
 
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
@@ -59,12 +60,22 @@ public class ConnectionUtils {
     private static final BString MAX_PINGS_OUT = StringUtils.fromString("maxPingsOut");
     private static final BString INBOX_PREFIX = StringUtils.fromString("inboxPrefix");
     private static final BString NO_ECHO = StringUtils.fromString("noEcho");
+    private static final BString SHARED_REQUEST_INBOX = StringUtils.fromString("sharedRequestInbox");
     private static final BString RETRY_CONFIG = StringUtils.fromString("retryConfig");
     private static final BString PING_CONFIG = StringUtils.fromString("ping");
     private static final BString AUTH_CONFIG = StringUtils.fromString("auth");
     private static final BString USERNAME = StringUtils.fromString("username");
     private static final BString PASSWORD = StringUtils.fromString("password");
     private static final BString TOKEN = StringUtils.fromString("token");
+    private static final BString PERFORMANCE_CONFIG = StringUtils.fromString("performance");
+    private static final BString BUFFER_SIZE = StringUtils.fromString("bufferSize");
+    private static final BString MAX_MESSAGES_IN_OUTGOING_QUEUE = StringUtils.fromString("maxMessagesInOutgoingQueue");
+    private static final BString DISCARD_WHEN_FULL = StringUtils.fromString("discardMessagesWhenOutgoingQueueFull");
+    private static final BString RECONNECT_BUFFER_SIZE = StringUtils.fromString("reconnectBufferSize");
+    private static final BString SOCKET_WRITE_TIMEOUT = StringUtils.fromString("socketWriteTimeout");
+    private static final BString REQUEST_CLEANUP_INTERVAL = StringUtils.fromString("requestCleanupInterval");
+    private static final BString FLUSH_ON_REQUEST = StringUtils.fromString("flushOnRequest");
+    private static final BString VIRTUAL_THREAD_EXECUTOR = StringUtils.fromString("virtualThreadExecutor");
 
     public static Connection getNatsConnection(Object urlString, BMap connectionConfig)
             throws Exception {
@@ -84,21 +95,23 @@ public class ConnectionUtils {
             @SuppressWarnings("unchecked")
             BMap<BString, Object> retryConfig = connectionConfig.getMapValue(RETRY_CONFIG);
             opts.maxReconnects(Math.toIntExact(retryConfig.getIntValue(MAX_RECONNECT)));
-            opts.reconnectWait(Duration.ofSeconds(((BDecimal) retryConfig.get(RECONNECT_WAIT)).intValue()));
-            opts.connectionTimeout(Duration.ofSeconds(
-                    ((BDecimal) retryConfig.get(CONNECTION_TIMEOUT)).intValue()));
+            opts.reconnectWait(Utils.getDuration((BDecimal) retryConfig.get(RECONNECT_WAIT)));
+            opts.connectionTimeout(Utils.getDuration((BDecimal) retryConfig.get(CONNECTION_TIMEOUT)));
         }
 
         // Ping configs
         if (connectionConfig.containsKey(PING_CONFIG)) {
             @SuppressWarnings("unchecked")
             BMap<BString, Object> pingConfig = connectionConfig.getMapValue(PING_CONFIG);
-            opts.pingInterval(Duration.ofSeconds(((BDecimal) pingConfig.get(PING_INTERVAL)).intValue()));
+            opts.pingInterval(Utils.getDuration((BDecimal) pingConfig.get(PING_INTERVAL)));
             opts.maxPingsOut(Math.toIntExact(pingConfig.getIntValue(MAX_PINGS_OUT)));
         }
 
         opts.inboxPrefix(connectionConfig.getStringValue(INBOX_PREFIX).getValue());
-        opts.oldRequestStyle();
+        // Without the shared inbox, every request creates and removes its own inbox subscription.
+        if (!connectionConfig.getBooleanValue(SHARED_REQUEST_INBOX)) {
+            opts.oldRequestStyle();
+        }
 
         // Auth configs
         if (connectionConfig.containsKey(AUTH_CONFIG)) {
@@ -119,6 +132,13 @@ public class ConnectionUtils {
             opts.noEcho();
         }
 
+        // Performance configs
+        if (connectionConfig.containsKey(PERFORMANCE_CONFIG)) {
+            @SuppressWarnings("unchecked")
+            BMap<BString, Object> performanceConfig = connectionConfig.getMapValue(PERFORMANCE_CONFIG);
+            setPerformanceOptions(opts, performanceConfig);
+        }
+
         // Secure socket configs
         if (connectionConfig.containsKey(Constants.CONNECTION_CONFIG_SECURE_SOCKET)) {
             BMap secureSocket = connectionConfig.getMapValue(Constants.CONNECTION_CONFIG_SECURE_SOCKET);
@@ -128,7 +148,30 @@ public class ConnectionUtils {
         return Nats.connect(opts.build());
     }
 
+    private static void setPerformanceOptions(Options.Builder opts, BMap<BString, Object> performanceConfig) {
+        opts.bufferSize(Math.toIntExact(performanceConfig.getIntValue(BUFFER_SIZE)));
+        opts.maxMessagesInOutgoingQueue(Math.toIntExact(performanceConfig.getIntValue(
+                MAX_MESSAGES_IN_OUTGOING_QUEUE)));
+        if (performanceConfig.getBooleanValue(DISCARD_WHEN_FULL)) {
+            opts.discardMessagesWhenOutgoingQueueFull();
+        }
+        opts.reconnectBufferSize(performanceConfig.getIntValue(RECONNECT_BUFFER_SIZE));
+        opts.socketWriteTimeout(Utils.getDuration((BDecimal) performanceConfig.get(SOCKET_WRITE_TIMEOUT)));
+        opts.requestCleanupInterval(Utils.getDuration((BDecimal) performanceConfig.get(REQUEST_CLEANUP_INTERVAL)));
+        if (!performanceConfig.getBooleanValue(FLUSH_ON_REQUEST)) {
+            opts.dontForceFlushOnRequest();
+        }
+        if (performanceConfig.getBooleanValue(VIRTUAL_THREAD_EXECUTOR)) {
+            // The reader and the writer of the connection block on the socket, which only unmounts a virtual thread.
+            opts.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+    }
+
     private static SSLContext getSslContext(BMap<BString, ?> secureSocket) throws Exception {
+        return SslContextCache.get(secureSocket, ConnectionUtils::createSslContext);
+    }
+
+    private static SSLContext createSslContext(BMap<BString, ?> secureSocket) throws Exception {
         // protocol
         String protocol = null;
         if (secureSocket.containsKey(Constants.PROTOCOL)) {
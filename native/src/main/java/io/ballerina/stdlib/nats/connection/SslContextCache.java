@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.connection;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.nats.Constants;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.net.ssl.SSLContext;
+
+/**
+ * Caches the SSL contexts of the secure socket configurations, so that the certificates, keys and key stores are
+ * read and parsed once for all the clients and listeners with the same configurations. Sharing the context also lets
+ * the TLS sessions be resumed when connections are re-established. A context is rebuilt once any of its files is
+ * modified.
+ * <p>
+ * The contexts are keyed by a SHA-256 digest of the configurations, so that the passwords are not kept in memory,
+ * and the least recently used context is evicted once the maximum number of contexts is cached.
+ */
+final class SslContextCache {
+    private static final int MAX_CACHED_CONTEXTS = 64;
+    private static final Map<String, Entry> CONTEXTS = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > MAX_CACHED_CONTEXTS;
+                }
+            });
+
+    private SslContextCache() {
+    }
+
+    /**
+     * Returns the SSL context of a secure socket configuration, building it if it is not cached or if its files
+     * have been modified since it was built.
+     *
+     * @param secureSocket the `nats:SecureSocket` configurations
+     * @param builder      builds the SSL context when it is not cached
+     * @return the SSL context
+     * @throws Exception if the SSL context cannot be built
+     */
+    static SSLContext get(BMap<BString, ?> secureSocket, SslContextBuilder builder) throws Exception {
+        List<String> files = new ArrayList<>(3);
+        String key = getKey(secureSocket, files);
+        List<String> fileStamps = getFileStamps(files);
+        Entry entry = CONTEXTS.get(key);
+        if (entry != null && entry.fileStamps.equals(fileStamps)) {
+            return entry.sslContext;
+        }
+        SSLContext sslContext = builder.build(secureSocket);
+        if (sslContext != null) {
+            CONTEXTS.put(key, new Entry(sslContext, fileStamps));
+        }
+        return sslContext;
+    }
+
+    // The digest of every value which the SSL context is built from, in a fixed order. The paths of the files are
+    // collected to detect the modifications.
+    @SuppressWarnings("unchecked")
+    private static String getKey(BMap<BString, ?> secureSocket, List<String> files) {
+        String protocol = null;
+        if (secureSocket.containsKey(Constants.PROTOCOL)) {
+            protocol = ((BMap<BString, ?>) secureSocket.getMapValue(Constants.PROTOCOL))
+                    .getStringValue(Constants.PROTOCOL_NAME).getValue();
+        }
+        String[] values = new String[7];
+        values[0] = protocol;
+        Object cert = secureSocket.get(Constants.CERT);
+        if (cert instanceof BString) {
+            values[1] = addFile(files, (BString) cert);
+        } else if (cert instanceof BMap) {
+            BMap<BString, ?> trustStore = (BMap<BString, ?>) cert;
+            values[1] = addFile(files, trustStore.getStringValue(Constants.KEY_STORE_PATH));
+            values[2] = getValue(trustStore.getStringValue(Constants.KEY_STORE_PASS));
+        }
+        if (secureSocket.containsKey(Constants.KEY)) {
+            BMap<BString, ?> key = (BMap<BString, ?>) secureSocket.getMapValue(Constants.KEY);
+            if (key.containsKey(Constants.CERT_FILE)) {
+                values[3] = addFile(files, key.getStringValue(Constants.CERT_FILE));
+                values[4] = addFile(files, key.getStringValue(Constants.KEY_FILE));
+                values[5] = key.containsKey(Constants.KEY_PASSWORD) ?
+                        getValue(key.getStringValue(Constants.KEY_PASSWORD)) : null;
+            } else {
+                values[4] = addFile(files, key.getStringValue(Constants.KEY_STORE_PATH));
+                values[6] = getValue(key.getStringValue(Constants.KEY_STORE_PASS));
+            }
+        }
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256.
+            throw new IllegalStateException(e);
+        }
+        for (String value : values) {
+            if (value == null) {
+                digest.update((byte) 0);
+            } else {
+                // Each value is prefixed with its length, so that the boundaries of the values are part of the digest.
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                digest.update((byte) 1);
+                digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+                digest.update(bytes);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String addFile(List<String> files, BString path) {
+        String value = getValue(path);
+        if (value != null) {
+            files.add(value);
+        }
+        return value;
+    }
+
+    private static String getValue(BString value) {
+        return value == null ? null : value.getValue();
+    }
+
+    // The modification time and the size of each file. Files which cannot be read are left to fail the build.
+    private static List<String> getFileStamps(List<String> files) {
+        List<String> fileStamps = new ArrayList<>(files.size());
+        for (String file : files) {
+            try {
+                Path path = Paths.get(file);
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                fileStamps.add(attributes.lastModifiedTime().toMillis() + ":" + attributes.size());
+            } catch (IOException | RuntimeException e) {
+                fileStamps.add("");
+            }
+        }
+        return fileStamps;
+    }
+
+    /**
+     * Builds the SSL context of a secure socket configuration.
+     */
+    @FunctionalInterface
+    interface SslContextBuilder {
+        SSLContext build(BMap<BString, ?> secureSocket) throws Exception;
+    }
+
+    private static final class Entry {
+        private final SSLContext sslContext;
+        private final List<String> fileStamps;
+
+        private Entry(SSLContext sslContext, List<String> fileStamps) {
+            this.sslContext = sslContext;
+            this.fileStamps = fileStamps;
+        }
+    }
+}
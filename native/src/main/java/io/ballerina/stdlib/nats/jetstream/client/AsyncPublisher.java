@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.jetstream.client;
+
+import io.nats.client.JetStream;
+import io.nats.client.api.PublishAck;
+import io.nats.client.impl.Headers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publishes messages to JetStream without waiting for their acknowledgements. The number of messages waiting for an
+ * acknowledgement is bounded, so that a publisher which is faster than the server is held back rather than piling
+ * up unacknowledged messages in memory. Failed publishes are collected until they are retrieved.
+ */
+final class AsyncPublisher {
+    private final Semaphore pendingAcks;
+    private final AtomicLong publishIds = new AtomicLong();
+    private final Queue<PublishFailure> failures = new ConcurrentLinkedQueue<>();
+    // Counts the messages waiting for an acknowledgement, so that awaiting them does not compete with the publishers
+    // for the permits of the semaphore.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition acknowledged = lock.newCondition();
+    private int outstanding;
+
+    AsyncPublisher(int maxPendingAcks) {
+        this.pendingAcks = new Semaphore(maxPendingAcks);
+    }
+
+    /**
+     * Publishes a message, waiting only if the maximum number of messages are already waiting for an
+     * acknowledgement.
+     *
+     * @param jetStream the JetStream context
+     * @param subject   the subject of the message
+     * @param headers   the headers of the message or `null`
+     * @param content   the content of the message
+     * @return the identifier of the message, which is used to report a failure of the message
+     * @throws InterruptedException if interrupted while waiting
+     */
+    long publish(JetStream jetStream, String subject, Headers headers, byte[] content) throws InterruptedException {
+        pendingAcks.acquire();
+        long publishId = publishIds.incrementAndGet();
+        CompletableFuture<PublishAck> ack;
+        beginAck();
+        try {
+            ack = jetStream.publishAsync(subject, headers, content);
+        } catch (RuntimeException e) {
+            endAck();
+            throw e;
+        }
+        ack.whenComplete((publishAck, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ?
+                        throwable.getCause() : throwable;
+                failures.add(new PublishFailure(publishId, subject, cause.getMessage()));
+            }
+            endAck();
+        });
+        return publishId;
+    }
+
+    private void beginAck() {
+        lock.lock();
+        try {
+            outstanding++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void endAck() {
+        lock.lock();
+        try {
+            if (--outstanding == 0) {
+                acknowledged.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+        pendingAcks.release();
+    }
+
+    /**
+     * Waits until all the published messages are either acknowledged or failed.
+     *
+     * @param timeout maximum time to wait
+     * @return `false` if timed out
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean awaitAcks(Duration timeout) throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = timeout.toNanos();
+            while (outstanding > 0) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = acknowledged.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and clears the failures reported so far.
+     *
+     * @return the failed publishes in the order they were reported
+     */
+    List<PublishFailure> drainFailures() {
+        List<PublishFailure> drained = new ArrayList<>();
+        PublishFailure failure;
+        while ((failure = failures.poll()) != null) {
+            drained.add(failure);
+        }
+        return drained;
+    }
+
+    /**
+     * A message which could not be published.
+     */
+    static final class PublishFailure {
+        private final long publishId;
+        private final String subject;
+        private final String message;
+
+        private PublishFailure(long publishId, String subject, String message) {
+            this.publishId = publishId;
+            this.subject = subject;
+            this.message = message;
+        }
+
+        long getPublishId() {
+            return publishId;
+        }
+
+        String getSubject() {
+            return subject;
+        }
+
+        String getMessage() {
+            return message;
+        }
+    }
+}
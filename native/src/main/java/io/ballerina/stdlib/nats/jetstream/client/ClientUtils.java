@@ -18,23 +18,38 @@
 
 package io.ballerina.stdlib.nats.jetstream.client;
 
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.nats.Constants;
 import io.ballerina.stdlib.nats.Utils;
+import io.ballerina.stdlib.nats.compression.PayloadCompressor;
+import io.ballerina.stdlib.nats.jetstream.listener.AckCoalescer;
+import io.ballerina.stdlib.nats.jetstream.message.MessageUtils;
 import io.nats.client.Connection;
 import io.nats.client.JetStream;
 import io.nats.client.JetStreamApiException;
 import io.nats.client.JetStreamManagement;
+import io.nats.client.JetStreamStatusCheckedException;
 import io.nats.client.JetStreamSubscription;
 import io.nats.client.Message;
+import io.nats.client.PullSubscribeOptions;
+import io.nats.client.impl.Headers;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Extern functions of the APIs provided by the JetStreamManagementClient.
@@ -43,15 +58,36 @@ public class ClientUtils {
 
     private ClientUtils() {}
 
-    public static Object streamClientInit(BObject selfObj, BObject natsClientObj) {
+    public static Object streamClientInit(BObject selfObj, BObject natsClientObj, BMap<BString, Object> config) {
         Connection natsConnection = (Connection) natsClientObj.getNativeData(Constants.NATS_CONNECTION);
+        long maxPendingAcks = config.getIntValue(Constants.MAX_PENDING_ACKS);
+        if (maxPendingAcks <= 0 || maxPendingAcks > Integer.MAX_VALUE) {
+            return Utils.createNatsError("The maximum number of pending acknowledgements should be a positive " +
+                    "integer.");
+        }
         try {
+            @SuppressWarnings("unchecked")
+            BMap<BString, Object> compressionConfig = (BMap<BString, Object>) config.getMapValue(
+                    Constants.COMPRESSION);
+            selfObj.addNativeData(Constants.PAYLOAD_COMPRESSOR, PayloadCompressor.fromConfig(compressionConfig));
+            if (config.containsKey(Constants.ACK_COALESCING)) {
+                @SuppressWarnings("unchecked")
+                BMap<BString, Object> ackCoalescingConfig = (BMap<BString, Object>) config.getMapValue(
+                        Constants.ACK_COALESCING);
+                AckCoalescer.validateConfig(ackCoalescingConfig);
+                selfObj.addNativeData(Constants.ACK_COALESCING_CONFIG, ackCoalescingConfig);
+            }
             JetStreamManagement jetStreamManagement = natsConnection.jetStreamManagement();
             selfObj.addNativeData(Constants.JET_STREAM_MANAGEMENT, jetStreamManagement);
             selfObj.addNativeData(Constants.NATS_CONNECTION, natsConnection);
+            selfObj.addNativeData(Constants.PULL_SUBSCRIPTIONS, new ConcurrentHashMap<String, JetStreamSubscription>());
+            selfObj.addNativeData(Constants.PULL_ACK_COALESCERS, new ConcurrentHashMap<String, AckCoalescer>());
+            selfObj.addNativeData(Constants.ASYNC_PUBLISHER, new AsyncPublisher((int) maxPendingAcks));
         } catch (IOException e) {
             String errorMsg = "Error occurred while initializing the JetStreamClient.";
             return Utils.createNatsError(errorMsg, e);
+        } catch (BError e) {
+            return e;
         }
         return null;
     }
@@ -70,14 +106,74 @@ public class ClientUtils {
                     (message.getArrayValue(StringUtils.fromString(Constants.MESSAGE_CONTENT))).getByteArray();
             String subjectValue =
                     (message.getStringValue(StringUtils.fromString(Constants.MESSAGE_SUBJECT))).getValue();
-            jetStream.publish(subjectValue, byteContent);
+            PayloadCompressor compressor = (PayloadCompressor) clientObject.getNativeData(
+                    Constants.PAYLOAD_COMPRESSOR);
+            byte[] compressed = compressor != null ? compressor.compress(byteContent) : byteContent;
+            jetStream.publish(subjectValue, compressed != byteContent ? compressor.addEncoding(null) : null,
+                    compressed);
         } catch (IOException | JetStreamApiException e) {
             String errorMsg = "Error occurred while publishing message.";
             return Utils.createNatsError(errorMsg, e);
+        } catch (BError e) {
+            return e;
         }
         return null;
     }
 
+    public static Object publishMessageAsync(Environment env, BObject clientObject, BMap<BString, Object> message) {
+        AsyncPublisher asyncPublisher = (AsyncPublisher) clientObject.getNativeData(Constants.ASYNC_PUBLISHER);
+        byte[] byteContent =
+                (message.getArrayValue(StringUtils.fromString(Constants.MESSAGE_CONTENT))).getByteArray();
+        String subjectValue =
+                (message.getStringValue(StringUtils.fromString(Constants.MESSAGE_SUBJECT))).getValue();
+        PayloadCompressor compressor = (PayloadCompressor) clientObject.getNativeData(Constants.PAYLOAD_COMPRESSOR);
+        try {
+            byte[] compressed = compressor != null ? compressor.compress(byteContent) : byteContent;
+            Headers headers = compressed != byteContent ? compressor.addEncoding(null) : null;
+            JetStream jetStream = getJetStream(clientObject);
+            return env.yieldAndRun(() -> {
+                try {
+                    return asyncPublisher.publish(jetStream, subjectValue, headers, compressed);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return Utils.createNatsError(Constants.THREAD_INTERRUPTED_ERROR, e);
+                }
+            });
+        } catch (IOException | IllegalArgumentException | IllegalStateException e) {
+            String errorMsg = "Error occurred while publishing message.";
+            return Utils.createNatsError(errorMsg, e);
+        } catch (BError e) {
+            return e;
+        }
+    }
+
+    public static Object awaitPublishAcks(Environment env, BObject clientObject, BDecimal timeout) {
+        AsyncPublisher asyncPublisher = (AsyncPublisher) clientObject.getNativeData(Constants.ASYNC_PUBLISHER);
+        return env.yieldAndRun(() -> {
+            try {
+                if (!asyncPublisher.awaitAcks(Utils.getDuration(timeout))) {
+                    return Utils.createNatsError("Timed out while waiting for the publish acknowledgements.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Utils.createNatsError(Constants.THREAD_INTERRUPTED_ERROR, e);
+            }
+            List<AsyncPublisher.PublishFailure> failures = asyncPublisher.drainFailures();
+            Object[] failureRecords = new Object[failures.size()];
+            for (int i = 0; i < failureRecords.length; i++) {
+                AsyncPublisher.PublishFailure failure = failures.get(i);
+                Map<String, Object> valueMap = new HashMap<>();
+                valueMap.put(Constants.PUBLISH_ID, failure.getPublishId());
+                valueMap.put(Constants.MESSAGE_SUBJECT, StringUtils.fromString(failure.getSubject()));
+                valueMap.put(Constants.FAILURE_MESSAGE, StringUtils.fromString(String.valueOf(failure.getMessage())));
+                failureRecords[i] = ValueCreator.createRecordValue(Utils.getModule(), Constants.PUBLISH_FAILURE,
+                        valueMap);
+            }
+            return ValueCreator.createArrayValue(failureRecords, TypeCreator.createArrayType(TypeUtils.getType(
+                    ValueCreator.createRecordValue(Utils.getModule(), Constants.PUBLISH_FAILURE))));
+        });
+    }
+
     public static Object consumeMessage(BObject clientObject, BString subject, BDecimal timeout) {
         try {
             Connection natsConnection = (Connection) clientObject.getNativeData(Constants.NATS_CONNECTION);
@@ -90,34 +186,222 @@ public class ClientUtils {
             }
             JetStreamSubscription streamSubscription = jetStream.subscribe(subject.getValue());
             Message message = streamSubscription.nextMessage(Duration.ofSeconds(timeout.intValue()));
-            BMap<BString, Object> msgRecord = ValueCreator.createRecordValue(
-                    Utils.getModule(), Constants.STREAM_MESSAGE);
-            Object[] msgRecordValues = new Object[2];
-
-            msgRecordValues[0] = StringUtils.fromString(message.getSubject());
-            msgRecordValues[1] = ValueCreator.createArrayValue(message.getData());
-
-            BMap<BString, Object> populatedMsgRecord = ValueCreator.createRecordValue(msgRecord, msgRecordValues);
-            populatedMsgRecord.addNativeData(Constants.JET_STREAM_MESSAGE, message);
-            return populatedMsgRecord;
+            return createMessageRecord(message);
         } catch (IOException | JetStreamApiException | InterruptedException e) {
             String errorMsg = "Error occurred while consuming message.";
             return Utils.createNatsError(errorMsg, e);
+        } catch (BError e) {
+            return e;
         }
     }
 
+    public static Object fetchMessages(Environment env, BObject clientObject, BString subject, BString durable,
+                                       long batchSize, BDecimal maxWait) {
+        if (batchSize <= 0 || batchSize > Integer.MAX_VALUE) {
+            return Utils.createNatsError("The batch size should be a positive integer.");
+        }
+        return env.yieldAndRun(() -> {
+            try {
+                JetStreamSubscription pullSubscription = getPullSubscription(clientObject, subject.getValue(),
+                        durable.getValue());
+                AckCoalescer ackCoalescer = getPullAckCoalescers(clientObject).get(
+                        getPullKey(subject.getValue(), durable.getValue()));
+                List<Message> messages = pullSubscription.fetch((int) batchSize, Utils.getDuration(maxWait));
+                Object[] msgRecords = new Object[messages.size()];
+                for (int i = 0; i < msgRecords.length; i++) {
+                    BMap<BString, Object> msgRecord = createMessageRecord(messages.get(i));
+                    if (ackCoalescer != null) {
+                        msgRecord.addNativeData(Constants.ACK_COALESCER, ackCoalescer);
+                    }
+                    msgRecords[i] = msgRecord;
+                }
+                return ValueCreator.createArrayValue(msgRecords, getStreamMessageArrayType());
+            } catch (IOException | JetStreamApiException | IllegalArgumentException | IllegalStateException e) {
+                String errorMsg = "Error occurred while fetching messages.";
+                return Utils.createNatsError(errorMsg, e);
+            } catch (BError e) {
+                return e;
+            }
+        });
+    }
+
+    /**
+     * Closes the pull consumers of the client, after sending their coalesced acknowledgements. The connection of
+     * the client is left open, since it belongs to the `nats:Client`.
+     *
+     * @param clientObject the JetStream client
+     * @return `null` or else a `nats:Error` if a consumer could not be closed
+     */
+    public static Object close(BObject clientObject) {
+        @SuppressWarnings("unchecked")
+        ConcurrentHashMap<String, JetStreamSubscription> pullSubscriptions =
+                (ConcurrentHashMap<String, JetStreamSubscription>) clientObject.getNativeData(
+                        Constants.PULL_SUBSCRIPTIONS);
+        Map<String, AckCoalescer> ackCoalescers = getPullAckCoalescers(clientObject);
+        synchronized (pullSubscriptions) {
+            for (AckCoalescer ackCoalescer : ackCoalescers.values()) {
+                ackCoalescer.close();
+            }
+            ackCoalescers.clear();
+            try {
+                for (JetStreamSubscription pullSubscription : pullSubscriptions.values()) {
+                    if (pullSubscription.isActive()) {
+                        pullSubscription.unsubscribe();
+                    }
+                }
+            } catch (IllegalStateException e) {
+                return Utils.createNatsError("Error occurred while closing the JetStream client.", e);
+            } finally {
+                pullSubscriptions.clear();
+            }
+        }
+        return null;
+    }
+
+    public static Object replayInit(BObject replayObject, BObject clientObject, BString streamName,
+                                    BMap<BString, Object> replayConfig) {
+        try {
+            Connection natsConnection = (Connection) clientObject.getNativeData(Constants.NATS_CONNECTION);
+            replayObject.addNativeData(Constants.MESSAGE_REPLAY, MessageReplay.start(natsConnection,
+                    streamName.getValue(), replayConfig));
+        } catch (IOException | JetStreamApiException | IllegalArgumentException | IllegalStateException e) {
+            String errorMsg = "Error occurred while replaying the stream.";
+            return Utils.createNatsError(errorMsg, e);
+        } catch (BError e) {
+            return e;
+        }
+        return null;
+    }
+
+    public static Object replayNext(Environment env, BObject replayObject) {
+        MessageReplay messageReplay = (MessageReplay) replayObject.getNativeData(Constants.MESSAGE_REPLAY);
+        return env.yieldAndRun(() -> {
+            try {
+                Message message = messageReplay.next();
+                return message != null ? createMessageRecord(message) : null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                messageReplay.close();
+                return Utils.createNatsError(Constants.THREAD_INTERRUPTED_ERROR, e);
+            } catch (JetStreamStatusCheckedException | IllegalStateException e) {
+                messageReplay.close();
+                return Utils.createNatsError("Error occurred while replaying the stream.", e);
+            } catch (BError e) {
+                return e;
+            }
+        });
+    }
+
+    public static Object replayClose(BObject replayObject) {
+        MessageReplay messageReplay = (MessageReplay) replayObject.getNativeData(Constants.MESSAGE_REPLAY);
+        messageReplay.close();
+        return null;
+    }
+
+    private static BMap<BString, Object> createMessageRecord(Message message) {
+        BMap<BString, Object> msgRecord = ValueCreator.createRecordValue(Utils.getModule(), Constants.STREAM_MESSAGE);
+        BMap<BString, Object> populatedMsgRecord = ValueCreator.createRecordValue(msgRecord,
+                StringUtils.fromString(message.getSubject()),
+                ValueCreator.createArrayValue(PayloadCompressor.decompress(message)));
+        populatedMsgRecord.addNativeData(Constants.JET_STREAM_MESSAGE, message);
+        return populatedMsgRecord;
+    }
+
+    /**
+     * Returns the durable pull subscription of the given subject and durable name, creating it on the first use. The
+     * subscription is reused across the fetch calls, so that the server side consumer is created only once. If the
+     * acknowledgements are coalesced, the coalescer of its acknowledgements is created along with it. The consumer
+     * keeps acknowledging each message on its own, since the fetched messages may be acknowledged in any order.
+     */
+    private static JetStreamSubscription getPullSubscription(BObject clientObject, String subject, String durable)
+            throws IOException, JetStreamApiException {
+        @SuppressWarnings("unchecked")
+        ConcurrentHashMap<String, JetStreamSubscription> pullSubscriptions =
+                (ConcurrentHashMap<String, JetStreamSubscription>) clientObject.getNativeData(
+                        Constants.PULL_SUBSCRIPTIONS);
+        String key = getPullKey(subject, durable);
+        JetStreamSubscription pullSubscription = pullSubscriptions.get(key);
+        if (pullSubscription != null && pullSubscription.isActive()) {
+            return pullSubscription;
+        }
+        synchronized (pullSubscriptions) {
+            pullSubscription = pullSubscriptions.get(key);
+            if (pullSubscription == null || !pullSubscription.isActive()) {
+                @SuppressWarnings("unchecked")
+                BMap<BString, Object> ackCoalescingConfig = (BMap<BString, Object>) clientObject.getNativeData(
+                        Constants.ACK_COALESCING_CONFIG);
+                PullSubscribeOptions pullOptions = PullSubscribeOptions.builder().durable(durable).build();
+                pullSubscription = getJetStream(clientObject).subscribe(subject, pullOptions);
+                pullSubscriptions.put(key, pullSubscription);
+                if (ackCoalescingConfig != null) {
+                    AckCoalescer previous = getPullAckCoalescers(clientObject).put(key,
+                            AckCoalescer.fromConfig(ackCoalescingConfig, false));
+                    if (previous != null) {
+                        previous.close();
+                    }
+                }
+            }
+            return pullSubscription;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, AckCoalescer> getPullAckCoalescers(BObject clientObject) {
+        return (Map<String, AckCoalescer>) clientObject.getNativeData(Constants.PULL_ACK_COALESCERS);
+    }
+
+    private static String getPullKey(String subject, String durable) {
+        return subject + ":" + durable;
+    }
+
+    private static JetStream getJetStream(BObject clientObject) throws IOException {
+        JetStream jetStream = (JetStream) clientObject.getNativeData(Constants.JET_STREAM);
+        if (jetStream == null) {
+            Connection natsConnection = (Connection) clientObject.getNativeData(Constants.NATS_CONNECTION);
+            jetStream = natsConnection.jetStream();
+            clientObject.addNativeData(Constants.JET_STREAM, jetStream);
+        }
+        return jetStream;
+    }
+
+    private static ArrayType getStreamMessageArrayType() {
+        return TypeCreator.createArrayType(TypeUtils.getType(
+                ValueCreator.createRecordValue(Utils.getModule(), Constants.STREAM_MESSAGE)));
+    }
+
     public static void ack(BMap<BString, Object> message) {
         Message jetStreamMessage = (Message) message.getNativeData(Constants.JET_STREAM_MESSAGE);
-        jetStreamMessage.ack();
+        AckCoalescer ackCoalescer = (AckCoalescer) message.getNativeData(Constants.ACK_COALESCER);
+        if (ackCoalescer != null) {
+            ackCoalescer.ack(jetStreamMessage);
+        } else {
+            jetStreamMessage.ack();
+        }
+    }
+
+    public static Object ackSync(BMap<BString, Object> message, BDecimal timeout) {
+        Message jetStreamMessage = (Message) message.getNativeData(Constants.JET_STREAM_MESSAGE);
+        flushAcks(message);
+        return MessageUtils.ackSync(jetStreamMessage, timeout);
     }
 
     public static void nak(BMap<BString, Object> message) {
         Message jetStreamMessage = (Message) message.getNativeData(Constants.JET_STREAM_MESSAGE);
+        flushAcks(message);
         jetStreamMessage.nak();
     }
 
     public static void inProgress(BMap<BString, Object> message) {
         Message jetStreamMessage = (Message) message.getNativeData(Constants.JET_STREAM_MESSAGE);
+        flushAcks(message);
         jetStreamMessage.inProgress();
     }
+
+    // Sends the coalesced acknowledgements first, so that they reach the server in order.
+    private static void flushAcks(BMap<BString, Object> message) {
+        AckCoalescer ackCoalescer = (AckCoalescer) message.getNativeData(Constants.ACK_COALESCER);
+        if (ackCoalescer != null) {
+            ackCoalescer.flush();
+        }
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.jetstream.client;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.nats.Constants;
+import io.ballerina.stdlib.nats.Utils;
+import io.nats.client.ConsumeOptions;
+import io.nats.client.Connection;
+import io.nats.client.IterableConsumer;
+import io.nats.client.JetStreamApiException;
+import io.nats.client.JetStreamStatusCheckedException;
+import io.nats.client.Message;
+import io.nats.client.api.DeliverPolicy;
+import io.nats.client.api.OrderedConsumerConfiguration;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Replays the messages of a stream in order through an ordered consumer. The consumer pulls the messages into a
+ * buffer of a bounded size and refills it in the background as the messages are taken, so that the server round
+ * trips overlap with the processing of the buffered messages. The replay ends once it catches up with the last
+ * message of the stream or once no message arrives within the maximum wait time.
+ */
+final class MessageReplay {
+    private final IterableConsumer consumer;
+    private final Duration maxWait;
+    private final AtomicBoolean done = new AtomicBoolean();
+
+    private MessageReplay(IterableConsumer consumer, Duration maxWait) {
+        this.consumer = consumer;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Creates the ordered consumer of a stream and starts prefetching its messages.
+     *
+     * @param natsConnection the connection
+     * @param streamName     the name of the stream
+     * @param replayConfig   the `nats:ReplayConfig`
+     * @return the started replay
+     */
+    static MessageReplay start(Connection natsConnection, String streamName, BMap<BString, Object> replayConfig)
+            throws IOException, JetStreamApiException {
+        long prefetch = replayConfig.getIntValue(Constants.PREFETCH);
+        Duration maxWait = Utils.getDuration((BDecimal) replayConfig.get(Constants.MAX_WAIT));
+        if (prefetch <= 0 || prefetch > Integer.MAX_VALUE) {
+            throw Utils.createNatsError("The prefetch size should be a positive integer.");
+        }
+        if (maxWait.isZero()) {
+            throw Utils.createNatsError("The maximum wait time should be greater than 0.");
+        }
+        OrderedConsumerConfiguration consumerConfig = new OrderedConsumerConfiguration();
+        if (replayConfig.containsKey(Constants.FILTER_SUBJECT)) {
+            consumerConfig.filterSubject(replayConfig.getStringValue(Constants.FILTER_SUBJECT).getValue());
+        }
+        boolean bySequence = replayConfig.containsKey(Constants.START_SEQUENCE);
+        boolean byTime = replayConfig.containsKey(Constants.START_TIME);
+        if (bySequence && byTime) {
+            throw Utils.createNatsError("Only one of the start sequence and the start time can be provided.");
+        }
+        if (bySequence) {
+            long startSequence = replayConfig.getIntValue(Constants.START_SEQUENCE);
+            if (startSequence <= 0) {
+                throw Utils.createNatsError("The start sequence should be a positive integer.");
+            }
+            consumerConfig.deliverPolicy(DeliverPolicy.ByStartSequence).startSequence(startSequence);
+        } else if (byTime) {
+            BArray startTime = replayConfig.getArrayValue(Constants.START_TIME);
+            BigDecimal fraction = ((BDecimal) startTime.get(1)).decimalValue();
+            Instant instant = Instant.ofEpochSecond(startTime.getInt(0),
+                    fraction.movePointRight(9).longValue());
+            consumerConfig.deliverPolicy(DeliverPolicy.ByStartTime).startTime(instant.atZone(ZoneOffset.UTC));
+        } else {
+            consumerConfig.deliverPolicy(DeliverPolicy.All);
+        }
+        IterableConsumer consumer = natsConnection.getStreamContext(streamName).createOrderedConsumer(consumerConfig)
+                .iterate(ConsumeOptions.builder().batchSize((int) prefetch).build());
+        return new MessageReplay(consumer, maxWait);
+    }
+
+    /**
+     * Returns the next message of the replay. The consumer is closed once the replay ends. The wait is not guarded by
+     * a lock, so that closing the replay stops a pending wait instead of blocking until it times out.
+     *
+     * @return the message or `null` if the replay has ended
+     * @throws InterruptedException             if interrupted while waiting
+     * @throws JetStreamStatusCheckedException if the server reports an error
+     */
+    Message next() throws InterruptedException, JetStreamStatusCheckedException {
+        if (done.get()) {
+            return null;
+        }
+        Message message;
+        try {
+            message = consumer.nextMessage(maxWait);
+        } catch (IllegalStateException e) {
+            if (done.get()) {
+                return null;
+            }
+            throw e;
+        }
+        if (done.get()) {
+            return null;
+        }
+        // The pending count is the number of messages in the stream after this one, as of its delivery.
+        if (message == null || message.metaData().pendingCount() == 0) {
+            close();
+        }
+        return message;
+    }
+
+    /**
+     * Stops the replay and deletes its consumer. A pending wait for the next message returns without a message.
+     */
+    void close() {
+        if (!done.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            consumer.close();
+        } catch (Exception e) {
+            // The consumer is ephemeral and it is removed by the server once inactive.
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.jetstream.listener;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.nats.Constants;
+import io.ballerina.stdlib.nats.Utils;
+import io.nats.client.Message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coalesces the acknowledgements of a consumer. The buffered acknowledgements are sent once the maximum number of
+ * acknowledgements is buffered or once the maximum delay has elapsed since the first of them, whichever happens first.
+ * <p>
+ * A cumulative coalescer serves a consumer with the `AckPolicy.All` policy, on which acknowledging a message
+ * acknowledges all the messages delivered before it as well. Hence, only the last of the buffered acknowledgements is
+ * sent, and the messages of the consumer must be processed in the order they are delivered. Otherwise, each of the
+ * buffered acknowledgements is sent, back to back, so that they share the writes of the connection.
+ */
+public final class AckCoalescer {
+    private final int maxAcks;
+    private final long maxDelayNanos;
+    private final boolean cumulative;
+    private final ScheduledExecutorService flushScheduler;
+    private final ReentrantLock lock = new ReentrantLock();
+    // The acknowledged messages of an individual coalescer, in the order they were acknowledged.
+    private final List<Message> pendingMessages = new ArrayList<>();
+    // The latest acknowledged message of a cumulative coalescer, which is not sent yet.
+    private Message pending;
+    private long pendingSequence;
+    private int pendingCount;
+    private ScheduledFuture<?> flushTask;
+    private boolean closed;
+
+    private AckCoalescer(int maxAcks, long maxDelayNanos, boolean cumulative) {
+        this.maxAcks = maxAcks;
+        this.maxDelayNanos = maxDelayNanos;
+        this.cumulative = cumulative;
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofVirtual().name("nats-ack-flush-", 0).factory());
+    }
+
+    /**
+     * Creates the coalescer from a `nats:AckCoalescingConfig`.
+     *
+     * @param ackCoalescingConfig the configurations or `null` if the acknowledgements are not coalesced
+     * @param cumulative          whether the consumer has the `AckPolicy.All` policy
+     * @return the coalescer or `null`
+     */
+    public static AckCoalescer fromConfig(BMap<BString, Object> ackCoalescingConfig, boolean cumulative) {
+        if (ackCoalescingConfig == null) {
+            return null;
+        }
+        validateConfig(ackCoalescingConfig);
+        long maxAcks = ackCoalescingConfig.getIntValue(Constants.MAX_ACKS);
+        BDecimal maxDelay = (BDecimal) ackCoalescingConfig.get(Constants.MAX_DELAY);
+        return new AckCoalescer((int) maxAcks, Math.max(Utils.getDuration(maxDelay).toNanos(), 1), cumulative);
+    }
+
+    /**
+     * Validates a `nats:AckCoalescingConfig` without creating a coalescer.
+     *
+     * @param ackCoalescingConfig the configurations
+     */
+    public static void validateConfig(BMap<BString, Object> ackCoalescingConfig) {
+        long maxAcks = ackCoalescingConfig.getIntValue(Constants.MAX_ACKS);
+        BDecimal maxDelay = (BDecimal) ackCoalescingConfig.get(Constants.MAX_DELAY);
+        if (maxAcks <= 0 || maxAcks > Integer.MAX_VALUE) {
+            throw Utils.createNatsError("The maximum number of coalesced acknowledgements should be a positive " +
+                    "integer.");
+        }
+        if (maxDelay.decimalValue().signum() <= 0) {
+            throw Utils.createNatsError("The maximum acknowledgement delay should be greater than 0.");
+        }
+    }
+
+    /**
+     * Buffers the acknowledgement of a message.
+     *
+     * @param message the processed message
+     */
+    public void ack(Message message) {
+        lock.lock();
+        try {
+            if (closed) {
+                message.ack();
+                return;
+            }
+            if (!cumulative) {
+                pendingMessages.add(message);
+            } else {
+                long sequence = message.metaData().consumerSequence();
+                if (pending == null || sequence > pendingSequence) {
+                    pending = message;
+                    pendingSequence = sequence;
+                }
+            }
+            if (++pendingCount >= maxAcks) {
+                flushPending();
+            } else if (flushTask == null) {
+                flushTask = flushScheduler.schedule(this::flush, maxDelayNanos, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sends the buffered acknowledgements. It must be called before a message is negatively acknowledged or
+     * acknowledged by other means, so that the acknowledgements reach the server in order.
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            flushPending();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sends the buffered acknowledgements and stops buffering. Later acknowledgements are sent right away.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            flushPending();
+            closed = true;
+        } finally {
+            lock.unlock();
+            flushScheduler.shutdownNow();
+        }
+    }
+
+    private void flushPending() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+        pendingCount = 0;
+        if (pending != null) {
+            Message message = pending;
+            pending = null;
+            message.ack();
+        }
+        for (Message message : pendingMessages) {
+            message.ack();
+        }
+        pendingMessages.clear();
+    }
+}
@@ -24,19 +24,23 @@ import io.ballerina.runtime.api.types.AnnotatableType;
 import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.nats.Constants;
+import io.ballerina.stdlib.nats.GracefulStop;
 import io.ballerina.stdlib.nats.Utils;
 import io.nats.client.Connection;
 import io.nats.client.Dispatcher;
 import io.nats.client.JetStream;
 import io.nats.client.JetStreamApiException;
 import io.nats.client.JetStreamSubscription;
+import io.nats.client.PushSubscribeOptions;
+import io.nats.client.api.AckPolicy;
+import io.nats.client.api.ConsumerConfiguration;
 
 import java.io.IOException;
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
@@ -57,14 +61,20 @@ public class ListenerUtils {
 
     private ListenerUtils() {}
 
-    public static Object streamListenerInit(BObject selfObj, BObject natsClientObj) {
+    public static Object streamListenerInit(BObject selfObj, BObject natsClientObj,
+                                            BMap<BString, Object> listenerConfig) {
         Connection natsConnection = (Connection) natsClientObj.getNativeData(Constants.NATS_CONNECTION);
+        selfObj.addNativeData(Constants.GRACEFUL_STOP_TIMEOUT,
+                listenerConfig.get(StringUtils.fromString(Constants.GRACEFUL_STOP_TIMEOUT)));
         try {
             JetStream jetStream = natsConnection.jetStream();
             selfObj.addNativeData(Constants.JET_STREAM, jetStream);
             selfObj.addNativeData(Constants.NATS_CONNECTION, natsConnection);
             ConcurrentHashMap<String, Dispatcher> dispatcherList = new ConcurrentHashMap<>();
             selfObj.addNativeData(Constants.DISPATCHER_LIST, dispatcherList);
+            ConcurrentHashMap<String, StreamMessageHandler> messageHandlerList = new ConcurrentHashMap<>();
+            selfObj.addNativeData(Constants.MESSAGE_HANDLER_LIST, messageHandlerList);
+            selfObj.addNativeData(Constants.PULL_CONSUMERS, new ConcurrentHashMap<String, PullConsumer>());
             ArrayList<JetStreamSubscription> subscriptionsList = new ArrayList<>();
             selfObj.addNativeData(Constants.BASIC_SUBSCRIPTION_LIST, subscriptionsList);
             List<BObject> serviceList = Collections.synchronizedList(new ArrayList<>());
@@ -108,15 +118,27 @@ public class ListenerUtils {
         Runtime runtime = env.getRuntime();
 
         boolean autoAck = true;
-        Dispatcher dispatcher = natsConnection.createDispatcher();
-
-        // Add dispatcher. This is needed when closing the connection.
-        @SuppressWarnings("unchecked")
-        ConcurrentHashMap<String, Dispatcher> dispatcherList = (ConcurrentHashMap<String, Dispatcher>)
-                listenerObject.getNativeData(Constants.DISPATCHER_LIST);
-        dispatcherList.put(TypeUtils.getType(service).getName(), dispatcher);
+        BMap<BString, Object> batchConfig = null;
+        BMap<BString, Object> pullConfig = null;
+        BMap<BString, Object> ackCoalescingConfig = null;
         if (subscriptionConfig != null) {
             autoAck = subscriptionConfig.getBooleanValue(Constants.AUTO_ACK);
+            if (subscriptionConfig.containsKey(Constants.BATCH)) {
+                @SuppressWarnings("unchecked")
+                BMap<BString, Object> batch = (BMap<BString, Object>) subscriptionConfig.getMapValue(Constants.BATCH);
+                batchConfig = batch;
+            }
+            if (subscriptionConfig.containsKey(Constants.PULL)) {
+                @SuppressWarnings("unchecked")
+                BMap<BString, Object> pull = (BMap<BString, Object>) subscriptionConfig.getMapValue(Constants.PULL);
+                pullConfig = pull;
+            }
+            if (subscriptionConfig.containsKey(Constants.ACK_COALESCING)) {
+                @SuppressWarnings("unchecked")
+                BMap<BString, Object> ackCoalescing = (BMap<BString, Object>) subscriptionConfig.getMapValue(
+                        Constants.ACK_COALESCING);
+                ackCoalescingConfig = ackCoalescing;
+            }
             if (subscriptionConfig.containsKey(Constants.QUEUE_NAME)) {
                 queueName = subscriptionConfig.getStringValue(Constants.QUEUE_NAME).getValue();
             }
@@ -129,14 +151,53 @@ public class ListenerUtils {
         } else {
             throw Utils.createNatsError("Subject name cannot be found.");
         }
+        if (pullConfig != null && queueName != null) {
+            throw Utils.createNatsError("A queue group cannot be used with a pull consumer. The workers of a pull " +
+                    "consumer share its messages already.");
+        }
+        // Acknowledging a message acknowledges the ones delivered before it as well, hence the messages should be
+        // processed in order for the acknowledgements to be coalesced.
+        if (ackCoalescingConfig != null && (queueName != null ||
+                (pullConfig != null && pullConfig.getIntValue(Constants.CONCURRENCY) > 1))) {
+            throw Utils.createNatsError("Acknowledgements can be coalesced only if the messages are processed in " +
+                    "order, which is not the case with a queue group or with concurrent pull workers.");
+        }
+        AckCoalescer ackCoalescer = AckCoalescer.fromConfig(ackCoalescingConfig, true);
 
+        StreamMessageHandler streamMessageHandler = new StreamMessageHandler(service, runtime,
+                natsConnection.getConnectedUrl(), autoAck, batchConfig, ackCoalescer);
+        if (pullConfig != null) {
+            try {
+                PullConsumer pullConsumer = PullConsumer.start(jetStream, subject, pullConfig, ackCoalescer != null,
+                        streamMessageHandler);
+                getPullConsumers(listenerObject).put(TypeUtils.getType(service).getName(), pullConsumer);
+            } catch (IOException | JetStreamApiException | IllegalArgumentException | IllegalStateException e) {
+                streamMessageHandler.shutdown(true);
+                throw Utils.createNatsError("Error occurred while creating the JetStream pull consumer.", e);
+            }
+            getMessageHandlers(listenerObject).put(TypeUtils.getType(service).getName(), streamMessageHandler);
+            serviceList.add(service);
+            return null;
+        }
+
+        Dispatcher dispatcher = natsConnection.createDispatcher();
+        // Add dispatcher. This is needed when closing the connection.
+        @SuppressWarnings("unchecked")
+        ConcurrentHashMap<String, Dispatcher> dispatcherList = (ConcurrentHashMap<String, Dispatcher>)
+                listenerObject.getNativeData(Constants.DISPATCHER_LIST);
+        dispatcherList.put(TypeUtils.getType(service).getName(), dispatcher);
         JetStreamSubscription streamSubscription;
         try {
-            StreamMessageHandler streamMessageHandler =
-                    new StreamMessageHandler(service, runtime, natsConnection.getConnectedUrl(), autoAck);
+            getMessageHandlers(listenerObject).put(TypeUtils.getType(service).getName(), streamMessageHandler);
             if (queueName != null) {
                 streamSubscription = jetStream.subscribe(subject, queueName, dispatcher, streamMessageHandler, false,
                         null);
+            } else if (ackCoalescer != null) {
+                PushSubscribeOptions pushOptions = PushSubscribeOptions.builder()
+                        .configuration(ConsumerConfiguration.builder().ackPolicy(AckPolicy.All).build())
+                        .build();
+                streamSubscription = jetStream.subscribe(subject, dispatcher, streamMessageHandler, false,
+                        pushOptions);
             } else {
                 streamSubscription = jetStream.subscribe(subject, dispatcher, streamMessageHandler, false);
             }
@@ -174,14 +235,37 @@ public class ListenerUtils {
         @SuppressWarnings("unchecked")
         ConcurrentHashMap<String, Dispatcher> dispatcherList = (ConcurrentHashMap<String, Dispatcher>)
                 listener.getNativeData(Constants.DISPATCHER_LIST);
-        Dispatcher dispatcher = dispatcherList.get(TypeUtils.getType(service).getName());
-        try {
-            dispatcher.unsubscribe(subject);
-        } catch (IllegalArgumentException | IllegalStateException ex) {
-            return Utils.createNatsError("Error occurred while un-subscribing.", ex);
+        StreamMessageHandler messageHandler = getMessageHandlers(listener).get(TypeUtils.getType(service).getName());
+        PullConsumer pullConsumer = getPullConsumers(listener).remove(TypeUtils.getType(service).getName());
+        if (pullConsumer != null) {
+            // The workers unsubscribe once they complete the batches they are processing. The handler is shut down
+            // only after that, since the workers still hand messages over to its batcher and acknowledge them.
+            pullConsumer.stop(false);
+            Thread.ofVirtual().start(() -> {
+                try {
+                    pullConsumer.await(-1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    if (messageHandler != null) {
+                        messageHandler.shutdown(false);
+                    }
+                }
+            });
+        } else {
+            Dispatcher dispatcher = dispatcherList.get(TypeUtils.getType(service).getName());
+            try {
+                dispatcher.unsubscribe(subject);
+            } catch (IllegalArgumentException | IllegalStateException ex) {
+                return Utils.createNatsError("Error occurred while un-subscribing.", ex);
+            }
         }
         serviceList.remove(service);
         dispatcherList.remove(TypeUtils.getType(service).getName());
+        getMessageHandlers(listener).remove(TypeUtils.getType(service).getName());
+        if (pullConsumer == null && messageHandler != null) {
+            messageHandler.shutdown(false);
+        }
         return null;
     }
 
@@ -196,6 +280,12 @@ public class ListenerUtils {
             natsConnection.closeDispatcher((Dispatcher) pair.getValue());
             dispatchers.remove(); // avoids a ConcurrentModificationException
         }
+        ConcurrentHashMap<String, PullConsumer> pullConsumers = getPullConsumers(listenerObject);
+        for (PullConsumer pullConsumer : pullConsumers.values()) {
+            pullConsumer.stop(true);
+        }
+        pullConsumers.clear();
+        shutdownMessageHandlers(listenerObject, true);
 
         // Actual NATS connection is not used in any other clients. So we can close the actual connection.
         try {
@@ -213,20 +303,54 @@ public class ListenerUtils {
         @SuppressWarnings("unchecked")
         ConcurrentHashMap<String, Dispatcher> dispatcherList = (ConcurrentHashMap<String, Dispatcher>)
                 listenerObject.getNativeData(Constants.DISPATCHER_LIST);
-        Iterator dispatchers = dispatcherList.entrySet().iterator();
-        while (dispatchers.hasNext()) {
-            Map.Entry pair = (Map.Entry) dispatchers.next();
-            natsConnection.closeDispatcher((Dispatcher) pair.getValue());
-            dispatchers.remove(); // avoids a ConcurrentModificationException
-        }
-
+        GracefulStop gracefulStop = GracefulStop.start(
+                (BDecimal) listenerObject.getNativeData(Constants.GRACEFUL_STOP_TIMEOUT));
+        ConcurrentHashMap<String, PullConsumer> pullConsumers = getPullConsumers(listenerObject);
+        long undelivered;
+        int busyWorkers = 0;
         try {
-            // Wait for the drain to succeed, passed 0 to wait forever.
-            natsConnection.drain(Duration.ZERO);
-        } catch (InterruptedException | TimeoutException | IllegalStateException e) {
+            for (PullConsumer pullConsumer : pullConsumers.values()) {
+                pullConsumer.stop(false);
+            }
+            // Services are invoked on the dispatcher threads, hence draining a dispatcher waits for its messages to
+            // be processed.
+            undelivered = gracefulStop.drain(natsConnection, dispatcherList.values());
+            dispatcherList.clear();
+            for (PullConsumer pullConsumer : pullConsumers.values()) {
+                busyWorkers += pullConsumer.await(gracefulStop.getRemainingNanos());
+            }
+            pullConsumers.clear();
+            shutdownMessageHandlers(listenerObject, false);
+            gracefulStop.close(natsConnection);
+        } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             return Utils.createNatsError("Error occurred while stopping the listener.", e);
+        } catch (TimeoutException | IllegalStateException e) {
+            return Utils.createNatsError("Error occurred while stopping the listener.", e);
+        }
+        if (undelivered > 0 || busyWorkers > 0) {
+            return Utils.createNatsError(String.format("Graceful stop timed out with %d pending message(s) not " +
+                    "processed and %d pull consumer worker(s) still processing messages.", undelivered, busyWorkers));
         }
         return null;
     }
+
+    private static void shutdownMessageHandlers(BObject listenerObject, boolean immediate) {
+        ConcurrentHashMap<String, StreamMessageHandler> messageHandlers = getMessageHandlers(listenerObject);
+        for (StreamMessageHandler messageHandler : messageHandlers.values()) {
+            messageHandler.shutdown(immediate);
+        }
+        messageHandlers.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentHashMap<String, PullConsumer> getPullConsumers(BObject listenerObject) {
+        return (ConcurrentHashMap<String, PullConsumer>) listenerObject.getNativeData(Constants.PULL_CONSUMERS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentHashMap<String, StreamMessageHandler> getMessageHandlers(BObject listenerObject) {
+        return (ConcurrentHashMap<String, StreamMessageHandler>) listenerObject.getNativeData(
+                Constants.MESSAGE_HANDLER_LIST);
+    }
 }
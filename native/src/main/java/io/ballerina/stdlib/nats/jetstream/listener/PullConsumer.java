@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.jetstream.listener;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.nats.Constants;
+import io.ballerina.stdlib.nats.Utils;
+import io.nats.client.JetStream;
+import io.nats.client.JetStreamApiException;
+import io.nats.client.JetStreamSubscription;
+import io.nats.client.Message;
+import io.nats.client.PullSubscribeOptions;
+import io.nats.client.api.AckPolicy;
+import io.nats.client.api.ConsumerConfiguration;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Consumes the messages of a service through a durable pull consumer. Each worker has its own subscription to the
+ * consumer, fetches a batch of messages at a time and hands them over to the service one by one. Hence, the messages
+ * are processed by as many workers in parallel, and a slow message holds back only the rest of its own batch.
+ */
+final class PullConsumer {
+    private final JetStreamSubscription[] subscriptions;
+    private final Thread[] workers;
+    private final StreamMessageHandler messageHandler;
+    private final int batchSize;
+    private final Duration maxWait;
+    private volatile boolean running = true;
+
+    private PullConsumer(JetStreamSubscription[] subscriptions, StreamMessageHandler messageHandler, int batchSize,
+                         Duration maxWait) {
+        this.subscriptions = subscriptions;
+        this.workers = new Thread[subscriptions.length];
+        this.messageHandler = messageHandler;
+        this.batchSize = batchSize;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Subscribes the workers to the durable consumer of the given subject, creating the consumer if it does not
+     * exist, and starts them.
+     *
+     * @param jetStream      the JetStream context
+     * @param subject        the subject of the service
+     * @param pullConfig     the `nats:PullConfig` of the service
+     * @param ackAll         whether acknowledging a message acknowledges the ones delivered before it as well
+     * @param messageHandler the handler of the service
+     * @return the started consumer
+     */
+    static PullConsumer start(JetStream jetStream, String subject, BMap<BString, Object> pullConfig, boolean ackAll,
+                              StreamMessageHandler messageHandler) throws IOException, JetStreamApiException {
+        String durable = pullConfig.getStringValue(Constants.DURABLE).getValue();
+        long batchSize = pullConfig.getIntValue(Constants.BATCH_SIZE);
+        long maxAckPending = pullConfig.getIntValue(Constants.MAX_ACK_PENDING);
+        long concurrency = pullConfig.getIntValue(Constants.CONCURRENCY);
+        Duration maxWait = Utils.getDuration((BDecimal) pullConfig.get(Constants.MAX_WAIT));
+        if (batchSize <= 0 || batchSize > Integer.MAX_VALUE) {
+            throw Utils.createNatsError("The pull batch size should be a positive integer.");
+        }
+        if (maxAckPending <= 0) {
+            throw Utils.createNatsError("The maximum number of pending acknowledgements should be a positive integer.");
+        }
+        if (concurrency <= 0 || concurrency > Constants.MAX_PULL_CONCURRENCY) {
+            throw Utils.createNatsError("The pull concurrency should be between 1 and " +
+                    Constants.MAX_PULL_CONCURRENCY + ".");
+        }
+        if (maxWait.isZero()) {
+            throw Utils.createNatsError("The maximum fetch wait time should be greater than 0.");
+        }
+        ConsumerConfiguration.Builder consumerConfig = ConsumerConfiguration.builder().maxAckPending(maxAckPending);
+        if (ackAll) {
+            consumerConfig.ackPolicy(AckPolicy.All);
+        }
+        PullSubscribeOptions pullOptions = PullSubscribeOptions.builder()
+                .durable(durable)
+                .configuration(consumerConfig.build())
+                .build();
+        JetStreamSubscription[] subscriptions = new JetStreamSubscription[(int) concurrency];
+        try {
+            for (int i = 0; i < subscriptions.length; i++) {
+                subscriptions[i] = jetStream.subscribe(subject, pullOptions);
+            }
+        } catch (IOException | JetStreamApiException | RuntimeException e) {
+            unsubscribe(subscriptions);
+            throw e;
+        }
+        PullConsumer pullConsumer = new PullConsumer(subscriptions, messageHandler, (int) batchSize, maxWait);
+        for (int i = 0; i < subscriptions.length; i++) {
+            JetStreamSubscription subscription = subscriptions[i];
+            pullConsumer.workers[i] = Thread.ofVirtual().name("nats-pull-" + durable + "-" + i)
+                    .start(() -> pullConsumer.work(subscription));
+        }
+        return pullConsumer;
+    }
+
+    private void work(JetStreamSubscription subscription) {
+        while (running) {
+            List<Message> messages;
+            try {
+                messages = subscription.fetch(batchSize, maxWait);
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                Utils.createNatsError("Error occurred while fetching messages.", e).printStackTrace();
+                if (!pause()) {
+                    return;
+                }
+                continue;
+            }
+            // The rest of a batch is processed even if the consumer is stopping, since the messages are delivered
+            // already. Interrupting the worker discards them, and they are redelivered once their ack wait expires.
+            for (Message message : messages) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                try {
+                    messageHandler.onMessage(message);
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    // Backs off before retrying a failed fetch. Returns `false` if interrupted.
+    private boolean pause() {
+        try {
+            Thread.sleep(maxWait);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Stops fetching messages. The workers complete the batches they are processing unless the stop is immediate.
+     *
+     * @param immediate whether to interrupt the workers
+     */
+    void stop(boolean immediate) {
+        running = false;
+        if (immediate) {
+            for (Thread worker : workers) {
+                worker.interrupt();
+            }
+            unsubscribe(subscriptions);
+        }
+    }
+
+    /**
+     * Waits for the workers to complete and unsubscribes them. The durable consumer is kept on the server.
+     *
+     * @param timeoutNanos the maximum time to wait, or a negative value to wait without a limit
+     * @return the number of workers which are still processing messages
+     * @throws InterruptedException if interrupted while waiting
+     */
+    int await(long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        int busy = 0;
+        for (Thread worker : workers) {
+            if (timeoutNanos < 0) {
+                worker.join();
+            } else if (!worker.join(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())))) {
+                busy++;
+            }
+        }
+        unsubscribe(subscriptions);
+        return busy;
+    }
+
+    private static void unsubscribe(JetStreamSubscription[] subscriptions) {
+        for (JetStreamSubscription subscription : subscriptions) {
+            if (subscription == null || !subscription.isActive()) {
+                continue;
+            }
+            try {
+                subscription.unsubscribe();
+            } catch (IllegalStateException e) {
+                // The connection is closed already.
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.jetstream.listener;
+
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.IntersectionType;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.nats.Constants;
+import io.ballerina.stdlib.nats.Utils;
+
+/**
+ * Immutable description of how messages are dispatched to a JetStream service. The remote methods, the shape of
+ * their parameters and the message record type are resolved once when the service is attached, so that the
+ * per-message path does not need to inspect the service type again.
+ */
+final class StreamDispatchPlan {
+
+    private final RecordType messageType;
+    private final boolean onMessageConcurrentSafe;
+    private final boolean readOnlyMessage;
+    private final boolean takesCaller;
+    private final boolean validOnMessage;
+    private final boolean hasOnMessages;
+    private final boolean onMessagesConcurrentSafe;
+    private final ArrayType batchType;
+    private final boolean readOnlyBatch;
+    private final boolean readOnlyBatchMessages;
+    // Shared by the invocations when tracing is disabled, since they carry no properties then.
+    private final StrandMetadata onMessageMetadata;
+    private final StrandMetadata onMessagesMetadata;
+
+    private StreamDispatchPlan(RecordType messageType, MethodType onMessage, MethodType onMessages,
+                               ObjectType objectType) {
+        this.messageType = messageType;
+        this.onMessageConcurrentSafe = onMessage != null && isConcurrentSafe(objectType, onMessage.getName());
+        Parameter[] parameters = onMessage != null ? onMessage.getParameters() : new Parameter[0];
+        this.validOnMessage = parameters.length == 1 || parameters.length == 2;
+        this.readOnlyMessage = parameters.length > 0 && parameters[0].type.getTag() == TypeTags.INTERSECTION_TAG;
+        this.takesCaller = parameters.length == 2;
+        this.hasOnMessages = onMessages != null;
+        this.onMessagesConcurrentSafe = onMessages != null && isConcurrentSafe(objectType, onMessages.getName());
+        Parameter[] batchParameters = onMessages != null ? onMessages.getParameters() : new Parameter[0];
+        ArrayType resolvedBatchType = null;
+        boolean resolvedReadOnlyBatch = false;
+        if (batchParameters.length == 1) {
+            Type type = batchParameters[0].type;
+            resolvedReadOnlyBatch = type.getTag() == TypeTags.INTERSECTION_TAG;
+            Type arrayType = TypeUtils.getReferredType(resolvedReadOnlyBatch ?
+                    ((IntersectionType) type).getEffectiveType() : type);
+            if (arrayType.getTag() == TypeTags.ARRAY_TAG) {
+                resolvedBatchType = (ArrayType) arrayType;
+            }
+        }
+        this.batchType = resolvedBatchType;
+        this.readOnlyBatch = resolvedReadOnlyBatch;
+        this.readOnlyBatchMessages = resolvedBatchType != null &&
+                TypeUtils.getReferredType(resolvedBatchType.getElementType()).getTag() == TypeTags.INTERSECTION_TAG;
+        this.onMessageMetadata = new StrandMetadata(onMessageConcurrentSafe, null);
+        this.onMessagesMetadata = new StrandMetadata(onMessagesConcurrentSafe, null);
+    }
+
+    /**
+     * Resolves the dispatch plan of the given service.
+     *
+     * @param service the service being attached
+     * @return the dispatch plan of the service
+     */
+    static StreamDispatchPlan build(BObject service) {
+        ObjectType objectType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
+        MethodType onMessage = null;
+        MethodType onMessages = null;
+        for (MethodType method : objectType.getMethods()) {
+            if (Constants.ON_MESSAGE_RESOURCE.equals(method.getName())) {
+                onMessage = method;
+            } else if (Constants.ON_MESSAGES_RESOURCE.equals(method.getName())) {
+                onMessages = method;
+            }
+        }
+        RecordType messageType = (RecordType) TypeUtils.getReferredType(TypeUtils.getType(
+                ValueCreator.createRecordValue(Utils.getModule(), Constants.STREAM_MESSAGE)));
+        return new StreamDispatchPlan(messageType, onMessage, onMessages, objectType);
+    }
+
+    private static boolean isConcurrentSafe(ObjectType objectType, String function) {
+        return objectType.isIsolated() && objectType.isIsolated(function);
+    }
+
+    /**
+     * The `nats:JetStreamMessage` record type.
+     */
+    RecordType getMessageType() {
+        return messageType;
+    }
+
+    boolean isOnMessageConcurrentSafe() {
+        return onMessageConcurrentSafe;
+    }
+
+    /**
+     * Whether the message parameter of the onMessage remote method is read-only.
+     */
+    boolean isReadOnlyMessage() {
+        return readOnlyMessage;
+    }
+
+    /**
+     * Whether the onMessage remote method takes a `nats:JetStreamCaller` along with the message.
+     */
+    boolean takesCaller() {
+        return takesCaller;
+    }
+
+    /**
+     * Whether the service has an onMessage remote method with one or two parameters.
+     */
+    boolean isValidOnMessage() {
+        return validOnMessage;
+    }
+
+    /**
+     * Whether the service consumes messages in batches through the onMessages remote method.
+     */
+    boolean hasOnMessages() {
+        return hasOnMessages;
+    }
+
+    boolean isOnMessagesConcurrentSafe() {
+        return onMessagesConcurrentSafe;
+    }
+
+    /**
+     * The array type of the batch, or `null` if the onMessages remote method does not take a single array.
+     */
+    ArrayType getBatchType() {
+        return batchType;
+    }
+
+    boolean isReadOnlyBatch() {
+        return readOnlyBatch;
+    }
+
+    boolean isReadOnlyBatchMessages() {
+        return readOnlyBatchMessages;
+    }
+
+    StrandMetadata getOnMessageMetadata() {
+        return onMessageMetadata;
+    }
+
+    StrandMetadata getOnMessagesMetadata() {
+        return onMessagesMetadata;
+    }
+}
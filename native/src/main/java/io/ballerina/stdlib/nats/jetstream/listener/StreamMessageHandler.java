@@ -21,13 +21,9 @@ package io.ballerina.stdlib.nats.jetstream.listener;
 import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.MethodType;
-import io.ballerina.runtime.api.types.ObjectType;
-import io.ballerina.runtime.api.types.Parameter;
-import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.utils.StringUtils;
-import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
@@ -35,30 +31,47 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.observability.ObservabilityConstants;
 import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.stdlib.nats.Constants;
+import io.ballerina.stdlib.nats.MessageBatcher;
 import io.ballerina.stdlib.nats.Utils;
+import io.ballerina.stdlib.nats.compression.PayloadCompressor;
 import io.ballerina.stdlib.nats.observability.NatsObservabilityConstants;
 import io.ballerina.stdlib.nats.observability.NatsObserverContext;
 import io.nats.client.Message;
 import io.nats.client.MessageHandler;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Handles incoming message for a given subscription.
  */
 public class StreamMessageHandler implements MessageHandler {
+    private static final BString MESSAGE_CONTENT_KEY = StringUtils.fromString(Constants.MESSAGE_CONTENT);
+    private static final BString MESSAGE_SUBJECT_KEY = StringUtils.fromString(Constants.MESSAGE_SUBJECT);
 
     private final BObject service;
     private final Runtime runtime;
     private final String connectedUrl;
     private final boolean autoAck;
+    private final StreamDispatchPlan dispatchPlan;
+    // Accumulates the messages delivered to the onMessages remote method. `null` if the service has no such method.
+    private final MessageBatcher messageBatcher;
+    // Coalesces the acknowledgements of the consumer. `null` if each message is acknowledged on its own.
+    private final AckCoalescer ackCoalescer;
 
-    public StreamMessageHandler(BObject service, Runtime runtime, String connectedUrl, boolean autoAck) {
+    public StreamMessageHandler(BObject service, Runtime runtime, String connectedUrl, boolean autoAck,
+                                BMap<BString, Object> batchConfig, AckCoalescer ackCoalescer) {
         this.service = service;
+        this.ackCoalescer = ackCoalescer;
         this.runtime = runtime;
         this.autoAck = autoAck;
         this.connectedUrl = connectedUrl;
+        this.dispatchPlan = StreamDispatchPlan.build(service);
+        this.messageBatcher = dispatchPlan.hasOnMessages() ?
+                MessageBatcher.fromConfig(batchConfig, this::dispatchBatch) : null;
     }
 
     /**
@@ -66,90 +79,165 @@ public class StreamMessageHandler implements MessageHandler {
      */
     @Override
     public void onMessage(Message msg) {
-        BMap<BString, Object> msgRecord = ValueCreator.createRecordValue(Utils.getModule(), Constants.STREAM_MESSAGE);
-        Object[] msgRecordValues = new Object[2];
-
-        msgRecordValues[0] = StringUtils.fromString(msg.getSubject());
-        msgRecordValues[1] = ValueCreator.createArrayValue(msg.getData());
+        if (messageBatcher != null) {
+            try {
+                if (!messageBatcher.add(msg)) {
+                    Utils.createNatsError("Message dropped since the service is stopping.").printStackTrace();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw Utils.createNatsError(Constants.THREAD_INTERRUPTED_ERROR, e);
+            }
+            return;
+        }
+        if (!dispatchPlan.isValidOnMessage()) {
+            throw Utils.createNatsError("Invalid remote function signature.");
+        }
+        byte[] data = decompress(msg);
+        if (data == null) {
+            return;
+        }
+        BMap<BString, Object> message = createMessageRecord(msg, data, dispatchPlan.isReadOnlyMessage());
+        if (dispatchPlan.takesCaller()) {
+            invokeResource(Constants.ON_MESSAGE_RESOURCE, dispatchPlan.getOnMessageMetadata(),
+                    dispatchPlan.isOnMessageConcurrentSafe(), msg.getSubject(), message, createCaller(msg));
+        } else {
+            invokeResource(Constants.ON_MESSAGE_RESOURCE, dispatchPlan.getOnMessageMetadata(),
+                    dispatchPlan.isOnMessageConcurrentSafe(), msg.getSubject(), message);
+        }
+    }
 
-        BMap<BString, Object> populatedMsgRecord = ValueCreator.createRecordValue(msgRecord, msgRecordValues);
+    /**
+     * Creates the message record passed to the service. The native message is kept for the metadata, which is
+     * parsed from the reply subject only if requested.
+     */
+    private BMap<BString, Object> createMessageRecord(Message msg, byte[] data, boolean readOnly) {
+        BMap<BString, Object> message = ValueCreator.createRecordValue(dispatchPlan.getMessageType());
+        message.put(MESSAGE_CONTENT_KEY, ValueCreator.createArrayValue(data));
+        message.put(MESSAGE_SUBJECT_KEY, StringUtils.fromString(msg.getSubject()));
+        message.addNativeData(Constants.JET_STREAM_MESSAGE, msg);
+        if (readOnly) {
+            message.freezeDirect();
+        }
+        return message;
+    }
 
+    private BObject createCaller(Message msg) {
         BObject callerObj = ValueCreator.createObjectValue(Utils.getModule(), Constants.STREAM_CALLER);
         callerObj.addNativeData(Constants.JET_STREAM_MESSAGE, msg);
         callerObj.addNativeData(Constants.JET_STREAM_AUTO_ACK, autoAck);
+        if (ackCoalescer != null) {
+            callerObj.addNativeData(Constants.ACK_COALESCER, ackCoalescer);
+        }
+        return callerObj;
+    }
 
-        MethodType onMessageResource = getAttachedFunctionType(service, "onMessage");
-        Type returnType = onMessageResource.getReturnType();
-        Parameter[] parameters = onMessageResource.getParameters();
-        if (parameters.length == 1) {
-            Object[] args1 = new Object[1];
-            if (parameters[0].type.getTag() == TypeTags.INTERSECTION_TAG) {
-                args1[0] = getReadonlyMessage(msg);
-            } else {
-                args1[0] = populatedMsgRecord;
+    /**
+     * Returns the decompressed content of a message. Messages which cannot be decompressed are not dispatched, and
+     * hence they are redelivered once their acknowledgement times out.
+     *
+     * @return the content or `null` if the message cannot be decompressed
+     */
+    private static byte[] decompress(Message msg) {
+        try {
+            return PayloadCompressor.decompress(msg);
+        } catch (BError bError) {
+            bError.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Dispatches a batch of messages to the onMessages resource. If auto acknowledgement is enabled, the messages
+     * are acknowledged once the resource returns without an error and negatively acknowledged otherwise. Messages
+     * which cannot be decompressed are left out of the batch.
+     */
+    private void dispatchBatch(List<Message> batch) {
+        ArrayType batchType = dispatchPlan.getBatchType();
+        if (batchType == null) {
+            throw Utils.createNatsError("Invalid remote function signature.");
+        }
+        boolean readOnlyMessages = dispatchPlan.isReadOnlyBatchMessages();
+        List<Message> dispatched = new ArrayList<>(batch.size());
+        Object[] messages = new Object[batch.size()];
+        int count = 0;
+        for (Message msg : batch) {
+            byte[] data = decompress(msg);
+            if (data == null) {
+                continue;
+            }
+            dispatched.add(msg);
+            messages[count++] = createMessageRecord(msg, data, readOnlyMessages);
+        }
+        if (count == 0) {
+            return;
+        }
+        BArray messageBatch = ValueCreator.createArrayValue(count == messages.length ? messages :
+                Arrays.copyOf(messages, count), batchType);
+        if (dispatchPlan.isReadOnlyBatch()) {
+            messageBatch.freezeDirect();
+        }
+        boolean success = invokeResource(Constants.ON_MESSAGES_RESOURCE, dispatchPlan.getOnMessagesMetadata(),
+                dispatchPlan.isOnMessagesConcurrentSafe(), dispatched.get(0).getSubject(), messageBatch);
+        if (!autoAck) {
+            return;
+        }
+        if (success && ackCoalescer != null) {
+            for (Message msg : dispatched) {
+                ackCoalescer.ack(msg);
             }
-            dispatch(args1, msg.getSubject(), returnType);
-        } else if (parameters.length == 2) {
-            Object[] args2 = new Object[2];
-            if (parameters[0].type.getTag() == TypeTags.INTERSECTION_TAG) {
-                args2[0] = getReadonlyMessage(msg);
+            return;
+        }
+        if (ackCoalescer != null) {
+            ackCoalescer.flush();
+        }
+        for (Message msg : dispatched) {
+            if (success) {
+                msg.ack();
             } else {
-                args2[0] = populatedMsgRecord;
+                msg.nak();
             }
-            args2[1] = callerObj;
-            dispatch(args2, msg.getSubject(), returnType);
-        } else {
-            throw Utils.createNatsError("Invalid remote function signature.");
         }
     }
 
-    private BMap<BString, Object> getReadonlyMessage(Message msg) {
-        Map<String, Object> valueMap = new HashMap<>();
-        valueMap.put(Constants.MESSAGE_CONTENT, ValueCreator.createArrayValue(msg.getData()));
-        valueMap.put(Constants.MESSAGE_SUBJECT, StringUtils.fromString(msg.getSubject()));
-        return ValueCreator.createReadonlyRecordValue(Utils.getModule(), Constants.STREAM_MESSAGE, valueMap);
-    }
-
-    private void dispatch(Object[] args, String subject, Type returnType) {
-        executeResource(subject, args, returnType);
+    /**
+     * Stops accepting messages.
+     *
+     * @param immediate whether to discard the messages of the batch being filled rather than dispatching them
+     */
+    void shutdown(boolean immediate) {
+        if (messageBatcher != null) {
+            messageBatcher.close(immediate);
+        }
+        if (ackCoalescer != null) {
+            ackCoalescer.close();
+        }
     }
 
-    private void executeResource(String subject, Object[] args, Type returnType) {
-        ObjectType objectType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
-        Map<String, Object> properties = null;
+    private boolean invokeResource(String function, StrandMetadata metadata, boolean isConcurrentSafe,
+                                   String subject, Object... args) {
+        StrandMetadata strandMetadata = metadata;
         if (ObserveUtils.isTracingEnabled()) {
-            properties = new HashMap<>();
+            Map<String, Object> properties = new HashMap<>();
             NatsObserverContext observerContext = new NatsObserverContext(NatsObservabilityConstants.CONTEXT_CONSUMER,
                     connectedUrl, subject);
             properties.put(ObservabilityConstants.KEY_OBSERVER_CONTEXT, observerContext);
+            strandMetadata = new StrandMetadata(isConcurrentSafe, properties);
         }
         try {
-            boolean isConcurrentSafe = objectType.isIsolated() &&
-                    objectType.isIsolated(Constants.ON_MESSAGE_RESOURCE);
-            Object result = runtime.callMethod(service, Constants.ON_MESSAGE_RESOURCE,
-                    new StrandMetadata(isConcurrentSafe, properties), args);
+            Object result = runtime.callMethod(service, function, strandMetadata, args);
             if (result instanceof BError) {
                 ((BError) result).printStackTrace();
+                return false;
             }
+            return true;
         } catch (BError bError) {
             bError.printStackTrace();
             // Service level `panic` is captured in this method.
             // Since, `panic` is due to a critical application bug or resource exhaustion
             // we need to exit the application.
             // Please refer: https://github.com/ballerina-platform/ballerina-standard-library/issues/2714
+            return false;
         }
     }
-
-    private static MethodType getAttachedFunctionType(BObject serviceObject, String functionName) {
-        MethodType function = null;
-        ObjectType objectType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(serviceObject));
-        MethodType[] remoteFunctions = objectType.getMethods();
-        for (MethodType resourceFunction : remoteFunctions) {
-            if (functionName.equals(resourceFunction.getName())) {
-                function = resourceFunction;
-                break;
-            }
-        }
-        return function;
-    }
 }
@@ -18,28 +18,126 @@
 
 package io.ballerina.stdlib.nats.jetstream.message;
 
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.nats.Constants;
+import io.ballerina.stdlib.nats.Utils;
+import io.ballerina.stdlib.nats.jetstream.listener.AckCoalescer;
 import io.nats.client.Message;
+import io.nats.client.impl.NatsJetStreamMetaData;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Extern functions of the APIs provided by the JetStreamMessage client.
  */
 public class MessageUtils {
+    // The type of `time:Utc`, which is the readonly form of this tuple.
+    private static final TupleType UTC_TYPE = TypeCreator.createTupleType(
+            List.of(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_DECIMAL));
+
     public static void ack(BObject messageObj) {
         Message streamMessage = (Message) messageObj.getNativeData(Constants.JET_STREAM_MESSAGE);
-        streamMessage.ack();
+        AckCoalescer ackCoalescer = (AckCoalescer) messageObj.getNativeData(Constants.ACK_COALESCER);
+        if (ackCoalescer != null) {
+            ackCoalescer.ack(streamMessage);
+        } else {
+            streamMessage.ack();
+        }
+    }
+
+    public static Object ackSync(BObject messageObj, BDecimal timeout) {
+        Message streamMessage = (Message) messageObj.getNativeData(Constants.JET_STREAM_MESSAGE);
+        flushAcks(messageObj);
+        return ackSync(streamMessage, timeout);
     }
 
     public static void nak(BObject messageObj) {
         Message streamMessage = (Message) messageObj.getNativeData(Constants.JET_STREAM_MESSAGE);
+        flushAcks(messageObj);
         streamMessage.nak();
     }
 
     public static void inProgress(BObject messageObj) {
         Message streamMessage = (Message) messageObj.getNativeData(Constants.JET_STREAM_MESSAGE);
+        flushAcks(messageObj);
         streamMessage.inProgress();
     }
 
+    /**
+     * Acknowledges a message and waits for the server to confirm the acknowledgement.
+     *
+     * @param streamMessage the message
+     * @param timeout       the maximum time in seconds to wait
+     * @return a `nats:Error` if the acknowledgement is not confirmed or else `null`
+     */
+    public static Object ackSync(Message streamMessage, BDecimal timeout) {
+        try {
+            streamMessage.ackSync(Utils.getDuration(timeout));
+            return null;
+        } catch (TimeoutException e) {
+            return Utils.createNatsError("Timed out while waiting for the acknowledgement to be confirmed.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Utils.createNatsError(Constants.THREAD_INTERRUPTED_ERROR, e);
+        } catch (IllegalStateException e) {
+            return Utils.createNatsError("Error occurred while acknowledging the message.", e);
+        }
+    }
+
+    /**
+     * Parses the metadata of a message from its reply subject.
+     *
+     * @param message the `nats:JetStreamMessage`
+     * @return the `nats:JetStreamMessageMetadata` or else a `nats:Error` if the message has no metadata
+     */
+    public static Object getMetadata(BMap<BString, Object> message) {
+        Message streamMessage = (Message) message.getNativeData(Constants.JET_STREAM_MESSAGE);
+        if (streamMessage == null || !streamMessage.isJetStream()) {
+            return Utils.createNatsError("The message is not consumed from a JetStream consumer.");
+        }
+        NatsJetStreamMetaData metaData;
+        try {
+            metaData = streamMessage.metaData();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return Utils.createNatsError("Error occurred while parsing the message metadata.", e);
+        }
+        Instant timestamp = metaData.timestamp().toInstant();
+        BArray utc = ValueCreator.createTupleValue(UTC_TYPE);
+        utc.add(0, timestamp.getEpochSecond());
+        utc.add(1, ValueCreator.createDecimalValue(BigDecimal.valueOf(timestamp.getNano(), 9)));
+        utc.freezeDirect();
+        Map<String, Object> valueMap = new HashMap<>();
+        valueMap.put(Constants.METADATA_STREAM_NAME, StringUtils.fromString(metaData.getStream()));
+        valueMap.put(Constants.METADATA_CONSUMER_NAME, StringUtils.fromString(metaData.getConsumer()));
+        valueMap.put(Constants.METADATA_STREAM_SEQUENCE, metaData.streamSequence());
+        valueMap.put(Constants.METADATA_CONSUMER_SEQUENCE, metaData.consumerSequence());
+        valueMap.put(Constants.METADATA_DELIVERED_COUNT, metaData.deliveredCount());
+        valueMap.put(Constants.METADATA_PENDING_COUNT, metaData.pendingCount());
+        valueMap.put(Constants.METADATA_TIMESTAMP, utc);
+        return ValueCreator.createReadonlyRecordValue(Utils.getModule(), Constants.STREAM_MESSAGE_METADATA, valueMap);
+    }
+
+    // Sends the coalesced acknowledgements first, so that they reach the server in order.
+    private static void flushAcks(BObject messageObj) {
+        AckCoalescer ackCoalescer = (AckCoalescer) messageObj.getNativeData(Constants.ACK_COALESCER);
+        if (ackCoalescer != null) {
+            ackCoalescer.flush();
+        }
+    }
+
     private MessageUtils() {}
 }
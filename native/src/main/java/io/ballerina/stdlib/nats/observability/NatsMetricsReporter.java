@@ -19,12 +19,17 @@
 package io.ballerina.stdlib.nats.observability;
 
 import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.Counter;
 import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
 import io.ballerina.runtime.observability.metrics.MetricId;
 import io.ballerina.runtime.observability.metrics.MetricRegistry;
 import io.nats.client.Connection;
 
 import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Providing metrics functionality to NATS.
@@ -34,7 +39,26 @@ import java.util.ArrayList;
 public class NatsMetricsReporter {
 
     private static final MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+    // Maximum number of distinct subjects, which get their own counters on the message paths. The messages of any
+    // further subject are counted under the overflow subject, so that the cached counters and the metric
+    // cardinality stay bounded when subjects are generated, e.g. with unique reply subjects.
+    static final int MAX_CACHED_SUBJECTS = 1000;
+    // Metrics of the message paths, indexed by the slots of the cached counters of a subject.
+    private static final String[][] CACHED_METRICS = {
+            NatsObservabilityConstants.METRIC_PUBLISHED, NatsObservabilityConstants.METRIC_PUBLISHED_SIZE,
+            NatsObservabilityConstants.METRIC_REQUEST, NatsObservabilityConstants.METRIC_RESPONSE,
+            NatsObservabilityConstants.METRIC_DELIVERED, NatsObservabilityConstants.METRIC_CONSUMED,
+            NatsObservabilityConstants.METRIC_CONSUMED_SIZE};
+    private static final int PUBLISHED = 0;
+    private static final int PUBLISHED_SIZE = 1;
+    private static final int REQUEST = 2;
+    private static final int RESPONSE = 3;
+    private static final int DELIVERED = 4;
+    private static final int CONSUMED = 5;
+    private static final int CONSUMED_SIZE = 6;
     private final Connection connection;
+    private final SubjectCache producerCounters = new SubjectCache(NatsObservabilityConstants.CONTEXT_PRODUCER);
+    private final SubjectCache consumerCounters = new SubjectCache(NatsObservabilityConstants.CONTEXT_CONSUMER);
 
     public NatsMetricsReporter(Connection connection) {
         this.connection = connection;
@@ -78,8 +102,23 @@ public class NatsMetricsReporter {
         if (!ObserveUtils.isMetricsEnabled()) {
             return;
         }
-        reportPublish(new NatsObserverContext(NatsObservabilityConstants.CONTEXT_PRODUCER, connection.getConnectedUrl(),
-                                              subject), size);
+        incrementCachedCounter(producerCounters, subject, PUBLISHED, 1);
+        incrementCachedCounter(producerCounters, subject, PUBLISHED_SIZE, size);
+    }
+
+    /**
+     * Reports a batch of messages published by a NATS producer to the same subject.
+     *
+     * @param subject Subject the messages are published to.
+     * @param count   Number of messages published.
+     * @param size    Total size in bytes of the messages.
+     */
+    public void reportPublish(String subject, long count, long size) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        incrementCachedCounter(producerCounters, subject, PUBLISHED, count);
+        incrementCachedCounter(producerCounters, subject, PUBLISHED_SIZE, size);
     }
 
     /**
@@ -91,11 +130,7 @@ public class NatsMetricsReporter {
         if (!ObserveUtils.isMetricsEnabled()) {
             return;
         }
-        incrementCounter(
-                new NatsObserverContext(NatsObservabilityConstants.CONTEXT_PRODUCER, connection.getConnectedUrl(),
-                                        subject),
-                NatsObservabilityConstants.METRIC_DELIVERED[0],
-                NatsObservabilityConstants.METRIC_DELIVERED[1]);
+        incrementCachedCounter(producerCounters, subject, DELIVERED, 1);
 
     }
 
@@ -109,13 +144,9 @@ public class NatsMetricsReporter {
         if (!ObserveUtils.isMetricsEnabled()) {
             return;
         }
-        NatsObserverContext observerContext = new NatsObserverContext(
-                NatsObservabilityConstants.CONTEXT_PRODUCER, connection.getConnectedUrl(), subject);
-        incrementCounter(observerContext,
-                         NatsObservabilityConstants.METRIC_REQUEST[0],
-                         NatsObservabilityConstants.METRIC_REQUEST[1]);
+        incrementCachedCounter(producerCounters, subject, REQUEST, 1);
         //Since a request also includes a message being published, that metric must be reported as well.
-        reportPublish(observerContext, size);
+        reportPublish(subject, size);
     }
 
     /**
@@ -127,11 +158,7 @@ public class NatsMetricsReporter {
         if (!ObserveUtils.isMetricsEnabled()) {
             return;
         }
-        incrementCounter(
-                new NatsObserverContext(NatsObservabilityConstants.CONTEXT_PRODUCER, connection.getConnectedUrl(),
-                                        subject),
-                NatsObservabilityConstants.METRIC_RESPONSE[0],
-                NatsObservabilityConstants.METRIC_RESPONSE[1]);
+        incrementCachedCounter(producerCounters, subject, RESPONSE, 1);
     }
 
     /**
@@ -191,8 +218,8 @@ public class NatsMetricsReporter {
         if (!ObserveUtils.isMetricsEnabled()) {
             return;
         }
-        reportConsume(new NatsObserverContext(NatsObservabilityConstants.CONTEXT_CONSUMER, connection.getConnectedUrl(),
-                                              subject), size);
+        incrementCachedCounter(consumerCounters, subject, CONSUMED, 1);
+        incrementCachedCounter(consumerCounters, subject, CONSUMED_SIZE, size);
     }
 
     /**
@@ -221,18 +248,15 @@ public class NatsMetricsReporter {
         this.reportError(subject, NatsObservabilityConstants.CONTEXT_CONSUMER, errorType);
     }
 
-    private static void reportPublish(NatsObserverContext observerContext, int size) {
-        incrementCounter(observerContext, NatsObservabilityConstants.METRIC_PUBLISHED[0],
-                         NatsObservabilityConstants.METRIC_PUBLISHED[1]);
-        incrementCounter(observerContext, NatsObservabilityConstants.METRIC_PUBLISHED_SIZE[0],
-                         NatsObservabilityConstants.METRIC_PUBLISHED_SIZE[1], size);
-    }
-
-    private static void reportConsume(NatsObserverContext observerContext, int size) {
-        incrementCounter(observerContext, NatsObservabilityConstants.METRIC_CONSUMED[0],
-                         NatsObservabilityConstants.METRIC_CONSUMED[1]);
-        incrementCounter(observerContext, NatsObservabilityConstants.METRIC_CONSUMED_SIZE[0],
-                         NatsObservabilityConstants.METRIC_CONSUMED_SIZE[1], size);
+    /**
+     * Increments a counter of the message paths. The counter is resolved from the metric registry only once per
+     * context, URL, subject and metric.
+     */
+    private void incrementCachedCounter(SubjectCache cache, String subject, int slot, long amount) {
+        if (metricRegistry == null) {
+            return;
+        }
+        cache.get(subject, connection.getConnectedUrl()).counter(slot).increment(amount);
     }
 
     public void reportError(String subject, String context, String errorType) {
@@ -246,7 +270,7 @@ public class NatsMetricsReporter {
         incrementCounter(observerContext, name, desc, 1);
     }
 
-    private static void incrementCounter(NatsObserverContext observerContext, String name, String desc, int amount) {
+    private static void incrementCounter(NatsObserverContext observerContext, String name, String desc, long amount) {
         if (metricRegistry == null) {
             return;
         }
@@ -272,4 +296,88 @@ public class NatsMetricsReporter {
                 NatsObservabilityConstants.CONNECTOR_NAME + "_" + name, desc, observerContext.getAllTags()))
                 .decrement();
     }
+
+    /**
+     * Cached counters of the subjects of a context. At most {@link #MAX_CACHED_SUBJECTS} subjects are cached, the
+     * slots being reserved atomically so that concurrent messages of new subjects cannot exceed the bound.
+     */
+    static final class SubjectCache {
+        private final String context;
+        private final ConcurrentHashMap<String, SubjectCounters> subjects = new ConcurrentHashMap<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        SubjectCache(String context) {
+            this.context = context;
+        }
+
+        SubjectCounters get(String subject, String url) {
+            SubjectCounters counters = subjects.get(subject);
+            if (counters == null) {
+                if (size.incrementAndGet() > MAX_CACHED_SUBJECTS) {
+                    size.decrementAndGet();
+                    return getOverflow(url);
+                }
+                counters = new SubjectCounters(context, url, subject);
+                SubjectCounters existing = subjects.putIfAbsent(subject, counters);
+                if (existing == null) {
+                    return counters;
+                }
+                size.decrementAndGet();
+                counters = existing;
+            }
+            if (!Objects.equals(counters.url, url)) {
+                // The connection has reconnected to another server, so the counters are tagged with the new URL.
+                counters = new SubjectCounters(context, url, subject);
+                subjects.put(subject, counters);
+            }
+            return counters;
+        }
+
+        private SubjectCounters getOverflow(String url) {
+            String subject = NatsObservabilityConstants.OVERFLOW_SUBJECT;
+            SubjectCounters counters = subjects.computeIfAbsent(subject,
+                    key -> new SubjectCounters(context, url, subject));
+            if (!Objects.equals(counters.url, url)) {
+                counters = new SubjectCounters(context, url, subject);
+                subjects.put(subject, counters);
+            }
+            return counters;
+        }
+
+        int size() {
+            return size.get();
+        }
+    }
+
+    /**
+     * Counters of a subject, which are resolved from the metric registry when first incremented.
+     */
+    static final class SubjectCounters {
+        private final String context;
+        private final String url;
+        private final String subject;
+        private final AtomicReferenceArray<Counter> counters = new AtomicReferenceArray<>(CACHED_METRICS.length);
+
+        private SubjectCounters(String context, String url, String subject) {
+            this.context = context;
+            this.url = url;
+            this.subject = subject;
+        }
+
+        String getSubject() {
+            return subject;
+        }
+
+        private Counter counter(int slot) {
+            Counter counter = counters.get(slot);
+            if (counter == null) {
+                String[] metric = CACHED_METRICS[slot];
+                counter = metricRegistry.counter(new MetricId(
+                        NatsObservabilityConstants.CONNECTOR_NAME + "_" + metric[0], metric[1],
+                        new NatsObserverContext(context, url, subject).getAllTags()));
+                counters.set(slot, counter);
+            }
+            return counter;
+        }
+    }
 }
@@ -40,6 +40,7 @@ public class NatsObservabilityConstants {
 
     static final String TAG_URL = "url";
     static final String TAG_SUBJECT = "subject";
+    static final String TAG_SUBJECT_COUNT = "subject_count";
     static final String TAG_ERROR_TYPE = "error_type";
     static final String TAG_CONTEXT = "context";
 
@@ -52,6 +53,7 @@ public class NatsObservabilityConstants {
     public static final String CONTEXT_CONSUMER = "consumer";
 
     public static final String UNKNOWN = "unknown";
+    static final String OVERFLOW_SUBJECT = "_overflow";
 
     private NatsObservabilityConstants() {
     }
@@ -52,6 +52,22 @@ public class NatsTracingUtil {
         traceResourceInvocation(environment, connection.getConnectedUrl(), subject);
     }
 
+    /**
+     * Traces a batch published to one or more subjects. The subject tag holds the first subject of the batch, which is
+     * the subject of every message when they share one, and the number of distinct subjects is tagged separately.
+     */
+    public static void traceResourceInvocation(Environment environment, BObject clientObj, String subject,
+                                               int subjectCount) {
+        if (!ObserveUtils.isTracingEnabled()) {
+            return;
+        }
+        traceResourceInvocation(environment, clientObj, subject);
+        ObserverContext observerContext = ObserveUtils.getObserverContextOfCurrentFrame(environment);
+        if (observerContext != null) {
+            observerContext.addTag(NatsObservabilityConstants.TAG_SUBJECT_COUNT, String.valueOf(subjectCount));
+        }
+    }
+
     private static void setTags(ObserverContext observerContext, String url, String subject) {
         observerContext.addTag(NatsObservabilityConstants.TAG_URL, url);
         observerContext.addTag(NatsObservabilityConstants.TAG_SUBJECT, subject);
@@ -28,4 +28,6 @@ module io.ballerina.stdlib.nats.runtime {
     exports io.ballerina.stdlib.nats.basic.client;
     exports io.ballerina.stdlib.nats.connection;
     exports io.ballerina.stdlib.nats.observability;
+    exports io.ballerina.stdlib.nats.codec;
+    uses io.ballerina.stdlib.nats.codec.PayloadCodec;
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.compression;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Tests for the LZ4 frame format, against frames written by Apache Commons Compress.
+ */
+public class Lz4CompressionTest {
+
+    private static final String CONTENT = "Hello, Ballerina! Hello, Ballerina! Hello, Ballerina! Hello, NATS!";
+    // Written with the default parameters, which add a content checksum.
+    private static final String REFERENCE_FRAME =
+            "BCJNGGRwuSQAAAD/A0hlbGxvLCBCYWxsZXJpbmEhIBIAEcBIZWxsbywgTkFUUyEAAAAAvFobpA==";
+    // Written with dependent blocks, block checksums and a content checksum.
+    private static final String REFERENCE_FRAME_WITH_BLOCK_CHECKSUMS =
+            "BCJNGHRAvSQAAAD/A0hlbGxvLCBCYWxsZXJpbmEhIBIAEcBIZWxsbywgTkFUUyEo5Mq3AAAAALxaG6Q=";
+
+    private final Lz4Compression lz4Compression = new Lz4Compression();
+
+    @Test
+    public void testDecompressReferenceFrame() throws IOException {
+        byte[] content = lz4Compression.decompress(Base64.getDecoder().decode(REFERENCE_FRAME), 1024);
+        Assert.assertEquals(new String(content, StandardCharsets.UTF_8), CONTENT);
+    }
+
+    @Test
+    public void testDecompressReferenceFrameWithBlockChecksums() throws IOException {
+        byte[] content = lz4Compression.decompress(
+                Base64.getDecoder().decode(REFERENCE_FRAME_WITH_BLOCK_CHECKSUMS), 1024);
+        Assert.assertEquals(new String(content, StandardCharsets.UTF_8), CONTENT);
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        byte[] payload = CONTENT.repeat(2000).getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(lz4Compression.decompress(lz4Compression.compress(payload), payload.length), payload);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testDecompressBeyondMaxSize() throws IOException {
+        lz4Compression.decompress(Base64.getDecoder().decode(REFERENCE_FRAME), CONTENT.length() - 1);
+    }
+}
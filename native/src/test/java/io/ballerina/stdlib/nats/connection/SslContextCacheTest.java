@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.connection;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.nats.Constants;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+
+import javax.net.ssl.SSLContext;
+
+/**
+ * Tests for the cache of the SSL contexts.
+ */
+public class SslContextCacheTest {
+
+    private Path trustStore;
+    private int builds;
+    private final SslContextCache.SslContextBuilder builder = secureSocket -> {
+        builds++;
+        return SSLContext.getInstance("TLS");
+    };
+
+    @BeforeMethod
+    public void createTrustStore() throws IOException {
+        trustStore = Files.createTempFile("nats-truststore", ".p12");
+        Files.writeString(trustStore, "trust store");
+        builds = 0;
+    }
+
+    @AfterMethod
+    public void deleteTrustStore() throws IOException {
+        Files.deleteIfExists(trustStore);
+    }
+
+    @Test
+    public void testEqualConfigurationsShareContext() throws Exception {
+        SSLContext sslContext = SslContextCache.get(createSecureSocket("password"), builder);
+        Assert.assertSame(SslContextCache.get(createSecureSocket("password"), builder), sslContext);
+        Assert.assertEquals(builds, 1);
+    }
+
+    @Test
+    public void testDifferentPasswordBuildsContext() throws Exception {
+        SSLContext sslContext = SslContextCache.get(createSecureSocket("password"), builder);
+        Assert.assertNotSame(SslContextCache.get(createSecureSocket("other-password"), builder), sslContext);
+        Assert.assertEquals(builds, 2);
+    }
+
+    @Test
+    public void testModifiedTimeRebuildsContext() throws Exception {
+        SSLContext sslContext = SslContextCache.get(createSecureSocket("password"), builder);
+        FileTime modifiedTime = Files.getLastModifiedTime(trustStore);
+        Files.setLastModifiedTime(trustStore, FileTime.fromMillis(modifiedTime.toMillis() + 10_000));
+        Assert.assertNotSame(SslContextCache.get(createSecureSocket("password"), builder), sslContext);
+        Assert.assertEquals(builds, 2);
+    }
+
+    @Test
+    public void testModifiedSizeRebuildsContext() throws Exception {
+        SSLContext sslContext = SslContextCache.get(createSecureSocket("password"), builder);
+        FileTime modifiedTime = Files.getLastModifiedTime(trustStore);
+        Files.writeString(trustStore, " renewed", StandardOpenOption.APPEND);
+        // Keeps the modification time, so that only the size tells the files apart.
+        Files.setLastModifiedTime(trustStore, modifiedTime);
+        Assert.assertNotSame(SslContextCache.get(createSecureSocket("password"), builder), sslContext);
+        Assert.assertEquals(builds, 2);
+    }
+
+    private BMap<BString, Object> createSecureSocket(String password) {
+        BMap<BString, Object> trustStoreConfig = ValueCreator.createMapValue();
+        trustStoreConfig.put(Constants.KEY_STORE_PATH, StringUtils.fromString(trustStore.toString()));
+        trustStoreConfig.put(Constants.KEY_STORE_PASS, StringUtils.fromString(password));
+        BMap<BString, Object> secureSocket = ValueCreator.createMapValue();
+        secureSocket.put(Constants.CERT, trustStoreConfig);
+        return secureSocket;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.nats.observability;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests for the bounded cache of the subject counters.
+ */
+public class SubjectCacheTest {
+
+    private static final String URL = "nats://localhost:4222";
+
+    @Test
+    public void testSubjectsBeyondBoundShareOverflowCounters() {
+        NatsMetricsReporter.SubjectCache cache =
+                new NatsMetricsReporter.SubjectCache(NatsObservabilityConstants.CONTEXT_PRODUCER);
+        for (int i = 0; i < NatsMetricsReporter.MAX_CACHED_SUBJECTS; i++) {
+            Assert.assertEquals(cache.get("subject." + i, URL).getSubject(), "subject." + i);
+        }
+        NatsMetricsReporter.SubjectCounters overflow = cache.get("subject.overflow", URL);
+        Assert.assertEquals(overflow.getSubject(), NatsObservabilityConstants.OVERFLOW_SUBJECT);
+        Assert.assertSame(cache.get("subject.another", URL), overflow);
+        Assert.assertEquals(cache.get("subject.0", URL).getSubject(), "subject.0");
+        Assert.assertEquals(cache.size(), NatsMetricsReporter.MAX_CACHED_SUBJECTS);
+    }
+
+    @Test
+    public void testCachedSubjectReturnsSameCounters() {
+        NatsMetricsReporter.SubjectCache cache =
+                new NatsMetricsReporter.SubjectCache(NatsObservabilityConstants.CONTEXT_CONSUMER);
+        Assert.assertSame(cache.get("orders", URL), cache.get("orders", URL));
+        Assert.assertNotSame(cache.get("orders", "nats://localhost:4223"), cache.get("orders", URL));
+        Assert.assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void testConcurrentSubjectsDoNotExceedBound() throws Exception {
+        NatsMetricsReporter.SubjectCache cache =
+                new NatsMetricsReporter.SubjectCache(NatsObservabilityConstants.CONTEXT_PRODUCER);
+        int threads = 8;
+        int subjectsPerThread = NatsMetricsReporter.MAX_CACHED_SUBJECTS;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < subjectsPerThread; i++) {
+                        // Every other subject is shared by all the threads.
+                        cache.get(i % 2 == 0 ? "shared." + i : "thread." + thread + "." + i, URL);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(cache.size(), NatsMetricsReporter.MAX_CACHED_SUBJECTS);
+    }
+}